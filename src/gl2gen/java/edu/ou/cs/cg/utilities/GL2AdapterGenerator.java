@@ -0,0 +1,459 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Writes GL2Adapter.java: a class with a method for each of GL2's that calls
+// the adapter's hooks and returns nothing much. See GL2Adapter for what the
+// methods do. It lives in its own source set, which needs only JOGL, and
+// the build runs it before compiling the benchmarks (task generateGL2Adapter)
+// into build/generated-sources. The adapter is never checked in, so it always
+// matches the JOGL being built against.
+//
+// A class has to be generated because GL2 has too many methods for anything
+// else. A java.lang.reflect.Proxy for it won't load: the proxy's static
+// initializer, which looks up every method, is over the JVM's 64 KB limit
+// for one method.
+//
+// Methods are sorted by name and then parameter types, and numbered in that
+// order as opcodes, so opcodes stay the same from one run to the next for
+// the same JOGL. Methods inherited from more than one interface are written
+// once, with the most specific return type.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>GL2AdapterGenerator</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class GL2AdapterGenerator
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final String	PACKAGE = "edu.ou.cs.cg.utilities";
+	private static final String	NAME = "GL2Adapter";
+
+	// Packages imported into the generated file, so types from them can be
+	// written with simple names
+	private static final String[]	IMPORTS = new String[]
+	{
+		"java.lang", "java.nio", "com.jogamp.common.nio", "com.jogamp.opengl",
+	};
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	// Write the adapter to the file given, making its directory if needed,
+	// or to standard output.
+	public static void	main(String[] args) throws IOException
+	{
+		List<Method>	methods = methods();
+
+		if (args.length > 0)
+		{
+			File	parent = new File(args[0]).getAbsoluteFile().getParentFile();
+
+			if (!parent.isDirectory() && !parent.mkdirs())
+				throw new IOException("Couldn't make " + parent);
+		}
+
+		PrintWriter	out = ((args.length > 0) ?
+			new PrintWriter(new OutputStreamWriter(
+				new FileOutputStream(args[0]), StandardCharsets.UTF_8)) :
+			new PrintWriter(System.out));
+
+		write(out, methods);
+		out.close();
+
+		if (args.length > 0)
+			System.out.println("Wrote " + methods.size() + " methods to " +
+							   args[0]);
+	}
+
+	//**********************************************************************
+	// Private Class Methods (Methods)
+	//**********************************************************************
+
+	// GL2's abstract methods, one per signature, in opcode order.
+	private static List<Method>	methods()
+	{
+		LinkedHashMap<String, Method>	map =
+			new LinkedHashMap<String, Method>();
+
+		for (Method m : GL2.class.getMethods())
+		{
+			if (Modifier.isStatic(m.getModifiers()))
+				continue;
+
+			String	key = m.getName() + descriptor(m);
+			Method	prior = map.get(key);
+
+			if ((prior == null) ||
+				prior.getReturnType().isAssignableFrom(m.getReturnType()))
+				map.put(key, m);
+		}
+
+		List<Method>	list = new ArrayList<Method>(map.values());
+
+		Collections.sort(list, new Comparator<Method>() {
+				public int	compare(Method a, Method b) {
+					int	c = a.getName().compareTo(b.getName());
+
+					return ((c != 0) ? c :
+							descriptor(a).compareTo(descriptor(b)));
+				}
+			});
+
+		return list;
+	}
+
+	private static String	descriptor(Method m)
+	{
+		StringBuilder	s = new StringBuilder("(");
+
+		for (Class<?> type : m.getParameterTypes())
+			s.append(type.getName()).append(';');
+
+		return s.append(')').toString();
+	}
+
+	// Argument kinds, one letter per argument: i for int, short, byte and
+	// char, z for boolean, j for long, d for float and double, and a for
+	// anything else (arrays, buffers and objects).
+	private static String	kinds(Method m)
+	{
+		StringBuilder	s = new StringBuilder();
+
+		for (Class<?> type : m.getParameterTypes())
+		{
+			if ((type == float.class) || (type == double.class))
+				s.append('d');
+			else if (type == long.class)
+				s.append('j');
+			else if (type == boolean.class)
+				s.append('z');
+			else if (type.isPrimitive())
+				s.append('i');
+			else
+				s.append('a');
+		}
+
+		return s.toString();
+	}
+
+	// The name of a type as written in the generated file.
+	private static String	typeName(Class<?> type)
+	{
+		if (type.isArray())
+			return typeName(type.getComponentType()) + "[]";
+
+		if (type.isPrimitive() || (type.getEnclosingClass() != null))
+			return type.getCanonicalName();
+
+		String	p = type.getPackage().getName();
+
+		for (String s : IMPORTS)
+			if (s.equals(p))
+				return type.getSimpleName();
+
+		return type.getCanonicalName();
+	}
+
+	//**********************************************************************
+	// Private Class Methods (Writing)
+	//**********************************************************************
+
+	private static void	write(PrintWriter out, List<Method> methods)
+	{
+		String	version = GL2.class.getPackage().getImplementationVersion();
+
+		out.println("//" + stars());
+		out.println("// Copyright (C) 2026 University of Oklahoma Board of " +
+					"Trustees.");
+		out.println("//" + stars());
+		out.println("// Notes:");
+		out.println("//");
+		out.println("// GENERATED by GL2AdapterGenerator from " +
+					"com.jogamp.opengl.GL2" +
+					((version != null) ? " (JOGL " + version + ")" : "") +
+					". Don't edit;");
+		out.println("// the build writes it into build/generated-sources.");
+		out.println("//");
+		out.println("// A GL2 with no OpenGL behind it. Each method calls " +
+					"call() with its opcode");
+		out.println("// and, if that returns true, passes its arguments to " +
+					"the *Arg() methods in");
+		out.println("// order. Then it returns 0, false or null, except " +
+					"that isGL*() and getGL*()");
+		out.println("// answer as a GL2 would, with this. Subclasses " +
+					"override the hooks to count");
+		out.println("// or record calls, and override GL methods to give " +
+					"other answers.");
+		out.println("//");
+		out.println("// Opcodes run from 0 to OPCODES - 1, by method name " +
+					"and then parameter");
+		out.println("// types; getName() and getArguments() describe them.");
+		out.println("//");
+		out.println("//" + stars());
+		out.println();
+		out.println("package " + PACKAGE + ";");
+		out.println();
+		out.println("//import java.lang.*;");
+		out.println("import java.nio.*;");
+		out.println("import com.jogamp.common.nio.*;");
+		out.println("import com.jogamp.opengl.*;");
+		out.println();
+		out.println("//" + stars());
+		out.println();
+		out.println("/**");
+		out.println(" * The <CODE>" + NAME + "</CODE> class.<P>");
+		out.println(" *");
+		out.println(" * @version %I%, %G%");
+		out.println(" */");
+		out.println("@SuppressWarnings(\"deprecation\")");
+		out.println("public class " + NAME);
+		out.println("\timplements GL2");
+		out.println("{");
+		banner(out, "Public Class Members");
+		out.println("\tpublic static final int\tOPCODES = " + methods.size() +
+					";");
+		out.println();
+		banner(out, "Protected Methods (Hooks)");
+		out.println("\t// Called first by every method. Return true to be " +
+					"given its arguments.");
+		out.println("\tprotected boolean\tcall(int opcode)");
+		out.println("\t{");
+		out.println("\t\treturn false;");
+		out.println("\t}");
+		out.println();
+		out.println("\t// Int, short, byte, char and boolean (as 0 or 1) " +
+					"arguments.");
+		out.println("\tprotected void\tintArg(int value)");
+		out.println("\t{");
+		out.println("\t}");
+		out.println();
+		out.println("\tprotected void\tlongArg(long value)");
+		out.println("\t{");
+		out.println("\t}");
+		out.println();
+		out.println("\t// Float and double arguments.");
+		out.println("\tprotected void\tdoubleArg(double value)");
+		out.println("\t{");
+		out.println("\t}");
+		out.println();
+		out.println("\t// Arrays, buffers and other objects, any of which " +
+					"may be null.");
+		out.println("\tprotected void\tobjectArg(Object value)");
+		out.println("\t{");
+		out.println("\t}");
+		out.println();
+		banner(out, "Public Class Methods");
+		out.println("\t// Name of the method with an opcode.");
+		writeSwitch(out, "getName", methods, false);
+		out.println();
+		out.println("\t// Kinds of the method's arguments, one letter " +
+					"each: i for int, short, byte");
+		out.println("\t// and char, z for boolean, j for long, d for float " +
+					"and double, and a for");
+		out.println("\t// anything else.");
+		writeSwitch(out, "getArguments", methods, true);
+		out.println();
+		banner(out, "Override Methods (GL2)");
+
+		for (int i=0; i<methods.size(); i++)
+		{
+			if (i > 0)
+				out.println();
+
+			writeMethod(out, methods.get(i), i);
+		}
+
+		out.println("}");
+		out.println();
+		out.println("//" + stars());
+	}
+
+	private static void	writeSwitch(PrintWriter out, String name,
+										List<Method> methods, boolean kinds)
+	{
+		out.println("\tpublic static String\t" + name + "(int opcode)");
+		out.println("\t{");
+		out.println("\t\tswitch (opcode)");
+		out.println("\t\t{");
+
+		for (int i=0; i<methods.size(); i++)
+		{
+			Method	m = methods.get(i);
+
+			out.println("\t\t\tcase " + i + ":\treturn \"" +
+						(kinds ? kinds(m) : m.getName()) + "\";");
+		}
+
+		out.println("\t\t\tdefault:\treturn null;");
+		out.println("\t\t}");
+		out.println("\t}");
+	}
+
+	private static void	writeMethod(PrintWriter out, Method m, int opcode)
+	{
+		Class<?>[]		types = m.getParameterTypes();
+		StringBuilder	s = new StringBuilder();
+
+		for (int i=0; i<types.length; i++)
+		{
+			if (i > 0)
+				s.append(", ");
+
+			s.append(typeName(types[i])).append(" a").append(i);
+		}
+
+		out.println("\tpublic " + typeName(m.getReturnType()) + "\t" +
+					m.getName() + "(" + s + ")");
+		out.println("\t{");
+
+		if (types.length == 0)
+		{
+			out.println("\t\tcall(" + opcode + ");");
+		}
+		else if (types.length == 1)
+		{
+			out.println("\t\tif (call(" + opcode + "))");
+			out.println("\t\t\t" + arg(types[0], 0) + ";");
+		}
+		else
+		{
+			out.println("\t\tif (call(" + opcode + "))");
+			out.println("\t\t{");
+
+			for (int i=0; i<types.length; i++)
+				out.println("\t\t\t" + arg(types[i], i) + ";");
+
+			out.println("\t\t}");
+		}
+
+		String	result = result(m);
+
+		if (result != null)
+		{
+			out.println();
+			out.println("\t\t" + result + ";");
+		}
+
+		out.println("\t}");
+	}
+
+	// The hook call passing argument i.
+	private static String	arg(Class<?> type, int i)
+	{
+		if ((type == float.class) || (type == double.class))
+			return "doubleArg(a" + i + ")";
+		else if (type == long.class)
+			return "longArg(a" + i + ")";
+		else if (type == boolean.class)
+			return "intArg(a" + i + " ? 1 : 0)";
+		else if (type.isPrimitive())
+			return "intArg(a" + i + ")";
+		else
+			return "objectArg(a" + i + ")";
+	}
+
+	// The statement ending a method, or null if it returns void.
+	private static String	result(Method m)
+	{
+		Class<?>	type = m.getReturnType();
+		String		name = m.getName();
+		boolean	query = (m.getParameterTypes().length == 0);
+
+		if (type == void.class)
+			return null;
+
+		// isGL2(), isGL2ES1(), and so on: is GL2 one of those?
+		if ((type == boolean.class) && query && name.startsWith("isGL"))
+			return "return " + isProfile(name.substring(2));
+
+		// getGL(), getGL2(), getRootGL(), and so on: this, if it's one
+		if (query && GL.class.isAssignableFrom(type) &&
+			!"getDownstreamGL".equals(name))
+		{
+			if (type.isAssignableFrom(GL2.class))
+				return "return this";
+			else
+				return "throw new GLException(\"Not a " +
+					type.getSimpleName() + " implementation\")";
+		}
+
+		if (type == boolean.class)
+			return "return false";
+		else if (type == long.class)
+			return "return 0L";
+		else if (type == float.class)
+			return "return 0.0f";
+		else if (type == double.class)
+			return "return 0.0";
+		else if ((type == short.class) || (type == byte.class) ||
+				 (type == char.class))
+			return "return (" + type.getName() + ")0";
+		else if (type.isPrimitive())
+			return "return 0";
+		else
+			return "return null";
+	}
+
+	// Whether GL2 is a com.jogamp.opengl interface of the given name.
+	private static boolean	isProfile(String name)
+	{
+		try
+		{
+			return Class.forName("com.jogamp.opengl." + name)
+				.isAssignableFrom(GL2.class);
+		}
+		catch (ClassNotFoundException e)
+		{
+			return false;
+		}
+	}
+
+	private static void	banner(PrintWriter out, String title)
+	{
+		out.println("\t//" + stars().substring(8));
+		out.println("\t// " + title);
+		out.println("\t//" + stars().substring(8));
+		out.println();
+	}
+
+	private static String	stars()
+	{
+		StringBuilder	s = new StringBuilder();
+
+		for (int i=0; i<78; i++)
+			s.append('*');
+
+		return s.toString();
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,94 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// The convex polygon tests in View: isLeft() for one side, and contains()
+// for a grid of points around a regular hexagon, about half of them inside.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.awt.geom.Point2D;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>GeometryBenchmark</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+	// **********************************************************************
+	// Private Class Members
+	// **********************************************************************
+
+	private static final int GRID = 16; // Points per side of the grid
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	private Deque<Point2D.Double> hexagon; // Counterclockwise
+	private Point2D.Double[] points;
+	private final Point2D.Double a = new Point2D.Double(0.0, 0.0);
+	private final Point2D.Double b = new Point2D.Double(1.0, 0.5);
+	private final Point2D.Double q = new Point2D.Double(0.3, 0.4);
+
+	// **********************************************************************
+	// Setup
+	// **********************************************************************
+
+	@Setup
+	public void setup() {
+		hexagon = new ArrayDeque<Point2D.Double>();
+
+		for (int i = 0; i < 6; i++) {
+			double t = 2.0 * Math.PI * i / 6.0;
+
+			hexagon.add(new Point2D.Double(Math.cos(t), Math.sin(t)));
+		}
+
+		points = new Point2D.Double[GRID * GRID];
+
+		for (int i = 0; i < GRID * GRID; i++)
+			points[i] = new Point2D.Double(-1.5 + 3.0 * (i % GRID) / (GRID - 1),
+					-1.5 + 3.0 * (i / GRID) / (GRID - 1));
+	}
+
+	// **********************************************************************
+	// Benchmarks
+	// **********************************************************************
+
+	@Benchmark
+	public boolean isLeft() {
+		return View.isLeft(a, b, q, true);
+	}
+
+	// Tests every point in the grid; divide by GRID * GRID for one test.
+	@Benchmark
+	public int contains() {
+		int inside = 0;
+
+		for (int i = 0; i < points.length; i++)
+			if (View.contains(hexagon, points[i]))
+				inside++;
+
+		return inside;
+	}
+}
+
+// ******************************************************************************
@@ -0,0 +1,95 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// One frame of the visualizer at several bar counts: the bar update that
+// replaced addBeat() and updateBars() (a few note impulses plus the
+// envelopes), and drawing the bars through a ShapeBatch into a RecordingGL.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.jogamp.opengl.*;
+import edu.ou.cs.cg.utilities.RecordingGL;
+import edu.ou.cs.cg.utilities.ShapeBatch;
+
+//******************************************************************************
+
+/**
+ * The <CODE>VisualizerBenchmark</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisualizerBenchmark {
+	// **********************************************************************
+	// Parameters
+	// **********************************************************************
+
+	@Param({ "16", "256", "4096" })
+	public int bars;
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	private Visualizer visualizer;
+	private ShapeBatch shapes;
+	private GL2 gl;
+	private int note;
+
+	// **********************************************************************
+	// Setup
+	// **********************************************************************
+
+	@Setup
+	public void setup() {
+		visualizer = new Visualizer(bars);
+		shapes = new ShapeBatch();
+		gl = new RecordingGL(1080, 720, false).getGL();
+	}
+
+	// **********************************************************************
+	// Benchmarks
+	// **********************************************************************
+
+	// Three note events (one beat), then the frame's envelope update.
+	@Benchmark
+	public float[] update() {
+		for (int i = 0; i < 3; i++) {
+			note = (note + 7) % Model.NUM_NOTES;
+			visualizer.impulse((note + 0.5) / Model.NUM_NOTES, 40.0f);
+		}
+
+		visualizer.update(1.0 / 60.0);
+
+		return visualizer.getHeights();
+	}
+
+	// Batch and flush the bars, as View.drawVisualizer() does.
+	@Benchmark
+	public int draw() {
+		float[] heights = visualizer.getHeights();
+		float step = (float) View.VIS_W / bars;
+
+		for (int i = 0; i < bars; i++)
+			shapes.fillRect(130 + i * step, 450, 0.8f * step, 10 + heights[i]);
+
+		shapes.flush(gl);
+
+		return shapes.getDrawCalls();
+	}
+}
+
+// ******************************************************************************
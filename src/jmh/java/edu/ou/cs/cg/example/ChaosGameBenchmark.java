@@ -0,0 +1,86 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// The chaos-game loop behind Gasket.drawSierpinskiTriangle(): filling the
+// point store from empty, with one worker and with several.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.example;
+
+//import java.lang.*;
+import java.awt.geom.Point2D;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ChaosGameBenchmark</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChaosGameBenchmark
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final Point2D.Double[]	TRIANGLE = new Point2D.Double[]
+	{
+		new Point2D.Double(-1.0, -1.0),
+		new Point2D.Double(1.0, -1.0),
+		new Point2D.Double(0.0, 1.0),
+	};
+
+	//**********************************************************************
+	// Parameters
+	//**********************************************************************
+
+	@Param({ "1", "4" })
+	public int		workers;
+
+	@Param({ "100000" })
+	public int		points;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private ChaosGame	game;
+
+	//**********************************************************************
+	// Setup
+	//**********************************************************************
+
+	@Setup
+	public void	setup()
+	{
+		game = new ChaosGame(new ChaosGenerator(1L, workers));
+		game.setTriangle(TRIANGLE);
+		game.extend(points);				// Grow the store once
+	}
+
+	//**********************************************************************
+	// Benchmarks
+	//**********************************************************************
+
+	@Benchmark
+	public float[]	extend()
+	{
+		game.reset();
+		game.extend(points);
+
+		return game.getPoints();
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,132 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Whole frames of Gasket and Polygons, display() and all, into a RecordingGL
+// that either only counts the calls or records them too. This is the CPU
+// cost of a frame without the driver's; the difference between the two
+// modes is the cost of the log. Text is drawn as in the apps.
+//
+// Each run is FRAMES frames of a new scene, timed once and reported per
+// frame, so every run does the same work. Gasket runs with one worker, a
+// fixed seed (which also fixes its mode changes), and a fixed number of
+// points, so it draws the same points each frame rather than a growing set.
+// Polygons repeats on its own every 360 frames. Runs are short, so there are
+// many warmup runs to let the JIT settle.
+//
+// Mean counts per frame are printed after each run. From one:
+//
+//   gasket: 71.0 calls, 50315.0 vertices, 1.0 glBegin/glEnd pairs per
+//           frame over 1800 frames
+//   polygons: 440.2 calls, 225.5 vertices, 48.4 glBegin/glEnd pairs per
+//           frame over 1800 frames
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.example;
+
+//import java.lang.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.jogamp.opengl.*;
+import edu.ou.cs.cg.utilities.RecordingGL;
+
+//******************************************************************************
+
+/**
+ * The <CODE>DisplayBenchmark</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 30)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DisplayBenchmark
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	// Frames in each run: 30 seconds of animation, six of Gasket's mode
+	// changes and five of Polygons' fill cycles
+	public static final int	FRAMES = 1800;
+
+	//**********************************************************************
+	// Parameters
+	//**********************************************************************
+
+	@Param({ "gasket", "polygons" })
+	public String		scene;
+
+	@Param({ "false", "true" })
+	public boolean		record;
+
+	// Gasket points drawn every frame
+	@Param({ "50000" })
+	public int			points;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private RecordingGL			recorder;
+	private GLEventListener		listener;
+
+	//**********************************************************************
+	// Setup
+	//**********************************************************************
+
+	// A new scene and recorder for each run, so each one plays the same
+	// frames from the first.
+	@Setup(Level.Iteration)
+	public void	setup()
+	{
+		String[]	args = new String[] { "-seed=1", "-workers=1",
+										  "-points=" + points };
+
+		recorder = new RecordingGL(1280, 720, record);
+
+		if ("gasket".equals(scene))
+			listener = new Gasket(args);
+		else
+			listener = new Polygons(args);
+
+		recorder.init(listener);
+	}
+
+	@TearDown(Level.Iteration)
+	public void	report()
+	{
+		System.out.println(String.format(
+			"%s: %.1f calls, %.1f vertices, %.1f glBegin/glEnd pairs per " +
+			"frame over %d frames", scene, recorder.getMeanCalls(),
+			recorder.getMeanVertices(), recorder.getMeanPairs(),
+			recorder.getFrames()));
+		recorder.dispose(listener);
+	}
+
+	//**********************************************************************
+	// Benchmarks
+	//**********************************************************************
+
+	@Benchmark
+	@OperationsPerInvocation(FRAMES)
+	public long	display()
+	{
+		long	calls = 0L;
+
+		for (int i=0; i<FRAMES; i++)
+		{
+			recorder.display(listener);
+			calls += recorder.getCalls();
+		}
+
+		return calls;
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,74 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// The integration step behind Lorenz.drawLorenzAttractor(): a trajectory of
+// a fixed number of states from the initial one, by Euler (as the original
+// loop did) and by RK4.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.example;
+
+//import java.lang.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>LorenzBenchmark</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LorenzBenchmark
+{
+	//**********************************************************************
+	// Parameters
+	//**********************************************************************
+
+	@Param({ "EULER", "RK4" })
+	public LorenzTrajectory.Integrator	integrator;
+
+	@Param({ "10000" })
+	public int							states;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private LorenzTrajectory	trajectory;
+
+	//**********************************************************************
+	// Setup
+	//**********************************************************************
+
+	@Setup
+	public void	setup()
+	{
+		trajectory = new LorenzTrajectory(0.1, 0.0, 0.0, integrator, 0.01);
+		trajectory.extend(states);			// Grow the store once
+	}
+
+	//**********************************************************************
+	// Benchmarks
+	//**********************************************************************
+
+	@Benchmark
+	public double[]	extend()
+	{
+		trajectory.reset();
+		trajectory.extend(states);
+
+		return trajectory.getStates();
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,94 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Mapping one point between view and scene coordinates, both by the
+// Utilities methods (which read the matrices back from GL on every call, here
+// from a RecordingGL) and by a ViewTransform captured once.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>MappingBenchmark</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private GL2				gl;
+	private ViewTransform		transform;
+	private final double[]		out = new double[3];
+	private double				x;
+
+	//**********************************************************************
+	// Setup
+	//**********************************************************************
+
+	@Setup
+	public void	setup()
+	{
+		gl = new RecordingGL(1080, 720, false).getGL();
+		transform = new ViewTransform();
+		transform.capture(gl);
+	}
+
+	//**********************************************************************
+	// Benchmarks
+	//**********************************************************************
+
+	@Benchmark
+	public double[]	utilitiesViewToScene()
+	{
+		x = (x + 1.0) % 1080.0;
+
+		return Utilities.mapViewToScene(gl, x, 360.0, 0.0);
+	}
+
+	@Benchmark
+	public double[]	utilitiesSceneToView()
+	{
+		x = (x + 0.001) % 1.0;
+
+		return Utilities.mapSceneToView(gl, x, 0.5, 0.0);
+	}
+
+	@Benchmark
+	public double[]	transformViewToScene()
+	{
+		x = (x + 1.0) % 1080.0;
+		transform.viewToScene(x, 360.0, 0.0, out);
+
+		return out;
+	}
+
+	@Benchmark
+	public double[]	transformSceneToView()
+	{
+		x = (x + 0.001) % 1.0;
+		transform.sceneToView(x, 0.5, 0.0, out);
+
+		return out;
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,891 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// A GL2 with no OpenGL behind it, for measuring the CPU side of drawing code
+// apart from the driver. Calls are either discarded or recorded into a
+// command log, and either way are counted per frame: calls, vertices, and
+// glBegin()/glEnd() pairs. Vertices are glVertex*() calls plus the counts
+// given to glDrawArrays() and glDrawElements().
+//
+// To use it, call init(listener), then display(listener) for each frame,
+// which hands the listener's display() the drawable from getDrawable()
+// between beginFrame() and endFrame(). Its getGL() is this GL2, and its
+// surface is the size given to the constructor. While the listener runs, a
+// stand-in GLContext for this GL2 is current on the thread, as a real one
+// would be, so GLU calls that look for the current GL find it.
+//
+// The log is kept in primitive arrays that are reused from frame to frame.
+// Each command is an opcode and the starts of its arguments in three arenas:
+// ints (int, short, byte, char and boolean), longs (offsets and sizes), and
+// doubles (float and double). Opcodes are GL2Adapter's, one per GL2 method,
+// and getName() gives the method name back. Array and buffer arguments
+// aren't copied; the int arena gets their length (remaining, for buffers)
+// instead, or -1 for null.
+//
+// Queries answer as if for a viewport of the given size with identity
+// matrices. Other glGet*v() queries get zeros, as many as the query returns
+// (one if it isn't known here), but never past the end of the array given.
+// Buffer, texture, framebuffer, renderbuffer and list names are handed out
+// from 1 up. Anything else that returns something returns 0, false or null,
+// so code that maps buffers or reads pixels back won't work here.
+//
+// TextRenderer works, so scenes draw their text as usual. It draws glyphs
+// with Java2D and sends them as texture uploads and quads, which are counted
+// like any other calls. It only needs the GL's profile, so getGLProfile()
+// answers with a GL2 profile made without looking for OpenGL (which
+// GLProfile.get() would do, and fail without a display).
+//
+// It's a GL2Adapter, so each call is an ordinary virtual call into the
+// hooks below, with no boxing; counting allocates nothing, and recording
+// only when an arena grows. Not thread-safe; use it from one thread, as with
+// a real context.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.lang.reflect.*;
+import java.nio.Buffer;
+import java.util.Arrays;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>RecordingGL</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class RecordingGL extends GL2Adapter
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int	HEAD = 4;			// Ints per command
+
+	// Kinds of method, by opcode
+	private static final byte	OTHER = 0;
+	private static final byte	VERTEX = 1;		// glVertex[234][dfis]v?
+	private static final byte	END = 2;
+
+	private static final byte[]	KINDS = kinds();
+
+	private static final GLProfile	PROFILE = profile();
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final int							width;
+	private final int							height;
+	private final boolean						record;
+	private final GLAutoDrawable				drawable;
+	private final GLContext					context;
+	private int								names;		// Last name given
+
+	// Command log (this frame)
+	private int[]								heads;		// HEAD per command
+	private int								commands;
+	private int[]								ints;
+	private int								intCount;
+	private long[]								longs;
+	private int								longCount;
+	private double[]							doubles;
+	private int								doubleCount;
+
+	// Counts (this frame, last frame, and all frames)
+	private int								calls;
+	private int								vertices;
+	private int								pairs;
+	private int								lastCalls;
+	private int								lastVertices;
+	private int								lastPairs;
+	private int								frames;
+	private long								totalCalls;
+	private long								frameCalls;	// All frames
+	private long								frameVertices;
+	private long								framePairs;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// A GL2 for a width x height surface that records calls if record is
+	// true, or only counts them.
+	public RecordingGL(int width, int height, boolean record)
+	{
+		this.width = width;
+		this.height = height;
+		this.record = record;
+
+		heads = new int[HEAD * 1024];
+		ints = new int[4096];
+		longs = new long[256];
+		doubles = new double[4096];
+
+		context = new Context();
+		drawable = (GLAutoDrawable)Proxy.newProxyInstance(
+			GLAutoDrawable.class.getClassLoader(),
+			new Class<?>[] { GLAutoDrawable.class }, new Surface());
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// This, as a GL2; for symmetry with GLAutoDrawable.
+	public GL2	getGL()
+	{
+		return this;
+	}
+
+	// A drawable whose GL is this one, for passing to listeners.
+	public GLAutoDrawable	getDrawable()
+	{
+		return drawable;
+	}
+
+	public boolean	isRecording()
+	{
+		return record;
+	}
+
+	// Frames ended so far.
+	public int	getFrames()
+	{
+		return frames;
+	}
+
+	// GL calls in the last frame ended.
+	public int	getCalls()
+	{
+		return lastCalls;
+	}
+
+	// Vertices in the last frame ended.
+	public int	getVertices()
+	{
+		return lastVertices;
+	}
+
+	// glBegin()/glEnd() pairs in the last frame ended.
+	public int	getPairs()
+	{
+		return lastPairs;
+	}
+
+	// GL calls since creation, in frames or not.
+	public long	getTotalCalls()
+	{
+		return totalCalls;
+	}
+
+	// Mean GL calls, vertices, and glBegin()/glEnd() pairs per frame, over
+	// all frames ended so far.
+	public double	getMeanCalls()
+	{
+		return ((frames > 0) ? (double)frameCalls / frames : 0.0);
+	}
+
+	public double	getMeanVertices()
+	{
+		return ((frames > 0) ? (double)frameVertices / frames : 0.0);
+	}
+
+	public double	getMeanPairs()
+	{
+		return ((frames > 0) ? (double)framePairs / frames : 0.0);
+	}
+
+	//**********************************************************************
+	// Public Methods (Frames)
+	//**********************************************************************
+
+	// Start a frame: zero the counts and empty the log.
+	public void	beginFrame()
+	{
+		calls = 0;
+		vertices = 0;
+		pairs = 0;
+		commands = 0;
+		intCount = 0;
+		longCount = 0;
+		doubleCount = 0;
+	}
+
+	// End a frame, keeping its counts for the getters. The log stays as is
+	// until the next beginFrame().
+	public void	endFrame()
+	{
+		lastCalls = calls;
+		lastVertices = vertices;
+		lastPairs = pairs;
+		frameCalls += calls;
+		frameVertices += vertices;
+		framePairs += pairs;
+		frames++;
+	}
+
+	public void	init(GLEventListener listener)
+	{
+		context.makeCurrent();
+
+		try
+		{
+			listener.init(drawable);
+			listener.reshape(drawable, 0, 0, width, height);
+		}
+		finally
+		{
+			context.release();
+		}
+	}
+
+	// Have the listener display one frame.
+	public void	display(GLEventListener listener)
+	{
+		beginFrame();
+		context.makeCurrent();
+
+		try
+		{
+			listener.display(drawable);
+		}
+		finally
+		{
+			context.release();
+		}
+
+		endFrame();
+	}
+
+	public void	dispose(GLEventListener listener)
+	{
+		context.makeCurrent();
+
+		try
+		{
+			listener.dispose(drawable);
+		}
+		finally
+		{
+			context.release();
+		}
+	}
+
+	//**********************************************************************
+	// Public Methods (Command Log)
+	//**********************************************************************
+
+	// Commands recorded since beginFrame(); always 0 if not recording.
+	public int	getCommandCount()
+	{
+		return commands;
+	}
+
+	public int	getOpcode(int command)
+	{
+		return heads[HEAD * command];
+	}
+
+	// The kth int, long or double argument of a command.
+	public int	getInt(int command, int k)
+	{
+		return ints[heads[HEAD * command + 1] + k];
+	}
+
+	public long	getLong(int command, int k)
+	{
+		return longs[heads[HEAD * command + 2] + k];
+	}
+
+	public double	getDouble(int command, int k)
+	{
+		return doubles[heads[HEAD * command + 3] + k];
+	}
+
+	// A command as it was called, like glVertex2d(0.5, 0.25). Array and
+	// buffer arguments are shown by length, as [16].
+	public String	describe(int command)
+	{
+		int			opcode = getOpcode(command);
+		String			kinds = getArguments(opcode);
+		StringBuilder	s = new StringBuilder(getName(opcode)).append('(');
+		int			ni = 0;
+		int			nl = 0;
+		int			nd = 0;
+
+		for (int i=0; i<kinds.length(); i++)
+		{
+			char	kind = kinds.charAt(i);
+
+			if (i > 0)
+				s.append(", ");
+
+			if (kind == 'd')
+				s.append(getDouble(command, nd++));
+			else if (kind == 'j')
+				s.append(getLong(command, nl++));
+			else if (kind == 'z')
+				s.append(getInt(command, ni++) != 0);
+			else if (kind == 'i')
+				s.append(getInt(command, ni++));
+			else
+				s.append('[').append(getInt(command, ni++)).append(']');
+		}
+
+		return s.append(')').toString();
+	}
+
+	//**********************************************************************
+	// Override Methods (GL2Adapter)
+	//**********************************************************************
+
+	protected boolean	call(int opcode)
+	{
+		calls++;
+		totalCalls++;
+
+		byte	kind = KINDS[opcode];
+
+		if (kind == VERTEX)
+			vertices++;
+		else if (kind == END)
+			pairs++;
+
+		if (!record)
+			return false;
+
+		if (HEAD * (commands + 1) > heads.length)
+			heads = Arrays.copyOf(heads, 2 * heads.length);
+
+		int	h = HEAD * commands++;
+
+		heads[h] = opcode;
+		heads[h + 1] = intCount;
+		heads[h + 2] = longCount;
+		heads[h + 3] = doubleCount;
+
+		return true;
+	}
+
+	protected void	intArg(int value)
+	{
+		if (intCount == ints.length)
+			ints = Arrays.copyOf(ints, 2 * ints.length);
+
+		ints[intCount++] = value;
+	}
+
+	protected void	longArg(long value)
+	{
+		if (longCount == longs.length)
+			longs = Arrays.copyOf(longs, 2 * longs.length);
+
+		longs[longCount++] = value;
+	}
+
+	protected void	doubleArg(double value)
+	{
+		if (doubleCount == doubles.length)
+			doubles = Arrays.copyOf(doubles, 2 * doubles.length);
+
+		doubles[doubleCount++] = value;
+	}
+
+	protected void	objectArg(Object value)
+	{
+		intArg(length(value));
+	}
+
+	//**********************************************************************
+	// Override Methods (GL2, Context)
+	//**********************************************************************
+
+	public GLContext	getContext()
+	{
+		super.getContext();
+
+		return context;
+	}
+
+	public GLProfile	getGLProfile()
+	{
+		super.getGLProfile();
+
+		return PROFILE;
+	}
+
+	//**********************************************************************
+	// Override Methods (GL2, Drawing)
+	//**********************************************************************
+
+	public void	glDrawArrays(int mode, int first, int count)
+	{
+		super.glDrawArrays(mode, first, count);
+		vertices += count;
+	}
+
+	public void	glDrawElements(int mode, int count, int type, long offset)
+	{
+		super.glDrawElements(mode, count, type, offset);
+		vertices += count;
+	}
+
+	public void	glDrawElements(int mode, int count, int type,
+							   Buffer indices)
+	{
+		super.glDrawElements(mode, count, type, indices);
+		vertices += count;
+	}
+
+	//**********************************************************************
+	// Override Methods (GL2, Queries)
+	//**********************************************************************
+
+	public void	glGetDoublev(int pname, double[] params, int offset)
+	{
+		super.glGetDoublev(pname, params, offset);
+
+		int	n = Math.min(size(pname), params.length - offset);
+
+		for (int i=0; i<n; i++)
+			params[offset + i] = answer(pname, i);
+	}
+
+	public void	glGetFloatv(int pname, float[] params, int offset)
+	{
+		super.glGetFloatv(pname, params, offset);
+
+		int	n = Math.min(size(pname), params.length - offset);
+
+		for (int i=0; i<n; i++)
+			params[offset + i] = (float)answer(pname, i);
+	}
+
+	public void	glGetIntegerv(int pname, int[] params, int offset)
+	{
+		super.glGetIntegerv(pname, params, offset);
+
+		int	n = Math.min(size(pname), params.length - offset);
+
+		for (int i=0; i<n; i++)
+			params[offset + i] = (int)answer(pname, i);
+	}
+
+	public void	glGenBuffers(int n, int[] ids, int offset)
+	{
+		super.glGenBuffers(n, ids, offset);
+		generate(n, ids, offset);
+	}
+
+	public void	glGenTextures(int n, int[] ids, int offset)
+	{
+		super.glGenTextures(n, ids, offset);
+		generate(n, ids, offset);
+	}
+
+	public void	glGenFramebuffers(int n, int[] ids, int offset)
+	{
+		super.glGenFramebuffers(n, ids, offset);
+		generate(n, ids, offset);
+	}
+
+	public void	glGenRenderbuffers(int n, int[] ids, int offset)
+	{
+		super.glGenRenderbuffers(n, ids, offset);
+		generate(n, ids, offset);
+	}
+
+	public int	glGenLists(int range)
+	{
+		super.glGenLists(range);
+		names += range;
+
+		return names - range + 1;
+	}
+
+	//**********************************************************************
+	// Override Methods (Object)
+	//**********************************************************************
+
+	public String	toString()
+	{
+		return "RecordingGL@" +
+			Integer.toHexString(System.identityHashCode(this));
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private void	generate(int n, int[] ids, int offset)
+	{
+		for (int i=0; i<n; i++)
+			ids[offset + i] = ++names;
+	}
+
+	// The ith value of a query: the viewport, identity matrices, or 0.
+	private double	answer(int pname, int i)
+	{
+		if (pname == GL.GL_VIEWPORT)
+			return ((i == 2) ? width : (i == 3) ? height : 0.0);
+		else if (size(pname) == 16)
+			return (((i % 5) == 0) ? 1.0 : 0.0);
+		else
+			return 0.0;
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static byte[]	kinds()
+	{
+		byte[]	kinds = new byte[OPCODES];
+
+		for (int i=0; i<OPCODES; i++)
+		{
+			String	name = getName(i);
+
+			if (name.matches("glVertex[234][dfis]v?"))
+				kinds[i] = VERTEX;
+			else if ("glEnd".equals(name))
+				kinds[i] = END;
+			else
+				kinds[i] = OTHER;
+		}
+
+		return kinds;
+	}
+
+	// Number of values a query writes. Those not listed here write one.
+	private static int	size(int pname)
+	{
+		switch (pname)
+		{
+			case GL2.GL_MODELVIEW_MATRIX:
+			case GL2.GL_PROJECTION_MATRIX:
+			case GL2.GL_TEXTURE_MATRIX:
+			case GL2.GL_COLOR_MATRIX:
+			case GL2.GL_TRANSPOSE_MODELVIEW_MATRIX:
+			case GL2.GL_TRANSPOSE_PROJECTION_MATRIX:
+			case GL2.GL_TRANSPOSE_TEXTURE_MATRIX:
+			case GL2.GL_TRANSPOSE_COLOR_MATRIX:
+				return 16;
+
+			case GL.GL_VIEWPORT:
+			case GL.GL_SCISSOR_BOX:
+			case GL.GL_COLOR_CLEAR_VALUE:
+			case GL.GL_COLOR_WRITEMASK:
+			case GL2.GL_ACCUM_CLEAR_VALUE:
+			case GL2.GL_BLEND_COLOR:
+			case GL2.GL_CURRENT_COLOR:
+			case GL2.GL_CURRENT_TEXTURE_COORDS:
+			case GL2.GL_CURRENT_RASTER_COLOR:
+			case GL2.GL_CURRENT_RASTER_POSITION:
+			case GL2.GL_FOG_COLOR:
+			case GL2.GL_LIGHT_MODEL_AMBIENT:
+				return 4;
+
+			case GL2.GL_CURRENT_NORMAL:
+				return 3;
+
+			case GL.GL_DEPTH_RANGE:
+			case GL.GL_MAX_VIEWPORT_DIMS:
+			case GL.GL_ALIASED_POINT_SIZE_RANGE:
+			case GL.GL_ALIASED_LINE_WIDTH_RANGE:
+			case GL2.GL_POINT_SIZE_RANGE:
+			case GL2.GL_LINE_WIDTH_RANGE:
+			case GL2.GL_POLYGON_MODE:
+				return 2;
+
+			default:
+				return 1;
+		}
+	}
+
+	// A GL2 profile made without looking for OpenGL, as GLProfile.get()
+	// would. Its only constructor is private, so it's called reflectively.
+	private static GLProfile	profile()
+	{
+		try
+		{
+			Constructor<GLProfile>	c = GLProfile.class.getDeclaredConstructor(
+				String.class, GLProfile.class, boolean.class, boolean.class);
+
+			c.setAccessible(true);
+
+			return c.newInstance(GLProfile.GL2, null, false, false);
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException("Can't make a GL2 profile", e);
+		}
+	}
+
+	// Length of an array or remaining length of a buffer, -1 if null, or 0.
+	private static int	length(Object arg)
+	{
+		if (arg == null)
+			return -1;
+		else if (arg instanceof Buffer)
+			return ((Buffer)arg).remaining();
+		else if (arg.getClass().isArray())
+			return Array.getLength(arg);
+		else
+			return 0;
+	}
+
+	private static Object	defaultValue(Class<?> type)
+	{
+		if (type == boolean.class)
+			return Boolean.FALSE;
+		else if (type == int.class)
+			return 0;
+		else if (type == long.class)
+			return 0L;
+		else if (type == float.class)
+			return 0.0f;
+		else if (type == double.class)
+			return 0.0;
+		else if (type == short.class)
+			return (short)0;
+		else if (type == byte.class)
+			return (byte)0;
+		else if (type == char.class)
+			return (char)0;
+		else
+			return null;
+	}
+
+	//**********************************************************************
+	// Inner Classes
+	//**********************************************************************
+
+	// Answers for the drawable: the GL, the surface size, and nothing else.
+	// It's small enough to be a Proxy.
+	private final class Surface implements InvocationHandler
+	{
+		public Object	invoke(Object proxy, Method method, Object[] args)
+		{
+			String	name = method.getName();
+
+			if ("getGL".equals(name))
+				return RecordingGL.this;
+			else if ("getContext".equals(name))
+				return context;
+			else if ("getSurfaceWidth".equals(name))
+				return width;
+			else if ("getSurfaceHeight".equals(name))
+				return height;
+			else if ("hashCode".equals(name))
+				return System.identityHashCode(proxy);
+			else if ("equals".equals(name))
+				return (proxy == args[0]);
+			else if ("toString".equals(name))
+				return "RecordingGL.Surface@" +
+					Integer.toHexString(System.identityHashCode(proxy));
+			else
+				return defaultValue(method.getReturnType());
+		}
+	}
+
+	// A GLContext that's only ever this GL2, made current and released
+	// around the listener's methods. Everything else is answered with 0,
+	// false or null, or ignored.
+	private final class Context extends GLContext
+	{
+		public int	makeCurrent()
+		{
+			setCurrent(this);
+
+			return CONTEXT_CURRENT;
+		}
+
+		public void	release()
+		{
+			setCurrent(null);
+		}
+
+		public GL	getGL()
+		{
+			return RecordingGL.this;
+		}
+
+		public GL	getRootGL()
+		{
+			return RecordingGL.this;
+		}
+
+		public GL	setGL(GL gl)
+		{
+			return RecordingGL.this;
+		}
+
+		public GLDrawable	setGLDrawable(GLDrawable readWrite,
+										  boolean setWriteOnly)
+		{
+			return null;
+		}
+
+		public GLDrawable	getGLDrawable()
+		{
+			return null;
+		}
+
+		public boolean	isGLReadDrawableAvailable()
+		{
+			return false;
+		}
+
+		public GLDrawable	setGLReadDrawable(GLDrawable read)
+		{
+			return null;
+		}
+
+		public GLDrawable	getGLReadDrawable()
+		{
+			return null;
+		}
+
+		public void	copy(GLContext source, int mask)
+		{
+		}
+
+		public void	destroy()
+		{
+		}
+
+		public boolean	isFunctionAvailable(String name)
+		{
+			return false;
+		}
+
+		public boolean	isExtensionAvailable(String name)
+		{
+			return false;
+		}
+
+		public int	getPlatformExtensionCount()
+		{
+			return 0;
+		}
+
+		public String	getPlatformExtensionsString()
+		{
+			return "";
+		}
+
+		public int	getGLExtensionCount()
+		{
+			return 0;
+		}
+
+		public String	getGLExtensionsString()
+		{
+			return "";
+		}
+
+		public int	getContextCreationFlags()
+		{
+			return 0;
+		}
+
+		public void	setContextCreationFlags(int flags)
+		{
+		}
+
+		public int	getDefaultVAO()
+		{
+			return 0;
+		}
+
+		public int	getBoundFramebuffer(int target)
+		{
+			return 0;
+		}
+
+		public int	getDefaultDrawFramebuffer()
+		{
+			return 0;
+		}
+
+		public int	getDefaultReadFramebuffer()
+		{
+			return 0;
+		}
+
+		public int	getDefaultReadBuffer()
+		{
+			return GL.GL_BACK;
+		}
+
+		public int	getDefaultPixelDataType()
+		{
+			return GL.GL_UNSIGNED_BYTE;
+		}
+
+		public int	getDefaultPixelDataFormat()
+		{
+			return GL.GL_RGBA;
+		}
+
+		public String	getGLDebugMessageExtension()
+		{
+			return null;
+		}
+
+		public boolean	isGLDebugSynchronous()
+		{
+			return false;
+		}
+
+		public void	setGLDebugSynchronous(boolean synchronous)
+		{
+		}
+
+		public boolean	isGLDebugMessageEnabled()
+		{
+			return false;
+		}
+
+		public void	enableGLDebugMessage(boolean enable)
+		{
+		}
+
+		public void	addGLDebugListener(GLDebugListener listener)
+		{
+		}
+
+		public void	removeGLDebugListener(GLDebugListener listener)
+		{
+		}
+
+		public void	glDebugMessageControl(int source, int type,
+											  int severity, int count,
+											  java.nio.IntBuffer ids,
+											  boolean enabled)
+		{
+		}
+
+		public void	glDebugMessageControl(int source, int type,
+											  int severity, int count,
+											  int[] ids, int offset,
+											  boolean enabled)
+		{
+		}
+
+		public void	glDebugMessageInsert(int source, int type, int id,
+											 int severity, String buf)
+		{
+		}
+	}
+}
+
+//******************************************************************************
@@ -91,6 +91,10 @@ public final class KeyHandler extends KeyAdapter
 			case KeyEvent.VK_B:
 				model.toggleBack();
 				return;
+
+			case KeyEvent.VK_F3:	// Show or hide frame timing
+				view.getFrameStats().toggle();
+				return;
 		}
 	}
 }
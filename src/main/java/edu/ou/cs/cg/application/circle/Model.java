@@ -20,10 +20,12 @@
 //   4. Add a method to modify the variable.
 //
 // Concurrency management is important because the JOGL and the Java AWT run on
-// different threads. The modify methods use the GLAutoDrawable.invoke() method
-// so that all changes to variables take place on the JOGL thread. Because this
-// happens at the END of GLEventListener.display(), all changes will be visible
-// to the View.update() and render() methods in the next animation cycle.
+// different threads. The modify methods post updates to the view's
+// UpdateDispatcher so that all changes to variables take place on the JOGL
+// thread. Because updates run at the START of GLEventListener.display(), all
+// changes will be visible to the View.update() and render() methods in the
+// same animation cycle. Updates that set a value outright are posted with a
+// key, so that a burst of them (such as mouse moves) collapses to the latest.
 //
 //******************************************************************************
 
@@ -60,6 +62,9 @@ public final class Model
 	private boolean					edge;		// Edge shape?
 	private boolean					back;		// Fill background circle?
 
+	// Bumped only when the shape geometry (sides or radius) actually changes
+	private int						revision;
+
 	//**********************************************************************
 	// Constructors and Finalizer
 	//**********************************************************************
@@ -74,6 +79,7 @@ public final class Model
 		fill = true;
 		edge = false;
 		back = false;
+		revision = 0;
 	}
 
 	//**********************************************************************
@@ -105,31 +111,47 @@ public final class Model
 		return back;
 	}
 
+	// Compare with a saved revision to tell if the geometry needs rebuilding.
+	public int	getRevision()
+	{
+		return revision;
+	}
+
 	//**********************************************************************
 	// Public Methods (Modify Variables)
 	//**********************************************************************
 
 	public void	setSides(int v)
 	{
-		view.getCanvas().invoke(false, new BasicUpdater() {
+		view.getDispatcher().post("sides", new BasicUpdater() {
 			public void	update(GL2 gl) {
-				sides = Math.min(Math.max(v, View.MIN_SIDES), View.MAX_SIDES);
+				int	s = Math.min(Math.max(v, View.MIN_SIDES), View.MAX_SIDES);
+
+				if (s != sides)
+				{
+					sides = s;
+					revision++;
+				}
 			}
 		});;
 	}
 
 	public void	setRadius(double v)
 	{
-		view.getCanvas().invoke(false, new BasicUpdater() {
+		view.getDispatcher().post("radius", new BasicUpdater() {
 			public void	update(GL2 gl) {
-				radius = v;
+				if (v != radius)
+				{
+					radius = v;
+					revision++;
+				}
 			}
 		});;
 	}
 
 	public void	toggleFill()
 	{
-		view.getCanvas().invoke(false, new BasicUpdater() {
+		view.getDispatcher().post(new BasicUpdater() {
 			public void	update(GL2 gl) {
 				fill = !fill;
 			}
@@ -138,7 +160,7 @@ public final class Model
 
 	public void	toggleEdge()
 	{
-		view.getCanvas().invoke(false, new BasicUpdater() {
+		view.getDispatcher().post(new BasicUpdater() {
 			public void	update(GL2 gl) {
 				edge = !edge;
 			}
@@ -147,7 +169,7 @@ public final class Model
 
 	public void	toggleBack()
 	{
-		view.getCanvas().invoke(false, new BasicUpdater() {
+		view.getDispatcher().post(new BasicUpdater() {
 			public void	update(GL2 gl) {
 				back = !back;
 			}
@@ -177,7 +199,8 @@ public final class Model
 	// single point in view coordinates (integers/pixels).
 	private abstract class ViewPointUpdater extends BasicUpdater
 	{
-		private final Point	q;
+		private final Point		q;
+		private final double[]	p = new double[3];		// Scene coordinates
 
 		public ViewPointUpdater(Point q)
 		{
@@ -187,8 +210,8 @@ public final class Model
 		public final void	update(GL2 gl)
 		{
 			int		h = view.getHeight();
-			double[]	p = Utilities.mapViewToScene(gl, q.x, h - q.y, 0.0);
 
+			view.getTransform().viewToScene(q.x, h - q.y, 0.0, p);
 			update(p);
 		}
 
@@ -20,12 +20,16 @@ import java.awt.geom.Point2D;
 import java.text.DecimalFormat;
 import java.util.*;
 import com.jogamp.opengl.*;
-import com.jogamp.opengl.awt.GLJPanel;
 import com.jogamp.opengl.glu.*;
 import com.jogamp.opengl.util.FPSAnimator;
 import com.jogamp.opengl.util.awt.TextRenderer;
 import com.jogamp.opengl.util.gl2.GLUT;
+import edu.ou.cs.cg.utilities.CircleTable;
+import edu.ou.cs.cg.utilities.FrameStats;
+import edu.ou.cs.cg.utilities.UpdateDispatcher;
 import edu.ou.cs.cg.utilities.Utilities;
+import edu.ou.cs.cg.utilities.VertexBuffer;
+import edu.ou.cs.cg.utilities.ViewTransform;
 
 //******************************************************************************
 
@@ -60,7 +64,7 @@ public final class View
 	//**********************************************************************
 
 	// State (internal) variables
-	private final GLJPanel				canvas;
+	private final GLAutoDrawable		canvas;
 	private int						w;			// Canvas width
 	private int						h;			// Canvas height
 
@@ -70,6 +74,13 @@ public final class View
 	private int						counter;	// Frame counter
 
 	private final Model				model;
+	private final ViewTransform		transform;	// Captured each frame
+	private final UpdateDispatcher		dispatcher;	// Model updates to run
+	private final FrameStats			stats;		// Timing, shown by [F3]
+
+	// Background circle (MAX_SIDES) followed by the shape (model sides)
+	private final VertexBuffer			rings;
+	private int						revision;	// Model revision in rings
 
 	private final KeyHandler			keyHandler;
 	//private final MouseHandler			mouseHandler;
@@ -78,33 +89,50 @@ public final class View
 	// Constructors and Finalizer
 	//**********************************************************************
 
-	public View(GLJPanel canvas)
+	// Draws on canvas, which may be a component in a window (a GLJPanel) or
+	// an offscreen drawable. Only a component gets input handlers and an
+	// animator; whatever makes an offscreen one calls display() on it.
+	public View(GLAutoDrawable canvas)
 	{
 		this.canvas = canvas;
 
 		// Initialize rendering
 		counter = 0;
+		transform = new ViewTransform();
+		dispatcher = new UpdateDispatcher();
+		stats = new FrameStats(DEFAULT_FRAMES_PER_SECOND);
+		rings = new VertexBuffer(2 * MAX_SIDES);
+		revision = -1;
 		canvas.addGLEventListener(this);
 
 		// Initialize model (scene data and parameter manager)
 		model = new Model(this);
 
-		// Initialize controller (interaction handlers)
-		keyHandler = new KeyHandler(this, model);
-		//mouseHandler = new MouseHandler(this, model);
+		if (canvas instanceof Component)
+		{
+			// Initialize controller (interaction handlers)
+			keyHandler = new KeyHandler(this, model);
+			//mouseHandler = new MouseHandler(this, model);
 
-		// Initialize animation
-		animator = new FPSAnimator(canvas, DEFAULT_FRAMES_PER_SECOND);
-		animator.start();
+			// Initialize animation
+			animator = new FPSAnimator(canvas, DEFAULT_FRAMES_PER_SECOND);
+			animator.start();
+		}
+		else
+		{
+			keyHandler = null;
+			animator = null;
+		}
 	}
 
 	//**********************************************************************
 	// Getters and Setters
 	//**********************************************************************
 
-	public GLJPanel	getCanvas()
+	// The component drawn on, or null if drawing offscreen.
+	public Component	getCanvas()
 	{
-		return canvas;
+		return (canvas instanceof Component) ? (Component)canvas : null;
 	}
 
 	public int	getWidth()
@@ -117,6 +145,24 @@ public final class View
 		return h;
 	}
 
+	// View/scene mapping as of the start of the current (or last) frame.
+	public ViewTransform	getTransform()
+	{
+		return transform;
+	}
+
+	// Queue for model updates, drained at the start of each frame.
+	public UpdateDispatcher	getDispatcher()
+	{
+		return dispatcher;
+	}
+
+	// Frame timing, and whether to show it.
+	public FrameStats	getFrameStats()
+	{
+		return stats;
+	}
+
 	//**********************************************************************
 	// Override Methods (GLEventListener)
 	//**********************************************************************
@@ -134,15 +180,25 @@ public final class View
 
 	public void	dispose(GLAutoDrawable drawable)
 	{
+		GL2	gl = drawable.getGL().getGL2();
+
+		rings.dispose(gl);
+		revision = -1;
 		renderer = null;
 	}
 
 	public void	display(GLAutoDrawable drawable)
 	{
+		stats.beginFrame();
+
+		dispatcher.drain(drawable);				// Apply pending model updates
 		updatePipeline(drawable);
 
 		update(drawable);
+		stats.endUpdate();
 		render(drawable);
+
+		stats.endFrame();
 	}
 
 	public void	reshape(GLAutoDrawable drawable, int x, int y, int w, int h)
@@ -158,6 +214,15 @@ public final class View
 	private void	update(GLAutoDrawable drawable)
 	{
 		counter++;									// Advance animation counter
+
+		// Rebuild the circle vertices only if sides or radius have changed
+		if (model.getRevision() != revision)
+		{
+			rings.clear();
+			CircleTable.addCircle(rings, MAX_SIDES, model.getRadius());
+			CircleTable.addCircle(rings, model.getSides(), model.getRadius());
+			revision = model.getRevision();
+		}
 	}
 
 	private void	render(GLAutoDrawable drawable)
@@ -166,6 +231,8 @@ public final class View
 
 		gl.glClear(GL.GL_COLOR_BUFFER_BIT);		// Clear the buffer
 
+		rings.upload(gl);							// Copy vertices if changed
+
 		// Draw the scene
 		drawMain(gl);								// Draw main content
 		drawMode(drawable);						// Draw mode text
@@ -195,6 +262,8 @@ public final class View
 		gl.glMatrixMode(GL2.GL_PROJECTION);		// Prepare for matrix xform
 		gl.glLoadIdentity();						// Set to identity matrix
 		glu.gluOrtho2D(-1.1, 1.1, -1.1, 1.1);	// 2D translate and scale
+
+		transform.capture(gl);						// Cache for mapping
 	}
 
 	//**********************************************************************
@@ -222,6 +291,8 @@ public final class View
 		renderer.draw(se, 2, 44);
 		renderer.draw(sb, 2, 58);
 
+		stats.draw(renderer, 2, h - 14);			// [F3] Frame timing
+
 		renderer.endRendering();
 	}
 
@@ -239,59 +310,20 @@ public final class View
 
 	private void	backCircle(GL2 gl)
 	{
-		int		sides = MAX_SIDES;
-		double	radius = model.getRadius();
-
-		gl.glBegin(GL2.GL_POLYGON);
 		gl.glColor3f(1.0f, 1.0f, 1.0f);		// White
-
-		for (int i=0; i<sides; i++)
-		{
-			double	theta = (2.0 * Math.PI) * (i / (double)sides);
-
-			gl.glVertex2d(radius * Math.cos(theta),
-						  radius * Math.sin(theta));
-		}
-
-		gl.glEnd();
+		rings.draw(gl, GL2.GL_POLYGON, 0, MAX_SIDES);
 	}
 
 	private void	fillCircle(GL2 gl)
 	{
-		int		sides = model.getSides();
-		double	radius = model.getRadius();
-
-		gl.glBegin(GL2.GL_POLYGON);
 		gl.glColor3f(1.0f, 1.0f, 0.0f);		// Yellow
-
-		for (int i=0; i<sides; i++)
-		{
-			double	theta = (2.0 * Math.PI) * (i / (double)sides);
-
-			gl.glVertex2d(radius * Math.cos(theta),
-						  radius * Math.sin(theta));
-		}
-
-		gl.glEnd();
+		rings.draw(gl, GL2.GL_POLYGON, MAX_SIDES, model.getSides());
 	}
 
 	private void	edgeCircle(GL2 gl)
 	{
-		int		sides = model.getSides();
-		double	radius = model.getRadius();
-
-		gl.glBegin(GL.GL_LINE_LOOP);
 		gl.glColor3f(1.0f, 0.0f, 0.0f);		// Red
-
-		for (int i=0; i<sides; i++)
-		{
-			double	theta = (2.0 * Math.PI) * (i / (double)sides);
-
-			gl.glVertex2d(radius * Math.cos(theta),
-						  radius * Math.sin(theta));
-		}
-
-		gl.glEnd();
+		rings.draw(gl, GL.GL_LINE_LOOP, MAX_SIDES, model.getSides());
 	}
 }
 
@@ -99,6 +99,10 @@ public final class KeyHandler extends KeyAdapter
 				model.toggleColorful();
 				return;
 
+			case KeyEvent.VK_F3:	// Show or hide frame timing
+				view.getFrameStats().toggle();
+				return;
+
 			case KeyEvent.VK_CLEAR:
 			case KeyEvent.VK_D:
 			case KeyEvent.VK_DELETE:
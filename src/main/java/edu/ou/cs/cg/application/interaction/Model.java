@@ -20,10 +20,12 @@
 //   4. Add a method to modify the variable.
 //
 // Concurrency management is important because the JOGL and the Java AWT run on
-// different threads. The modify methods use the GLAutoDrawable.invoke() method
-// so that all changes to variables take place on the JOGL thread. Because this
-// happens at the END of GLEventListener.display(), all changes will be visible
-// to the View.update() and render() methods in the next animation cycle.
+// different threads. The modify methods post updates to the view's
+// UpdateDispatcher so that all changes to variables take place on the JOGL
+// thread. Because updates run at the START of GLEventListener.display(), all
+// changes will be visible to the View.update() and render() methods in the
+// same animation cycle. Updates that set a value outright are posted with a
+// key, so that a burst of them (such as mouse moves) collapses to the latest.
 //
 //******************************************************************************
 
@@ -107,7 +109,7 @@ public final class Model
 
 	public void	setOriginInSceneCoordinates(Point2D.Double q)
 	{
-		view.getCanvas().invoke(false, new BasicUpdater() {
+		view.getDispatcher().post("origin", new BasicUpdater() {
 			public void	update(GL2 gl) {
 				origin = new Point2D.Double(q.x, q.y);
 			}
@@ -116,7 +118,7 @@ public final class Model
 
 	public void	setOriginInViewCoordinates(Point q)
 	{
-		view.getCanvas().invoke(false, new ViewPointUpdater(q) {
+		view.getDispatcher().post("origin", new ViewPointUpdater(q) {
 			public void	update(double[] p) {
 				origin = new Point2D.Double(p[0], p[1]);
 			}
@@ -125,7 +127,7 @@ public final class Model
 
 	public void	setCursorInViewCoordinates(Point q)
 	{
-		view.getCanvas().invoke(false, new ViewPointUpdater(q) {
+		view.getDispatcher().post("cursor", new ViewPointUpdater(q) {
 			public void	update(double[] p) {
 				cursor = new Point2D.Double(p[0], p[1]);
 			}
@@ -134,7 +136,7 @@ public final class Model
 
 	public void	turnCursorOff()
 	{
-		view.getCanvas().invoke(false, new BasicUpdater() {
+		view.getDispatcher().post("cursor", new BasicUpdater() {
 			public void	update(GL2 gl) {
 				cursor = null;
 			}
@@ -143,7 +145,7 @@ public final class Model
 
 	public void	addPolylinePointInViewCoordinates(Point q)
 	{
-		view.getCanvas().invoke(false, new ViewPointUpdater(q) {
+		view.getDispatcher().post(new ViewPointUpdater(q) {
 			public void	update(double[] p) {
 				points.add(new Point2D.Double(p[0], p[1]));
 			}
@@ -152,7 +154,7 @@ public final class Model
 
 	public void	clearPolyline()
 	{
-		view.getCanvas().invoke(false, new BasicUpdater() {
+		view.getDispatcher().post(new BasicUpdater() {
 			public void	update(GL2 gl) {
 				points.clear();
 			}
@@ -161,7 +163,7 @@ public final class Model
 
 	public void	toggleColorful()
 	{
-		view.getCanvas().invoke(false, new BasicUpdater() {
+		view.getDispatcher().post(new BasicUpdater() {
 			public void	update(GL2 gl) {
 				colorful = !colorful;
 			}
@@ -191,7 +193,8 @@ public final class Model
 	// single point in view coordinates (integers/pixels).
 	private abstract class ViewPointUpdater extends BasicUpdater
 	{
-		private final Point	q;
+		private final Point		q;
+		private final double[]	p = new double[3];		// Scene coordinates
 
 		public ViewPointUpdater(Point q)
 		{
@@ -201,8 +204,8 @@ public final class Model
 		public final void	update(GL2 gl)
 		{
 			int		h = view.getHeight();
-			double[]	p = Utilities.mapViewToScene(gl, q.x, h - q.y, 0.0);
 
+			view.getTransform().viewToScene(q.x, h - q.y, 0.0, p);
 			update(p);
 		}
 
@@ -23,12 +23,14 @@ import java.awt.geom.Point2D;
 import java.text.DecimalFormat;
 import java.util.*;
 import com.jogamp.opengl.*;
-import com.jogamp.opengl.awt.GLJPanel;
 import com.jogamp.opengl.glu.*;
 import com.jogamp.opengl.util.FPSAnimator;
 import com.jogamp.opengl.util.awt.TextRenderer;
 import com.jogamp.opengl.util.gl2.GLUT;
+import edu.ou.cs.cg.utilities.FrameStats;
+import edu.ou.cs.cg.utilities.UpdateDispatcher;
 import edu.ou.cs.cg.utilities.Utilities;
+import edu.ou.cs.cg.utilities.ViewTransform;
 
 //******************************************************************************
 
@@ -60,7 +62,7 @@ public final class View
 	//**********************************************************************
 
 	// State (internal) variables
-	private final GLJPanel				canvas;
+	private final GLAutoDrawable		canvas;
 	private int						w;			// Canvas width
 	private int						h;			// Canvas height
 
@@ -70,6 +72,11 @@ public final class View
 	private int						counter;	// Frame counter
 
 	private final Model				model;
+	private final ViewTransform		transform;	// Captured each frame
+	private final UpdateDispatcher		dispatcher;	// Model updates to run
+	private final FrameStats			stats;		// Timing, shown by [F3]
+	private final double[]				p = new double[3];	// Mapping scratch
+	private final double[]				q = new double[3];
 
 	private final KeyHandler			keyHandler;
 	private final MouseHandler			mouseHandler;
@@ -78,33 +85,49 @@ public final class View
 	// Constructors and Finalizer
 	//**********************************************************************
 
-	public View(GLJPanel canvas)
+	// Draws on canvas, which may be a component in a window (a GLJPanel) or
+	// an offscreen drawable. Only a component gets input handlers and an
+	// animator; whatever makes an offscreen one calls display() on it.
+	public View(GLAutoDrawable canvas)
 	{
 		this.canvas = canvas;
 
 		// Initialize rendering
 		counter = 0;
+		transform = new ViewTransform();
+		dispatcher = new UpdateDispatcher();
+		stats = new FrameStats(DEFAULT_FRAMES_PER_SECOND);
 		canvas.addGLEventListener(this);
 
 		// Initialize model (scene data and parameter manager)
 		model = new Model(this);
 
-		// Initialize controller (interaction handlers)
-		keyHandler = new KeyHandler(this, model);
-		mouseHandler = new MouseHandler(this, model);
+		if (canvas instanceof Component)
+		{
+			// Initialize controller (interaction handlers)
+			keyHandler = new KeyHandler(this, model);
+			mouseHandler = new MouseHandler(this, model);
 
-		// Initialize animation
-		animator = new FPSAnimator(canvas, DEFAULT_FRAMES_PER_SECOND);
-		animator.start();
+			// Initialize animation
+			animator = new FPSAnimator(canvas, DEFAULT_FRAMES_PER_SECOND);
+			animator.start();
+		}
+		else
+		{
+			keyHandler = null;
+			mouseHandler = null;
+			animator = null;
+		}
 	}
 
 	//**********************************************************************
 	// Getters and Setters
 	//**********************************************************************
 
-	public GLJPanel	getCanvas()
+	// The component drawn on, or null if drawing offscreen.
+	public Component	getCanvas()
 	{
-		return canvas;
+		return (canvas instanceof Component) ? (Component)canvas : null;
 	}
 
 	public int	getWidth()
@@ -117,6 +140,24 @@ public final class View
 		return h;
 	}
 
+	// View/scene mapping as of the start of the current (or last) frame.
+	public ViewTransform	getTransform()
+	{
+		return transform;
+	}
+
+	// Queue for model updates, drained at the start of each frame.
+	public UpdateDispatcher	getDispatcher()
+	{
+		return dispatcher;
+	}
+
+	// Frame timing, and whether to show it.
+	public FrameStats	getFrameStats()
+	{
+		return stats;
+	}
+
 	//**********************************************************************
 	// Override Methods (GLEventListener)
 	//**********************************************************************
@@ -139,10 +180,16 @@ public final class View
 
 	public void	display(GLAutoDrawable drawable)
 	{
+		stats.beginFrame();
+
+		dispatcher.drain(drawable);				// Apply pending model updates
 		updatePipeline(drawable);
 
 		update(drawable);
+		stats.endUpdate();
 		render(drawable);
+
+		stats.endFrame();
 	}
 
 	public void	reshape(GLAutoDrawable drawable, int x, int y, int w, int h)
@@ -201,6 +248,8 @@ public final class View
 		gl.glMatrixMode(GL2.GL_PROJECTION);		// Prepare for matrix xform
 		gl.glLoadIdentity();						// Set to identity matrix
 		glu.gluOrtho2D(xmin, xmax, ymin, ymax);	// 2D translate and scale
+
+		transform.capture(gl);						// Cache for mapping
 	}
 
 	//**********************************************************************
@@ -209,9 +258,9 @@ public final class View
 
 	private void	drawMode(GLAutoDrawable drawable)
 	{
-		GL2		gl = drawable.getGL().getGL2();
-		double[]	p = Utilities.mapViewToScene(gl, 0.5 * w, 0.5 * h, 0.0);
-		double[]	q = Utilities.mapSceneToView(gl, 0.0, 0.0, 0.0);
+		transform.viewToScene(0.5 * w, 0.5 * h, 0.0, p);
+		transform.sceneToView(0.0, 0.0, 0.0, q);
+
 		String		svc = ("View center in scene: [" + FORMAT.format(p[0]) +
 						   " , " + FORMAT.format(p[1]) + "]");
 		String		sso = ("Scene origin in view: [" + FORMAT.format(q[0]) +
@@ -239,6 +288,11 @@ public final class View
 
 		renderer.draw(svc, 2, 16);
 		renderer.draw(sso, 2, 30);
+		renderer.draw("Updates: " + dispatcher.getDepth() + " waiting (max " +
+					  dispatcher.getMaxDepth() + "), " +
+					  dispatcher.getDropped() + " coalesced", 2, 44);
+
+		stats.draw(renderer, 2, h - 14);			// [F3] Frame timing
 
 		renderer.endRendering();
 	}
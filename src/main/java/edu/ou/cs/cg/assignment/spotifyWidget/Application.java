@@ -25,9 +25,12 @@ package edu.ou.cs.cg.assignment.spotifyWidget;
 //import java.lang.*;
 import java.awt.Dimension;
 import java.awt.event.*;
+import java.io.File;
+import java.io.IOException;
 import javax.swing.*;
 import com.jogamp.opengl.*;
 import com.jogamp.opengl.awt.*;
+import edu.ou.cs.cg.utilities.MetricsServer;
 
 //******************************************************************************
 
@@ -62,13 +65,32 @@ public final class Application
 
 	// State (internal) variables
 	private View		view;
+	private File		input;			// Notes or WAV audio, if any
+	private String		token;			// Spotify access token, if any
+	private int		metricsPort;	// Serve metrics here, if not -1
 
 	//**********************************************************************
 	// Constructors and Finalizer
 	//**********************************************************************
 
+	// Optionally give a .wav file to visualize, or a text file of "note freq"
+	// lines. Give -token=<access token> (or set SPOTIFY_TOKEN) to show what's
+	// playing on Spotify; otherwise a built-in stub stands in for it. Give
+	// -metrics=<port> to serve Prometheus metrics at localhost:<port>/metrics.
 	public Application(String[] args)
 	{
+		token = System.getenv("SPOTIFY_TOKEN");
+		metricsPort = -1;
+
+		for (String arg : args)
+		{
+			if (arg.startsWith("-token="))
+				token = arg.substring("-token=".length());
+			else if (arg.startsWith("-metrics="))
+				metricsPort = parsePort(arg.substring("-metrics=".length()));
+			else
+				input = new File(arg);
+		}
 	}
 
 	//**********************************************************************
@@ -117,6 +139,89 @@ public final class Application
 
 		// Create a view to manage the canvas
 		view = new View(canvas);
+
+		if (input != null)
+			load(view.getModel(), input);
+
+		SpotifyMetadata.Transport	transport = (token != null) ?
+			new HttpTransport(token) : new StubTransport();
+
+		SpotifyMetadata	metadata = new SpotifyMetadata(transport);
+
+		view.getModel().setMetadata(metadata);
+		view.getMetrics().setMetadata(metadata);
+
+		if (metricsPort >= 0)
+			serveMetrics(view.getMetrics(), metricsPort);
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	// Start serving metrics on localhost. It runs until the application
+	// exits; if the port is taken, say so and carry on without it.
+	private static void	serveMetrics(Metrics metrics, int port)
+	{
+		try
+		{
+			MetricsServer	server = new MetricsServer(port);
+
+			server.addSource(metrics);
+			System.out.println("Serving metrics at http://localhost:" +
+							   server.getPort() + MetricsServer.PATH);
+		}
+		catch (IOException e)
+		{
+			System.err.println("Couldn't serve metrics on port " + port +
+							   ": " + e.getMessage());
+		}
+	}
+
+	// A port number, or -1 (after saying why) if it isn't one; metrics are
+	// then left off, as when the port is taken.
+	private static int	parsePort(String value)
+	{
+		try
+		{
+			int	port = Integer.parseInt(value);
+
+			if ((port >= 0) && (port <= 65535))
+				return port;
+		}
+		catch (NumberFormatException e)
+		{
+		}
+
+		System.err.println("Couldn't serve metrics on port " + value +
+						   ": not a port number");
+
+		return -1;
+	}
+
+	// Load audio or note events in the background; large files can take a
+	// moment.
+	private static void	load(final Model model, final File file)
+	{
+		Thread	loader = new Thread("Application loader") {
+				public void run() {
+					try
+					{
+						if (file.getName().toLowerCase().endsWith(".wav"))
+							model.loadAudio(file);
+						else
+							model.loadSequence(file);
+					}
+					catch (IOException e)
+					{
+						System.err.println("Couldn't load " + file + ": " +
+										   e.getMessage());
+					}
+				}
+			};
+
+		loader.setDaemon(true);
+		loader.start();
 	}
 }
 
@@ -0,0 +1,104 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Schedules visualizer note events from the clock instead of the frame count.
+// There are EVENTS_PER_BEAT events per beat, so at bpm beats per minute the
+// events are 60 / (bpm * EVENTS_PER_BEAT) seconds apart. Each frame asks how
+// many events came due since the last frame, and gets every one of them, in
+// order, however long the frame took or however fast frames come.
+//
+// Timestamps are System.nanoTime() values. Each event's time is computed from
+// the one before it, so there is no drift. A change in tempo takes effect from
+// the most recent event. While paused, nothing comes due; after a stall longer
+// than MAX_LAG, the schedule skips ahead instead of bursting to catch up.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>BeatScheduler</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public final class BeatScheduler {
+	// **********************************************************************
+	// Public Class Members
+	// **********************************************************************
+
+	public static final int EVENTS_PER_BEAT = 3;
+	public static final long MAX_LAG = 1000000000L; // Skip ahead after 1 s
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	// State (internal) variables
+	private boolean running; // Was playing at the last poll?
+	private long last; // Time of the most recent event
+	private long period; // Nanoseconds between events
+
+	// **********************************************************************
+	// Constructors and Finalizer
+	// **********************************************************************
+
+	public BeatScheduler() {
+		running = false;
+	}
+
+	// **********************************************************************
+	// Public Class Methods
+	// **********************************************************************
+
+	// Nanoseconds between events at bpm beats per minute.
+	public static long getPeriod(int bpm) {
+		return 60000000000L / ((long) Math.max(1, bpm) * EVENTS_PER_BEAT);
+	}
+
+	// **********************************************************************
+	// Public Methods
+	// **********************************************************************
+
+	// Number of events that came due between the last poll and now. Returns
+	// zero while not playing; the first event after starting comes one period
+	// after the start.
+	public int poll(long now, boolean playing, int bpm) {
+		if (!playing) {
+			running = false;
+			return 0;
+		}
+
+		period = getPeriod(bpm);
+
+		if (!running) {
+			running = true;
+			last = now;
+			return 0;
+		}
+
+		long late = now - last;
+
+		if (late > MAX_LAG) {
+			last = now - (late % period); // Keep the phase, drop the backlog
+			return 1;
+		}
+
+		if (late < period)
+			return 0;
+
+		int n = (int) (late / period);
+
+		last += n * period;
+
+		return n;
+	}
+}
+
+// ******************************************************************************
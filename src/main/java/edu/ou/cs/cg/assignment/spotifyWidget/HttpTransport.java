@@ -0,0 +1,122 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// SpotifyMetadata transport that makes real requests to the Spotify Web API,
+// using the Apache HttpClient that spotify-web-api-java already depends on.
+// Requests are authorized with an OAuth access token obtained elsewhere (for
+// example, from the Spotify developer console) with the user-read-playback-
+// state and playlist-read-private scopes.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+//******************************************************************************
+
+/**
+ * The <CODE>HttpTransport</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public final class HttpTransport implements SpotifyMetadata.Transport {
+	// **********************************************************************
+	// Public Class Members
+	// **********************************************************************
+
+	public static final String API_ROOT = "https://api.spotify.com/v1";
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	// State (internal) variables
+	private final String token; // OAuth access token
+	private final CloseableHttpClient client;
+
+	// **********************************************************************
+	// Constructors and Finalizer
+	// **********************************************************************
+
+	public HttpTransport(String token) {
+		this.token = token;
+		this.client = HttpClients.createDefault();
+	}
+
+	// **********************************************************************
+	// Override Methods (Transport)
+	// **********************************************************************
+
+	public SpotifyMetadata.Response get(String path, String etag) throws IOException {
+		HttpGet request = new HttpGet(API_ROOT + path);
+
+		request.setHeader("Authorization", "Bearer " + token);
+
+		if (etag != null)
+			request.setHeader("If-None-Match", etag);
+
+		return client.execute(request, new HttpClientResponseHandler<SpotifyMetadata.Response>() {
+			public SpotifyMetadata.Response handleResponse(ClassicHttpResponse response)
+					throws IOException {
+				int status = response.getCode();
+				String body = null;
+
+				if (status == 200 && response.getEntity() != null) {
+					try {
+						body = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+					} catch (ParseException e) {
+						throw new IOException(e);
+					}
+				}
+
+				return new SpotifyMetadata.Response(status, body,
+						value(response.getFirstHeader("ETag")),
+						seconds(response.getFirstHeader("Retry-After")));
+			}
+		});
+	}
+
+	public void close() {
+		try {
+			client.close();
+		} catch (IOException e) {
+			// Nothing left to do
+		}
+	}
+
+	// **********************************************************************
+	// Private Class Methods
+	// **********************************************************************
+
+	private static String value(Header header) {
+		return (header != null) ? header.getValue() : null;
+	}
+
+	// Retry-After in seconds, or -1 if missing or not a number of seconds.
+	private static int seconds(Header header) {
+		if (header == null)
+			return -1;
+
+		try {
+			return Integer.parseInt(header.getValue().trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+}
+
+// ******************************************************************************
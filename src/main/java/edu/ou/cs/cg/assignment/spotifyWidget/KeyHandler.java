@@ -32,6 +32,12 @@ import edu.ou.cs.cg.utilities.Utilities;
  * @version %I%, %G%
  */
 public final class KeyHandler extends KeyAdapter {
+	// **********************************************************************
+	// Private Class Members
+	// **********************************************************************
+
+	private static final int PAGE = 10; // Items moved by page up/down
+
 	// **********************************************************************
 	// Private Members
 	// **********************************************************************
@@ -39,6 +45,7 @@ public final class KeyHandler extends KeyAdapter {
 	// State (internal) variables
 	private final View view;
 	private final Model model;
+	private boolean searching; // Keys type into the search query?
 
 	// **********************************************************************
 	// Constructors and Finalizer
@@ -59,6 +66,18 @@ public final class KeyHandler extends KeyAdapter {
 
 	public void keyPressed(KeyEvent e) {
 		boolean b = Utilities.isShiftDown(e);
+		boolean listing = (model.getCurrentView() != Model.screenState.player);
+
+		// Frame timing toggles whatever the screen, even while searching
+		if (e.getKeyCode() == KeyEvent.VK_F3) {
+			view.getFrameStats().toggle();
+			return;
+		}
+
+		if (searching) {
+			searchKeyPressed(e);
+			return;
+		}
 
 		switch (e.getKeyCode()) {
 			case KeyEvent.VK_P:
@@ -71,11 +90,95 @@ public final class KeyHandler extends KeyAdapter {
 				model.incVolume();;
 				break;
 			case KeyEvent.VK_UP:
-				model.incBPM();
+				if (listing)
+					model.moveSelection(-1);
+				else
+					model.incBPM();
 				break;
 			case KeyEvent.VK_DOWN:
-				model.decBPM();
+				if (listing)
+					model.moveSelection(1);
+				else
+					model.decBPM();
 				break;				
+			case KeyEvent.VK_PAGE_UP:
+				model.moveSelection(-PAGE);
+				break;
+			case KeyEvent.VK_PAGE_DOWN:
+				model.moveSelection(PAGE);
+				break;
+			case KeyEvent.VK_HOME:
+				model.moveSelection(Integer.MIN_VALUE);
+				break;
+			case KeyEvent.VK_END:
+				model.moveSelection(Integer.MAX_VALUE);
+				break;
+			case KeyEvent.VK_OPEN_BRACKET:
+				model.setBars(model.getBars() / 2);
+				break;
+			case KeyEvent.VK_CLOSE_BRACKET:
+				model.setBars(model.getBars() * 2);
+				break;
+			case KeyEvent.VK_Q:
+				model.swtichScreen(Model.screenState.queueView);
+				break;
+			case KeyEvent.VK_L:
+				model.swtichScreen(Model.screenState.allPlaylists);
+				break;
+			case KeyEvent.VK_ENTER:
+				model.openSelection();
+				break;
+			case KeyEvent.VK_ESCAPE:
+				model.back();
+				break;
+		}
+	}
+
+	// Characters are only typed (as opposed to pressed) once any shift or
+	// other modifiers are applied, so the query is built from these.
+	public void keyTyped(KeyEvent e) {
+		char c = e.getKeyChar();
+
+		if (!searching) {
+			if (c == '/') {
+				searching = true;
+				model.startSearch();
+			}
+
+			return;
+		}
+
+		if (c >= ' ' && c != KeyEvent.CHAR_UNDEFINED && c != 127)
+			model.typeQuery(c);
+	}
+
+	// **********************************************************************
+	// Private Methods
+	// **********************************************************************
+
+	// While searching, letters belong to the query, so only keys that don't
+	// type anything do something here.
+	private void searchKeyPressed(KeyEvent e) {
+		switch (e.getKeyCode()) {
+			case KeyEvent.VK_BACK_SPACE:
+				model.eraseQuery();
+				break;
+			case KeyEvent.VK_UP:
+				model.moveSelection(-1);
+				break;
+			case KeyEvent.VK_DOWN:
+				model.moveSelection(1);
+				break;
+			case KeyEvent.VK_PAGE_UP:
+				model.moveSelection(-PAGE);
+				break;
+			case KeyEvent.VK_PAGE_DOWN:
+				model.moveSelection(PAGE);
+				break;
+			case KeyEvent.VK_ESCAPE:
+				searching = false;
+				model.back();
+				break;
 		}
 	}
 }
@@ -0,0 +1,183 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Virtualized renderer for the widget's scrolling lists (the queue, the
+// playlists, and the tracks of a playlist). A list is a header row followed
+// by one row per item. Only the rows that are visible are ever laid out or
+// drawn, so the cost of a frame depends on the height of the view, not the
+// length of the list, even for playlists with tens of thousands of tracks.
+//
+// Row heights are kept in a RowIndex, so finding the first visible row for a
+// scroll offset, and the position of any row, takes O(log n) time. When more
+// items are added to the same list (as pages of a playlist arrive), only the
+// new rows are added to the index.
+//
+// Fitting a row's text to the width of the list means measuring it, which is
+// slow, so fitted text is kept in a small direct-mapped cache indexed by row
+// number. Scrolling only fits the rows that scroll into view.
+//
+// All sizes and offsets are in pixels. All methods must be called on the
+// OpenGL thread.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.util.Arrays;
+import java.util.List;
+import com.jogamp.opengl.util.awt.TextRenderer;
+import edu.ou.cs.cg.utilities.RowIndex;
+import edu.ou.cs.cg.utilities.TextRendererCache;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ListRenderer</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public final class ListRenderer {
+	// **********************************************************************
+	// Public Class Members
+	// **********************************************************************
+
+	public static final int CACHE_SIZE = 256; // Rows of fitted text kept
+	public static final int BASELINE = 4; // Text baseline above row bottom
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	// State (internal) variables
+	private final RowIndex index; // Header row, then one row per item
+	private final int rowHeight;
+	private final int headerHeight;
+	private List<?> items; // Items laid out
+	private String header;
+	private int count; // Items in the index
+
+	// Fitted text, direct-mapped by row number
+	private final int[] cachedRow = new int[CACHE_SIZE];
+	private final String[] cachedText = new String[CACHE_SIZE];
+	private int cachedWidth; // Width the text was fitted to
+
+	// Visible rows, as of the last layout()
+	private long scroll; // Offset of the top of the view
+	private int first; // First visible row
+	private int last; // Last visible row, exclusive
+
+	// **********************************************************************
+	// Constructors and Finalizer
+	// **********************************************************************
+
+	public ListRenderer(int rowHeight, int headerHeight) {
+		this.rowHeight = rowHeight;
+		this.headerHeight = headerHeight;
+
+		index = new RowIndex();
+		cachedWidth = -1;
+		Arrays.fill(cachedRow, -1);
+	}
+
+	// **********************************************************************
+	// Getters and Setters
+	// **********************************************************************
+
+	// Total height of the list.
+	public long getExtent() {
+		return index.getTotal();
+	}
+
+	// Offset of the top of an item's row.
+	public long getTop(int item) {
+		return index.getOffset(Math.min(item + 1, index.getSize()));
+	}
+
+	// Offset of the bottom of an item's row.
+	public long getBottom(int item) {
+		return index.getOffset(Math.min(item + 2, index.getSize()));
+	}
+
+	// Item at an offset, or -1 if it's the header.
+	public int getItemAt(long offset) {
+		return index.getRow(offset) - 1;
+	}
+
+	// Number of rows drawn by the last layout.
+	public int getVisibleRows() {
+		return last - first;
+	}
+
+	// **********************************************************************
+	// Public Methods
+	// **********************************************************************
+
+	// Bring the layout up to date with the header and items. If items is the
+	// list laid out last time and has only grown, just the new rows are added.
+	public void sync(String header, List<?> items) {
+		if (items != this.items || items.size() < count) {
+			index.clear();
+			index.add(headerHeight);
+			this.items = items;
+			count = 0;
+			Arrays.fill(cachedRow, -1);
+		}
+
+		if (!header.equals(this.header)) {
+			this.header = header;
+			cachedRow[0] = -1;
+		}
+
+		for (int n = items.size(); count < n; count++)
+			index.add(rowHeight);
+	}
+
+	// Find the rows visible in a view height pixels tall, scrolled to offset.
+	public void layout(long offset, int height) {
+		scroll = offset;
+		first = Math.max(0, index.getRow(offset));
+		last = first;
+
+		while (last < index.getSize() && index.getOffset(last) < offset + height)
+			last++;
+	}
+
+	// Draw the visible rows into a view whose top left is at pixel (x, top),
+	// fitting each row to width pixels. Call between the renderer's
+	// beginRendering() and endRendering().
+	public void draw(TextRenderer renderer, int x, int top, int width) {
+		if (width != cachedWidth) {
+			cachedWidth = width;
+			Arrays.fill(cachedRow, -1);
+		}
+
+		for (int r = first; r < last; r++) {
+			int bottom = top - (int) (index.getOffset(r + 1) - scroll);
+
+			renderer.draw(getText(renderer, r, width), x, bottom + BASELINE);
+		}
+	}
+
+	// **********************************************************************
+	// Private Methods
+	// **********************************************************************
+
+	private String getText(TextRenderer renderer, int row, int width) {
+		int slot = row & (CACHE_SIZE - 1);
+
+		if (cachedRow[slot] != row) {
+			String text = (row == 0) ? header : row + ". " + items.get(row - 1);
+
+			cachedText[slot] = TextRendererCache.fit(renderer, text, width);
+			cachedRow[slot] = row;
+		}
+
+		return cachedText[slot];
+	}
+}
+
+// ******************************************************************************
@@ -0,0 +1,170 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Source of what's playing, what's queued, and the user's playlists. Every
+// request returns a CompletableFuture right away and completes it later on
+// some other thread, so callers (in particular the GL thread) never wait on
+// the network. Results are plain immutable values, independent of whatever
+// API or JSON library the implementation uses.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+//******************************************************************************
+
+/**
+ * The <CODE>MetadataService</CODE> interface.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public interface MetadataService {
+	// **********************************************************************
+	// Public Methods
+	// **********************************************************************
+
+	// The track playing now. Completes with null if nothing is playing.
+	public CompletableFuture<Track> getCurrentTrack();
+
+	// The tracks queued to play after the current one, in order.
+	public CompletableFuture<List<Track>> getQueue();
+
+	// The user's playlists.
+	public CompletableFuture<List<Playlist>> getPlaylists();
+
+	// One page of the tracks in a playlist, starting at offset. Long
+	// playlists take many pages; ask for the next one at page.getNext().
+	public CompletableFuture<Page> getPlaylistTracks(String id, int offset);
+
+	// Stop background work. Outstanding requests may never complete.
+	public void shutdown();
+
+	// **********************************************************************
+	// Inner Classes
+	// **********************************************************************
+
+	// A track (or podcast episode).
+	public static final class Track {
+		private final String id;
+		private final String title;
+		private final String artist; // Artists, comma separated
+		private final String album;
+		private final String artUrl; // Largest cover image, or null
+		private final int duration; // Milliseconds
+
+		public Track(String id, String title, String artist, String album,
+				String artUrl, int duration) {
+			this.id = id;
+			this.title = title;
+			this.artist = artist;
+			this.album = album;
+			this.artUrl = artUrl;
+			this.duration = duration;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public String getArtist() {
+			return artist;
+		}
+
+		public String getAlbum() {
+			return album;
+		}
+
+		public String getArtUrl() {
+			return artUrl;
+		}
+
+		public int getDuration() {
+			return duration;
+		}
+
+		public String toString() {
+			return title + " - " + artist;
+		}
+	}
+
+	// A playlist, without its tracks. The snapshot changes whenever the
+	// playlist does, so it tells whether tracks loaded earlier are still good.
+	public static final class Playlist {
+		private final String id;
+		private final String name;
+		private final int tracks; // Number of tracks
+		private final String snapshot; // Version, or null if unknown
+
+		public Playlist(String id, String name, int tracks, String snapshot) {
+			this.id = id;
+			this.name = name;
+			this.tracks = tracks;
+			this.snapshot = snapshot;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public int getTracks() {
+			return tracks;
+		}
+
+		public String getSnapshot() {
+			return snapshot;
+		}
+
+		public String toString() {
+			return name + " (" + tracks + ")";
+		}
+	}
+
+	// A run of consecutive tracks from a playlist. Items that aren't tracks or
+	// episodes (such as local files) are left out.
+	public static final class Page {
+		private final List<Track> tracks;
+		private final int offset; // Index of the first item
+		private final int next; // Offset of the next page, or -1 if none
+		private final int total; // Items in the whole playlist
+
+		public Page(List<Track> tracks, int offset, int next, int total) {
+			this.tracks = tracks;
+			this.offset = offset;
+			this.next = next;
+			this.total = total;
+		}
+
+		public List<Track> getTracks() {
+			return tracks;
+		}
+
+		public int getOffset() {
+			return offset;
+		}
+
+		public int getNext() {
+			return next;
+		}
+
+		public int getTotal() {
+			return total;
+		}
+	}
+}
+
+// ******************************************************************************
@@ -0,0 +1,159 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// The widget's metrics, for a MetricsServer: frame times and dropped frames
+// (from the View's FrameStats), the GL update queue (from its
+// UpdateDispatcher), the album art texture cache, and Spotify API requests
+// (from SpotifyMetadata). Memory comes from the server itself.
+//
+// Everything here is read on the server's thread without locks. The frame
+// histograms, queue and API figures are already atomics. The texture cache
+// belongs to the GL thread, so the View publishes its sizes here once per
+// frame with publishTextures(), into atomics that are only ever set (never
+// CAS'd) by that one thread.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.util.concurrent.atomic.AtomicLong;
+import edu.ou.cs.cg.utilities.FrameStats;
+import edu.ou.cs.cg.utilities.MetricsServer;
+import edu.ou.cs.cg.utilities.TextureCache;
+import edu.ou.cs.cg.utilities.UpdateDispatcher;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Metrics</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public final class Metrics implements MetricsServer.Source {
+	// **********************************************************************
+	// Public Class Members
+	// **********************************************************************
+
+	// Bucket bounds, in seconds
+	public static final double[] FRAME_BOUNDS = { 0.005, 0.010, 0.0167, 0.020,
+			0.025, 0.0333, 0.050, 0.100, 0.250, 0.500, 1.0 };
+	public static final double[] FETCH_BOUNDS = { 0.010, 0.025, 0.050, 0.100,
+			0.250, 0.500, 1.0, 2.5, 5.0, 10.0 };
+
+	// **********************************************************************
+	// Private Class Members
+	// **********************************************************************
+
+	private static final String PREFIX = "spotifywidget_";
+	private static final double MICROS = 1.0e-6; // Seconds per microsecond
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	// State (internal) variables
+	private final FrameStats stats;
+	private final UpdateDispatcher dispatcher;
+	private volatile SpotifyMetadata metadata; // Null if none
+
+	// Published by the GL thread
+	private final AtomicLong textures = new AtomicLong();
+	private final AtomicLong textureBytes = new AtomicLong();
+	private final AtomicLong textureEvictions = new AtomicLong();
+
+	// **********************************************************************
+	// Constructors and Finalizer
+	// **********************************************************************
+
+	public Metrics(FrameStats stats, UpdateDispatcher dispatcher) {
+		this.stats = stats;
+		this.dispatcher = dispatcher;
+	}
+
+	// **********************************************************************
+	// Getters and Setters
+	// **********************************************************************
+
+	// Report requests made through this service from now on.
+	public void setMetadata(SpotifyMetadata metadata) {
+		this.metadata = metadata;
+	}
+
+	// **********************************************************************
+	// Public Methods
+	// **********************************************************************
+
+	// Copy the texture cache's sizes for the server. GL thread only.
+	public void publishTextures(TextureCache cache) {
+		textures.lazySet(cache.getCount());
+		textureBytes.lazySet(cache.getBytes());
+		textureEvictions.lazySet(cache.getEvictions());
+	}
+
+	// **********************************************************************
+	// Override Methods (MetricsServer.Source)
+	// **********************************************************************
+
+	public void write(StringBuilder out) {
+		MetricsServer.writeHistogram(out, PREFIX + "frame_interval_seconds",
+				"Time from the start of one frame to the start of the next.",
+				stats.getFrameTimes(), MICROS, FRAME_BOUNDS);
+		MetricsServer.writeHistogram(out, PREFIX + "frame_work_seconds",
+				"Time spent updating and rendering each frame.",
+				stats.getWorkTimes(), MICROS, FRAME_BOUNDS);
+		MetricsServer.writeCounter(out, PREFIX + "frames_dropped_total",
+				"Animator periods missed by late frames.",
+				stats.getDroppedFrames());
+
+		MetricsServer.writeGauge(out, PREFIX + "gl_queue_depth",
+				"Model updates waiting for the GL thread.",
+				dispatcher.getDepth());
+		MetricsServer.writeGauge(out, PREFIX + "gl_queue_max_depth",
+				"Most model updates ever waiting for the GL thread.",
+				dispatcher.getMaxDepth());
+		MetricsServer.writeCounter(out, PREFIX + "gl_updates_posted_total",
+				"Model updates posted to the GL thread.",
+				dispatcher.getPosted());
+		MetricsServer.writeCounter(out, PREFIX + "gl_updates_coalesced_total",
+				"Model updates replaced by newer ones before running.",
+				dispatcher.getDropped());
+
+		MetricsServer.writeGauge(out, PREFIX + "texture_cache_textures",
+				"Album art textures held.", textures.get());
+		MetricsServer.writeGauge(out, PREFIX + "texture_cache_bytes",
+				"Pixel bytes held by album art textures.", textureBytes.get());
+		MetricsServer.writeCounter(out, PREFIX + "texture_cache_evictions_total",
+				"Album art textures evicted to make room.",
+				textureEvictions.get());
+
+		SpotifyMetadata m = metadata;
+
+		if (m == null)
+			return;
+
+		MetricsServer.writeHistogram(out, PREFIX + "api_fetch_seconds",
+				"Time to answer a Spotify API request over the network, " +
+				"including rate limit waits.",
+				m.getLatencies(), MICROS, FETCH_BOUNDS);
+		MetricsServer.writeCounter(out, PREFIX + "api_cache_hits_total",
+				"API requests answered from the cache.", m.getHits());
+		MetricsServer.writeCounter(out, PREFIX + "api_shared_total",
+				"API requests that joined one already in flight.",
+				m.getShared());
+		MetricsServer.writeCounter(out, PREFIX + "api_downloaded_total",
+				"API responses with a body (200 or 204).", m.getDownloaded());
+		MetricsServer.writeCounter(out, PREFIX + "api_revalidated_total",
+				"API responses renewing a cached body (304).",
+				m.getRevalidated());
+		MetricsServer.writeCounter(out, PREFIX + "api_throttled_total",
+				"API responses asking to slow down (429).", m.getThrottled());
+		MetricsServer.writeCounter(out, PREFIX + "api_failed_total",
+				"API requests given up on.", m.getFailed());
+	}
+}
+
+// ******************************************************************************
@@ -21,10 +21,12 @@
 //   4. Add a method to modify (setFoo) the variable.
 //
 // Concurrency management is important because the JOGL and the Java AWT run on
-// different threads. The modify methods use the GLAutoDrawable.invoke() method
-// so that all changes to variables take place on the JOGL thread. Because this
-// happens at the END of GLEventListener.display(), all changes will be visible
-// to the View.update() and render() methods in the next animation cycle.
+// different threads. The modify methods post updates to the view's
+// UpdateDispatcher so that all changes to variables take place on the JOGL
+// thread. Because updates run at the START of GLEventListener.display(), all
+// changes will be visible to the View.update() and render() methods in the
+// same animation cycle. Updates that set a value outright are posted with a
+// key, so that a burst of them (such as mouse moves) collapses to the latest.
 //
 //******************************************************************************
 
@@ -33,7 +35,11 @@ package edu.ou.cs.cg.assignment.spotifyWidget;
 //import java.lang.*;
 import java.awt.Point;
 import java.awt.geom.Point2D;
+import java.io.File;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
 import com.jogamp.opengl.*;
 import edu.ou.cs.cg.utilities.Utilities;
 
@@ -52,8 +58,11 @@ public final class Model {
 
 	// State (internal) variables
 	private final View view;
-	public final static int NUM_BARS = 15;
+	public final static int NUM_NOTES = 15; // Notes span the bars
+	public static final int SPECTRUM_BANDS = 64; // Analyzed, then resampled
 	public static final Random			RANDOM = new Random();
+	public static final long POLL_MILLIS = 1000; // Between metadata polls
+	public static final int MAX_RESULTS = 200; // Search results shown
 
 	// Model variables
 	private Point2D.Double cursor; // Current cursor coords
@@ -64,20 +73,50 @@ public final class Model {
 	private double volume;
 	private boolean isCondesnsed;
 	private int bpm; //Beats per minute
+	private int bars; // In the visualizer
 
 	//Song information
 	private String songTitle;
 	private String songArtist;
 	private double songProgress;
 	private String songDuration;
-	private ArrayDeque<Integer> songNotes;
-	private ArrayDeque<Integer> songFreqs;
+	private String songArt; // URL of cover art, or null
+	private NoteSequence sequence; // Note events, replayed in a loop
+	private SpectrumAnalyzer analyzer; // Audio analysis, if any
+	private List<MetadataService.Track> queue; // Up next
+	private List<MetadataService.Playlist> playlists;
+
+	// List views
+	private MetadataService.Playlist openPlaylist; // Shown in playlistView
+	private ArrayList<MetadataService.Track> playlistTracks; // Grows by page
+	private int playlistGeneration; // Ignore pages of older playlists
+	private long listScroll; // Pixels from the top of the list
+	private int listSelection; // Selected item
+	private boolean listReveal; // Scroll to show the selection?
+
+	// Search, shown in the search screen
+	private String query; // As typed so far
+	private List<MetadataService.Track> results;
+
+	// Metadata polling, off the GL thread
+	private MetadataService metadata;
+	private ScheduledExecutorService poller;
+	private volatile String pollError; // Last error reported
+
+	// Search index over the playlists' tracks, used on the searcher thread
+	// ONLY. Each playlist is indexed as a group, remembered by the Playlist
+	// it was loaded from, so that it's reindexed when its snapshot changes.
+	private final SearchIndex index;
+	private final HashMap<String, MetadataService.Playlist> indexed;
+	private final ExecutorService searcher;
+	private volatile String activeQuery; // To search again as tracks arrive
 
 	enum screenState{
 		player,
 		playlistView,
 		queueView,
-		allPlaylists
+		allPlaylists,
+		search
 	};
 	// **********************************************************************
 	// Constructors and Finalizer
@@ -93,15 +132,26 @@ public final class Model {
 		songDuration = "1:35";
 		volume = 1.0;
 		bpm = 60;
-		
-		
-		songNotes = new ArrayDeque<>();
-		songFreqs = new ArrayDeque<>();
-
-		for(int i = 0; i < 20; i++){
-			songNotes.add(RANDOM.nextInt(15));
-			songFreqs.add(RANDOM.nextInt(100));
-		}
+		bars = Visualizer.MIN_BARS;
+		queue = Collections.emptyList();
+		playlists = Collections.emptyList();
+		playlistTracks = new ArrayList<MetadataService.Track>();
+		query = "";
+		results = Collections.emptyList();
+
+		index = new SearchIndex();
+		indexed = new HashMap<String, MetadataService.Playlist>();
+		searcher = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "Model searcher");
+
+				thread.setDaemon(true);
+
+				return thread;
+			}
+		});
+
+		sequence = NoteSequence.random(RANDOM, 20, NUM_NOTES);
 	}
 
 	// **********************************************************************
@@ -139,16 +189,102 @@ public final class Model {
 		return volume;
 	}
 
-	public int nextNote(){
-		int res = songNotes.peekFirst();
-		songNotes.addLast(songNotes.pollFirst());
-		return res;
+	public int getBars(){
+		return bars;
 	}
 
-	public int nextFreq(){
-		int res = songFreqs.peekFirst();
-		songFreqs.addLast(songFreqs.pollFirst());
-		return res;
+	// Index of the beat to play now, advancing to the next one. Returns -1 if
+	// there are no note events.
+	public int nextBeat(){
+		return sequence.next();
+	}
+
+	public int getNote(int beat){
+		return sequence.getNote(beat);
+	}
+
+	public int getFreq(int beat){
+		return sequence.getFreq(beat);
+	}
+
+	// Analyzer for the loaded audio, or null to visualize the note events.
+	public SpectrumAnalyzer getAnalyzer(){
+		return analyzer;
+	}
+
+	public String getDuration(){
+		return songDuration;
+	}
+
+	// URL of the current track's cover art, or null if none.
+	public String getArtUrl(){
+		return songArt;
+	}
+
+	// Tracks queued after the current one, as of the last poll.
+	public List<MetadataService.Track> getQueue(){
+		return queue;
+	}
+
+	// The user's playlists, as of the last poll.
+	public List<MetadataService.Playlist> getPlaylists(){
+		return playlists;
+	}
+
+	// Items of the list shown by the current screen, empty for the player.
+	public List<?> getListItems(){
+		switch (curState) {
+			case queueView:
+				return queue;
+
+			case allPlaylists:
+				return playlists;
+
+			case playlistView:
+				return playlistTracks;
+
+			case search:
+				return results;
+
+			default:
+				return Collections.emptyList();
+		}
+	}
+
+	// Header for the list shown by the current screen.
+	public String getListTitle(){
+		switch (curState) {
+			case queueView:
+				return "Up Next";
+
+			case allPlaylists:
+				return "Playlists";
+
+			case playlistView:
+				if (openPlaylist == null)
+					return "";
+
+				if (playlistTracks.size() < openPlaylist.getTracks())
+					return openPlaylist.getName() + " (loading " +
+							playlistTracks.size() + " of " + openPlaylist.getTracks() + ")";
+
+				return openPlaylist.getName();
+
+			case search:
+				return "Search: " + query + "_ (" + results.size() +
+						((results.size() == MAX_RESULTS) ? "+" : "") + ")";
+
+			default:
+				return "";
+		}
+	}
+
+	public long getListScroll(){
+		return listScroll;
+	}
+
+	public int getListSelection(){
+		return listSelection;
 	}
 	// **********************************************************************
 	// Public Methods (Modify Variables)
@@ -159,7 +295,94 @@ public final class Model {
 	}
 
 	public void swtichScreen(screenState s){
-		curState = s;
+		view.getDispatcher().post("screen", new BasicUpdater() {
+			public void update(GL2 gl) {
+				curState = s;
+				listScroll = 0;
+				listSelection = 0;
+				activeQuery = null;
+			}
+		});
+	}
+
+	// Scroll the current list by some pixels (not keyed, so that every
+	// wheel notch counts).
+	public void scrollList(long pixels){
+		view.getDispatcher().post(new BasicUpdater() {
+			public void update(GL2 gl) {
+				listScroll += pixels;
+			}
+		});
+	}
+
+	// Move the selection in the current list by some items, and scroll to it.
+	public void moveSelection(int items){
+		view.getDispatcher().post(new BasicUpdater() {
+			public void update(GL2 gl) {
+				int n = getListItems().size();
+				long i = (long) listSelection + items;
+
+				listSelection = (int) Math.max(0, Math.min(n - 1, i));
+				listReveal = true;
+			}
+		});
+	}
+
+	// Open the selected item: a playlist opens in playlistView.
+	public void openSelection(){
+		view.getDispatcher().post("open", new BasicUpdater() {
+			public void update(GL2 gl) {
+				if (curState == screenState.allPlaylists &&
+						listSelection < playlists.size())
+					openPlaylist(playlists.get(listSelection));
+			}
+		});
+	}
+
+	// Show the search screen, starting with an empty query.
+	public void startSearch(){
+		view.getDispatcher().post("screen", new BasicUpdater() {
+			public void update(GL2 gl) {
+				curState = screenState.search;
+				setQuery("");
+			}
+		});
+	}
+
+	// Add a character to the end of the query (not keyed, so that fast
+	// typing doesn't drop any).
+	public void typeQuery(char c){
+		view.getDispatcher().post(new BasicUpdater() {
+			public void update(GL2 gl) {
+				setQuery(query + c);
+			}
+		});
+	}
+
+	// Remove the last character of the query.
+	public void eraseQuery(){
+		view.getDispatcher().post(new BasicUpdater() {
+			public void update(GL2 gl) {
+				if (query.length() > 0)
+					setQuery(query.substring(0, query.length() - 1));
+			}
+		});
+	}
+
+	// Go back one screen: from a playlist to the playlists, otherwise to the
+	// player.
+	public void back(){
+		swtichScreen((curState == screenState.playlistView) ?
+				screenState.allPlaylists : screenState.player);
+	}
+
+	// Show n visualizer bars, from Visualizer.MIN_BARS to MAX_BARS.
+	public void setBars(int n){
+		view.getDispatcher().post("bars", new BasicUpdater() {
+			public void update(GL2 gl) {
+				bars = Math.max(Visualizer.MIN_BARS, Math.min(Visualizer.MAX_BARS, n));
+			}
+		});
 	}
 
 	public void rewind(){
@@ -170,13 +393,83 @@ public final class Model {
 		songProgress = 0.0;
 	}
 	
-	public void progress(){
+	// Advance playback by the given elapsed time, 0.02 of the song per second.
+	public void progress(double seconds){
 		if(songProgress < 1)
-			songProgress += 0.02;
+			songProgress = Math.min(1.0, songProgress + 0.02 * seconds);
 		else
 			songProgress = 0.0;
 	}
 
+	// Replace the note events, starting with the first one.
+	public void setSequence(NoteSequence s){
+		view.getDispatcher().post("sequence", new BasicUpdater() {
+			public void update(GL2 gl) {
+				sequence = s;
+			}
+		});
+	}
+
+	// Read note events from a file (on the calling thread), then use them.
+	public void loadSequence(File file) throws IOException {
+		setSequence(NoteSequence.load(file));
+	}
+
+	// Map a WAV file, then analyze it (on a background thread) and drive the
+	// visualizer bars from it instead of from the note events. The analyzer
+	// is started by the update that installs it, so one replaced by a later
+	// load before it runs never starts a thread.
+	public void loadAudio(File file) throws IOException {
+		SpectrumAnalyzer a = new SpectrumAnalyzer(new WavFile(file), SPECTRUM_BANDS,
+				Visualizer.MAX_HEIGHT);
+
+		view.getDispatcher().post("analyzer", new BasicUpdater() {
+			public void update(GL2 gl) {
+				if (analyzer != null)
+					analyzer.stop();
+
+				analyzer = a;
+				analyzer.start();
+			}
+		});
+	}
+
+	// Poll the service every POLL_MILLIS for what's playing, queued, and in
+	// the playlists. Polls run on a daemon thread and never wait for answers;
+	// answers are posted to the GL thread as they arrive.
+	public void setMetadata(MetadataService service){
+		if (poller != null) {
+			poller.shutdownNow();
+			metadata.shutdown();
+		}
+
+		metadata = service;
+		searcher.execute(new Runnable() {
+			public void run() {
+				for (String id : indexed.keySet())
+					index.removeGroup(id);
+
+				indexed.clear();
+			}
+		});
+
+		poller = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "Model metadata poller");
+
+				thread.setDaemon(true);
+
+				return thread;
+			}
+		});
+
+		poller.scheduleWithFixedDelay(new Runnable() {
+			public void run() {
+				pollMetadata(service);
+			}
+		}, 0, POLL_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
 	public void handleClick(){
 		
 	}
@@ -201,14 +494,14 @@ public final class Model {
 	}
 	public void setCursorInViewCoordinates(Point q) {
 		if (q == null) {
-			view.getCanvas().invoke(false, new BasicUpdater() {
+			view.getDispatcher().post("cursor", new BasicUpdater() {
 				public void update(GL2 gl) {
 					cursor = null;
 				}
 			});
 			;
 		} else {
-			view.getCanvas().invoke(false, new ViewPointUpdater(q) {
+			view.getDispatcher().post("cursor", new ViewPointUpdater(q) {
 				public void update(double[] p) {
 					cursor = new Point2D.Double(p[0], p[1]);
 				}
@@ -219,6 +512,228 @@ public final class Model {
 
 	
 
+	// Show a playlist, loading its tracks a page at a time. Each page is
+	// appended as it arrives and the next one requested, so the list fills
+	// in while it's being looked at. Runs on the GL thread.
+	private void openPlaylist(MetadataService.Playlist p){
+		openPlaylist = p;
+		playlistTracks = new ArrayList<MetadataService.Track>();
+		playlistGeneration++;
+		curState = screenState.playlistView;
+		listScroll = 0;
+		listSelection = 0;
+
+		if (metadata != null)
+			loadPage(metadata, p.getId(), 0, playlistGeneration);
+	}
+
+	private void loadPage(MetadataService service, String id, int offset, int generation){
+		service.getPlaylistTracks(id, offset).whenComplete(new Answer<MetadataService.Page>() {
+			public void accept(MetadataService.Page page) {
+				view.getDispatcher().post(new BasicUpdater() {
+					public void update(GL2 gl) {
+						if (generation != playlistGeneration)
+							return; // Another playlist was opened
+
+						playlistTracks.addAll(page.getTracks());
+
+						if (page.getNext() >= 0)
+							loadPage(service, id, page.getNext(), generation);
+					}
+				});
+			}
+		});
+	}
+
+	// Ask for everything; the service's cache decides what actually goes out.
+	private void pollMetadata(MetadataService service){
+		service.getCurrentTrack().whenComplete(new Answer<MetadataService.Track>() {
+			public void accept(MetadataService.Track t) {
+				view.getDispatcher().post("track", new BasicUpdater() {
+					public void update(GL2 gl) {
+						if (t == null) {
+							songTitle = "Nothing playing";
+							songArtist = "";
+							songDuration = "0:00";
+							songArt = null;
+						} else {
+							songTitle = t.getTitle();
+							songArtist = t.getArtist();
+							songDuration = formatTime(t.getDuration());
+							songArt = t.getArtUrl();
+						}
+					}
+				});
+			}
+		});
+
+		service.getQueue().whenComplete(new Answer<List<MetadataService.Track>>() {
+			public void accept(List<MetadataService.Track> list) {
+				view.getDispatcher().post("queue", new BasicUpdater() {
+					public void update(GL2 gl) {
+						queue = list;
+					}
+				});
+			}
+		});
+
+		service.getPlaylists().whenComplete(new Answer<List<MetadataService.Playlist>>() {
+			public void accept(List<MetadataService.Playlist> list) {
+				view.getDispatcher().post("playlists", new BasicUpdater() {
+					public void update(GL2 gl) {
+						playlists = list;
+					}
+				});
+
+				indexPlaylists(service, list);
+			}
+		});
+	}
+
+	// Bring the search index up to date with the playlists: drop the ones
+	// that are gone, and (re)load the ones that are new or have a new
+	// snapshot. Without snapshots, a change in size is the best we can do.
+	private void indexPlaylists(MetadataService service, List<MetadataService.Playlist> list){
+		searcher.execute(new Runnable() {
+			public void run() {
+				HashMap<String, MetadataService.Playlist> current =
+						new HashMap<String, MetadataService.Playlist>();
+
+				for (MetadataService.Playlist p : list)
+					current.put(p.getId(), p);
+
+				Iterator<String> it = indexed.keySet().iterator();
+
+				while (it.hasNext()) {
+					String id = it.next();
+
+					if (!current.containsKey(id)) {
+						index.removeGroup(id);
+						it.remove();
+					}
+				}
+
+				for (MetadataService.Playlist p : list) {
+					MetadataService.Playlist old = indexed.get(p.getId());
+
+					if (old != null && isSameVersion(old, p))
+						continue;
+
+					if (old != null)
+						index.removeGroup(p.getId());
+
+					indexed.put(p.getId(), p);
+					indexPage(service, p, 0);
+				}
+			}
+		});
+	}
+
+	// Add a page of a playlist's tracks to the index, then ask for the next.
+	// Pages of a playlist that has since been reloaded or dropped are ignored.
+	// If a page can't be loaded, the pages before it are dropped too, and the
+	// playlist is forgotten so that the next refresh loads it from the start.
+	private void indexPage(MetadataService service, MetadataService.Playlist p, int offset){
+		service.getPlaylistTracks(p.getId(), offset).whenComplete(new Answer<MetadataService.Page>() {
+			public void accept(MetadataService.Page page) {
+				searcher.execute(new Runnable() {
+					public void run() {
+						if (indexed.get(p.getId()) != p)
+							return;
+
+						for (MetadataService.Track t : page.getTracks())
+							index.add(p.getId(), t);
+
+						if (page.getNext() >= 0)
+							indexPage(service, p, page.getNext());
+
+						if (activeQuery != null)
+							search(activeQuery);
+					}
+				});
+			}
+
+			public void fail(Throwable t) {
+				super.fail(t);
+
+				searcher.execute(new Runnable() {
+					public void run() {
+						if (indexed.get(p.getId()) != p)
+							return;
+
+						index.removeGroup(p.getId());
+						indexed.remove(p.getId());
+
+						if (activeQuery != null)
+							search(activeQuery);
+					}
+				});
+			}
+		});
+	}
+
+	// Whether two copies of a playlist have the same tracks, as far as we
+	// can tell from their snapshots (or their sizes, if there aren't any).
+	private static boolean isSameVersion(MetadataService.Playlist a, MetadataService.Playlist b){
+		if (a.getSnapshot() == null || b.getSnapshot() == null)
+			return a.getTracks() == b.getTracks();
+
+		return a.getSnapshot().equals(b.getSnapshot()) && a.getTracks() == b.getTracks();
+	}
+
+	// Change the query, back to the top of the results, and search for it.
+	// Runs on the GL thread.
+	private void setQuery(String q){
+		query = q;
+		activeQuery = q;
+		listScroll = 0;
+		listSelection = 0;
+		search(q);
+	}
+
+	// Search on the searcher thread, then show the results if the query
+	// hasn't changed in the meantime.
+	private void search(String q){
+		searcher.execute(new Runnable() {
+			public void run() {
+				List<MetadataService.Track> found = index.search(q, MAX_RESULTS);
+
+				view.getDispatcher().post("results", new BasicUpdater() {
+					public void update(GL2 gl) {
+						if (!q.equals(query))
+							return; // Typed more since
+
+						results = found;
+						listSelection = Math.max(0, Math.min(results.size() - 1, listSelection));
+					}
+				});
+			}
+		});
+	}
+
+	// Milliseconds as m:ss.
+	private static String formatTime(int millis){
+		int s = millis / 1000;
+
+		return (s / 60) + ":" + ((s % 60 < 10) ? "0" : "") + (s % 60);
+	}
+
+	// For use by the View on the GL thread ONLY, once the current list is laid
+	// out. Scrolls to show the selected item if it just moved, then keeps the
+	// scroll offset within the list.
+	void fitList(long extent, int height, long selectionTop, long selectionBottom){
+		if (listReveal) {
+			if (selectionTop < listScroll)
+				listScroll = selectionTop;
+			else if (selectionBottom > listScroll + height)
+				listScroll = selectionBottom - height;
+
+			listReveal = false;
+		}
+
+		listScroll = Math.max(0, Math.min(extent - height, listScroll));
+	}
+
 	// Special method for privileged use by the View class ONLY. This version
 	// avoids scheduling a Runnable on the OpenGL thread. Doing it this way is
 	// necessary to allow setObjectInViewCoordinates calls to work from other
@@ -272,6 +787,29 @@ public final class Model {
 
 		return true;
 	}
+	// Handles the answer to a metadata request, or reports its error (once,
+	// until a different error comes along).
+	private abstract class Answer<T> implements BiConsumer<T, Throwable> {
+		public final void accept(T value, Throwable t) {
+			if (t == null)
+				accept(value);
+			else
+				fail(t);
+		}
+
+		public abstract void accept(T value);
+
+		// Report the error, once until a different one comes along.
+		public void fail(Throwable t) {
+			String message = String.valueOf(t.getMessage());
+
+			if (!message.equals(pollError)) {
+				pollError = message;
+				System.err.println("Metadata: " + message);
+			}
+		}
+	}
+
 	// Convenience class to simplify the implementation of most updaters.
 	private abstract class BasicUpdater implements GLRunnable {
 		public final boolean run(GLAutoDrawable drawable) {
@@ -289,6 +827,7 @@ public final class Model {
 	// single point in view coordinates (integers/pixels).
 	private abstract class ViewPointUpdater extends BasicUpdater {
 		private final Point q;
+		private final double[] p = new double[3]; // Scene coordinates
 
 		public ViewPointUpdater(Point q) {
 			this.q = q;
@@ -296,8 +835,8 @@ public final class Model {
 
 		public final void update(GL2 gl) {
 			int h = view.getHeight();
-			double[] p = Utilities.mapViewToScene(gl, q.x, h - q.y, 0.0);
 
+			view.getTransform().viewToScene(q.x, h - q.y, 0.0, p);
 			update(p);
 		}
 
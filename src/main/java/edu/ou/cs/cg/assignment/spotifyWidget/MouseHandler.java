@@ -105,6 +105,10 @@ public final class MouseHandler extends MouseAdapter
 
 	public void		mouseWheelMoved(MouseWheelEvent e)
 	{
+		// Scroll lists three rows per notch; trackpads send fractions
+		double	rows = 3.0 * e.getPreciseWheelRotation();
+
+		model.scrollList(Math.round(rows * View.ROW_HEIGHT));
 	}
 
 	//**********************************************************************
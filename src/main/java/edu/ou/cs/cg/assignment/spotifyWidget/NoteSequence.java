@@ -0,0 +1,227 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Looping sequence of note events for the visualizer. Each event is a note
+// (which bar it hits) and a frequency (how hard it hits). Events are stored in
+// two parallel int arrays and played by advancing an index that wraps around
+// at the end, so playing never allocates or boxes anything.
+//
+// Sequences can be loaded from a text file with one event per line, a note and
+// a frequency separated by whitespace. Everything after a # on a line is a
+// comment. The file is parsed straight from a character buffer, so loading
+// millions of events creates no per-line garbage.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+//******************************************************************************
+
+/**
+ * The <CODE>NoteSequence</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public final class NoteSequence {
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	// State (internal) variables
+	private int[] notes; // Note (bar) of each event
+	private int[] freqs; // Frequency (magnitude) of each event
+	private int size; // Number of events
+	private int index; // Next event to play
+
+	// **********************************************************************
+	// Constructors and Finalizer
+	// **********************************************************************
+
+	public NoteSequence() {
+		this(16);
+	}
+
+	public NoteSequence(int capacity) {
+		capacity = Math.max(1, capacity);
+		notes = new int[capacity];
+		freqs = new int[capacity];
+		size = 0;
+		index = 0;
+	}
+
+	// **********************************************************************
+	// Getters and Setters
+	// **********************************************************************
+
+	public int getSize() {
+		return size;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public int getNote(int i) {
+		return notes[i];
+	}
+
+	public int getFreq(int i) {
+		return freqs[i];
+	}
+
+	// **********************************************************************
+	// Public Methods
+	// **********************************************************************
+
+	public void add(int note, int freq) {
+		if (size == notes.length) {
+			int capacity = 2 * notes.length;
+
+			notes = Arrays.copyOf(notes, capacity);
+			freqs = Arrays.copyOf(freqs, capacity);
+		}
+
+		notes[size] = note;
+		freqs[size] = freq;
+		size++;
+	}
+
+	// Return the index of the event to play now, and move to the next one,
+	// wrapping around at the end. Returns -1 if the sequence is empty.
+	public int next() {
+		if (size == 0)
+			return -1;
+
+		int i = index;
+
+		index = (index + 1 == size) ? 0 : index + 1;
+
+		return i;
+	}
+
+	// Start playing again from the first event.
+	public void rewind() {
+		index = 0;
+	}
+
+	// **********************************************************************
+	// Public Class Methods
+	// **********************************************************************
+
+	// A sequence of n random events, with notes in [0, bars).
+	public static NoteSequence random(Random random, int n, int bars) {
+		NoteSequence sequence = new NoteSequence(n);
+
+		for (int i = 0; i < n; i++)
+			sequence.add(random.nextInt(bars), random.nextInt(100));
+
+		return sequence;
+	}
+
+	// Load a sequence from a text file of "note freq" lines.
+	public static NoteSequence load(File file) throws IOException {
+		try (Reader reader = new InputStreamReader(new FileInputStream(file),
+				StandardCharsets.UTF_8)) {
+			return load(reader, (int) Math.min(file.length() / 8 + 16, 1 << 24));
+		}
+	}
+
+	// Load a sequence from "note freq" lines, guessing capacity events.
+	public static NoteSequence load(Reader reader, int capacity) throws IOException {
+		Parser parser = new Parser(new NoteSequence(capacity));
+		char[] buf = new char[1 << 16];
+		int n;
+
+		while ((n = reader.read(buf)) >= 0)
+			for (int i = 0; i < n; i++)
+				parser.feed(buf[i]);
+
+		parser.feed('\n'); // End the last line
+
+		return parser.sequence;
+	}
+
+	// **********************************************************************
+	// Inner Classes
+	// **********************************************************************
+
+	// Parses "note freq" lines one character at a time.
+	private static final class Parser {
+		private final NoteSequence sequence;
+		private int line = 1;
+		private int field = 0; // Fields finished on this line
+		private int note = 0; // First field, waiting for the second
+		private int value = 0; // Number being parsed
+		private boolean digits = false; // In a number?
+		private boolean negative = false; // Number has a minus sign?
+		private boolean comment = false; // In a comment?
+
+		public Parser(NoteSequence sequence) {
+			this.sequence = sequence;
+		}
+
+		public void feed(char c) throws IOException {
+			if (comment && c != '\n')
+				return;
+
+			if (c >= '0' && c <= '9') {
+				if (value > (Integer.MAX_VALUE - (c - '0')) / 10)
+					throw new IOException("Number too large on line " + line);
+
+				value = 10 * value + (c - '0');
+				digits = true;
+				return;
+			}
+
+			if (c == '-' && !digits && !negative) {
+				negative = true;
+				return;
+			}
+
+			// Anything else ends the current number
+			if (digits)
+				endNumber(negative ? -value : value);
+			else if (negative)
+				throw new IOException("Bad number on line " + line);
+
+			value = 0;
+			digits = false;
+			negative = false;
+
+			if (c == '#') {
+				comment = true;
+			} else if (c == '\n') {
+				if (field == 1)
+					throw new IOException("Missing frequency on line " + line);
+
+				field = 0;
+				comment = false;
+				line++;
+			} else if (c != ' ' && c != '\t' && c != '\r' && c != ',') {
+				throw new IOException("Unexpected '" + c + "' on line " + line);
+			}
+		}
+
+		private void endNumber(int v) throws IOException {
+			if (field == 0)
+				note = v;
+			else if (field == 1)
+				sequence.add(note, v);
+			else
+				throw new IOException("Too many fields on line " + line);
+
+			field++;
+		}
+	}
+}
+
+// ******************************************************************************
@@ -0,0 +1,549 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Type-ahead search over the titles, artists, and albums of tracks. Each
+// track's text is folded to lowercase letters and digits, with every run of
+// anything else collapsed to one space, and stored as one-byte symbols in a
+// single shared pool. Every three-symbol substring (trigram) of the text gets
+// a posting list: an int array of the tracks that contain it, in the order
+// they were added. Word starts also get a posting list for their first letter
+// alone, so that one-letter queries work.
+//
+// A query matches a track if every word of the query is the start of some
+// word in the track ("gau sha" matches "Gaussian Shader"). The candidates are
+// the intersection of the posting lists of the query's trigrams, starting
+// with the shortest, and each is checked against the track's text. If that
+// finds too few, tracks sharing most of the query's trigrams are added as
+// fuzzy matches, best first, so small typos still find things.
+//
+// Tracks are added in groups (one group per playlist) as they arrive and can
+// be removed a group at a time. Adding only appends to posting lists. Removed
+// tracks are skipped by searches until they outnumber the live ones, then the
+// index is rebuilt without them.
+//
+// Not thread-safe; use it from one thread at a time.
+//
+// See swtch.com/~rsc/regexp/regexp4.html for trigram indexing.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.text.Normalizer;
+import java.util.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>SearchIndex</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public final class SearchIndex {
+	// **********************************************************************
+	// Public Class Members
+	// **********************************************************************
+
+	public static final double FUZZY = 0.6; // Fraction of trigrams to share
+
+	// **********************************************************************
+	// Private Class Members
+	// **********************************************************************
+
+	private static final int SYMBOLS = 37; // Space, a-z, 0-9
+	private static final int GRAMS = SYMBOLS * SYMBOLS * SYMBOLS;
+	private static final int INTERSECT = 4; // Most lists to intersect
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	// Tracks
+	private MetadataService.Track[] tracks = new MetadataService.Track[256];
+	private boolean[] removed = new boolean[256];
+	private int size; // Tracks added, including removed ones
+	private int live; // Tracks not removed
+
+	// Folded text of track i is pool[start[i]] to pool[start[i+1]]
+	private byte[] pool = new byte[1 << 16];
+	private int[] start = new int[257];
+
+	// Posting lists, by trigram code
+	private final int[][] postings = new int[GRAMS][];
+	private final int[] lengths = new int[GRAMS];
+
+	// Tracks in each group
+	private final LinkedHashMap<String, IntList> groups = new LinkedHashMap<String, IntList>();
+
+	// Search scratch, reused
+	private int[] counts = new int[256]; // Trigrams shared, by track
+	private final IntList touched = new IntList(); // Tracks with counts
+	private final IntList matches = new IntList();
+	private final IntList candidates = new IntList();
+	private int[] cursors = new int[8]; // Positions in posting lists
+
+	// **********************************************************************
+	// Getters and Setters
+	// **********************************************************************
+
+	// Number of tracks that can be found.
+	public int getSize() {
+		return live;
+	}
+
+	// **********************************************************************
+	// Public Methods
+	// **********************************************************************
+
+	// Add a track to a group.
+	public void add(String group, MetadataService.Track track) {
+		int t = size;
+		String text = " " + track.getTitle() + " " + track.getArtist() + " " +
+				track.getAlbum() + " ";
+
+		if (t == tracks.length) {
+			tracks = Arrays.copyOf(tracks, 2 * t);
+			removed = Arrays.copyOf(removed, 2 * t);
+			start = Arrays.copyOf(start, 2 * t + 1);
+		}
+
+		tracks[t] = track;
+		removed[t] = false;
+		start[t + 1] = fold(text, start[t]);
+		size++;
+		live++;
+
+		IntList list = groups.get(group);
+
+		if (list == null) {
+			list = new IntList();
+			groups.put(group, list);
+		}
+
+		list.add(t);
+
+		// Post the trigrams, plus one gram for each word's first letter
+		int a = start[t];
+		int b = start[t + 1];
+
+		for (int i = a; i + 2 < b; i++) {
+			post(code(pool[i], pool[i + 1], pool[i + 2]), t);
+
+			if (pool[i] == 0)
+				post(code(0, 0, pool[i + 1]), t);
+		}
+	}
+
+	// Remove every track in a group.
+	public void removeGroup(String group) {
+		IntList list = groups.remove(group);
+
+		if (list == null)
+			return;
+
+		for (int i = 0; i < list.size; i++)
+			if (!removed[list.data[i]]) {
+				removed[list.data[i]] = true;
+				live--;
+			}
+
+		if (size - live > live)
+			compact();
+	}
+
+	// Up to max tracks matching the query: prefix matches first, in the order
+	// they were added, then fuzzy matches, best first.
+	public List<MetadataService.Track> search(String query, int max) {
+		List<MetadataService.Track> results = new ArrayList<MetadataService.Track>();
+		byte[] q = foldQuery(query);
+
+		if (q.length <= 1 || max <= 0)
+			return results;
+
+		IntList grams = grams(q);
+
+		exact(q, grams, max);
+
+		for (int i = 0; i < matches.size; i++)
+			results.add(tracks[matches.data[i]]);
+
+		if (results.size() < max && grams.size >= 3)
+			fuzzy(grams, max - results.size(), results);
+
+		return results;
+	}
+
+	// **********************************************************************
+	// Private Methods (Search)
+	// **********************************************************************
+
+	// Tracks containing every word of q as a word start, into matches. The
+	// posting lists are intersected by leapfrogging: each list in turn skips
+	// ahead (galloping) to the current candidate, and any list that overshoots
+	// it makes its own next track the new candidate. Shortest lists go first,
+	// since they skip the furthest. Only the few shortest lists are used at
+	// all: trigrams of the same word mostly pick the same tracks, so the rest
+	// cost more to intersect than they filter out, and matchesWords() checks
+	// every candidate anyway.
+	private void exact(byte[] q, IntList grams, int max) {
+		matches.clear();
+
+		int k = grams.size;
+
+		if (k == 0)
+			return;
+
+		// Insertion sort, shortest list first (there are only a few)
+		for (int i = 1; i < k; i++) {
+			int g = grams.data[i];
+			int j = i - 1;
+
+			while (j >= 0 && lengths[grams.data[j]] > lengths[g]) {
+				grams.data[j + 1] = grams.data[j];
+				j--;
+			}
+
+			grams.data[j + 1] = g;
+		}
+
+		k = Math.min(k, INTERSECT);
+
+		if (cursors.length < k)
+			cursors = new int[k];
+
+		Arrays.fill(cursors, 0, k, 0);
+
+		int t = 0; // Candidate
+
+		while (true) {
+			boolean all = true;
+
+			for (int i = 0; i < k; i++) {
+				int g = grams.data[i];
+				int p = seek(postings[g], lengths[g], cursors[i], t);
+
+				if (p == lengths[g])
+					return; // A list ran out
+
+				cursors[i] = p;
+
+				if (postings[g][p] > t) {
+					t = postings[g][p];
+					all = false;
+					break;
+				}
+			}
+
+			if (all) {
+				if (!removed[t] && matchesWords(q, t)) {
+					matches.add(t);
+
+					if (matches.size == max)
+						return;
+				}
+
+				t++;
+			}
+		}
+	}
+
+	// Tracks sharing at least FUZZY of the query's trigrams that aren't
+	// already results, best first.
+	private void fuzzy(IntList grams, int max, List<MetadataService.Track> results) {
+		if (counts.length < size)
+			counts = new int[tracks.length];
+
+		touched.clear();
+
+		for (int g = 0; g < grams.size; g++) {
+			int[] list = postings[grams.data[g]];
+
+			for (int i = 0; i < lengths[grams.data[g]]; i++) {
+				int t = list[i];
+
+				if (counts[t]++ == 0)
+					touched.add(t);
+			}
+		}
+
+		// Keep candidates that share enough and weren't exact matches
+		int need = (int) Math.ceil(FUZZY * grams.size);
+
+		for (int i = 0; i < matches.size; i++)
+			counts[matches.data[i]] = 0;
+
+		candidates.clear();
+
+		for (int i = 0; i < touched.size; i++) {
+			int t = touched.data[i];
+
+			if (counts[t] >= need && !removed[t])
+				candidates.add(t);
+		}
+
+		// Best first, then in the order added. Sort (count, track) packed
+		// into longs to avoid boxing.
+		long[] keys = new long[candidates.size];
+
+		for (int i = 0; i < candidates.size; i++) {
+			int t = candidates.data[i];
+
+			keys[i] = ((long) (grams.size - counts[t]) << 32) | t;
+		}
+
+		Arrays.sort(keys);
+
+		for (int i = 0; i < keys.length && i < max; i++)
+			results.add(tracks[(int) keys[i]]);
+
+		for (int i = 0; i < touched.size; i++)
+			counts[touched.data[i]] = 0;
+	}
+
+	// Index of the first of list[from..n) that is at least t, or n if none.
+	// Gallops from from, since the answer is usually close.
+	private static int seek(int[] list, int n, int from, int t) {
+		if (from >= n || list[from] >= t)
+			return from;
+
+		int lo = from; // list[lo] < t
+		int step = 1;
+
+		while (lo + step < n && list[lo + step] < t) {
+			lo += step;
+			step <<= 1;
+		}
+
+		int hi = Math.min(n, lo + step); // list[hi] >= t, or hi == n
+
+		while (hi - lo > 1) {
+			int mid = (lo + hi) >>> 1;
+
+			if (list[mid] < t)
+				lo = mid;
+			else
+				hi = mid;
+		}
+
+		return hi;
+	}
+
+	// Whether every word of q starts a word in track t's text.
+	private boolean matchesWords(byte[] q, int t) {
+		int i = 0;
+
+		while (i < q.length) {
+			int j = i + 1;
+
+			while (j < q.length && q[j] != 0)
+				j++;
+
+			if (j > i + 1 && !findWord(q, i, j, start[t], start[t + 1]))
+				return false;
+
+			i = j;
+		}
+
+		return true;
+	}
+
+	// Whether q[i..j) (a space and a word) occurs in pool[a..b).
+	private boolean findWord(byte[] q, int i, int j, int a, int b) {
+		int n = j - i;
+
+		for (int p = a; p + n <= b; p++) {
+			int k = 0;
+
+			while (k < n && pool[p + k] == q[i + k])
+				k++;
+
+			if (k == n)
+				return true;
+		}
+
+		return false;
+	}
+
+	// **********************************************************************
+	// Private Methods (Building)
+	// **********************************************************************
+
+	private void post(int gram, int t) {
+		int[] list = postings[gram];
+		int n = lengths[gram];
+
+		if (n > 0 && list[n - 1] == t) // Already posted for this track
+			return;
+
+		if (list == null) {
+			list = new int[4];
+			postings[gram] = list;
+		} else if (n == list.length) {
+			list = Arrays.copyOf(list, 2 * n);
+			postings[gram] = list;
+		}
+
+		list[n] = t;
+		lengths[gram] = n + 1;
+	}
+
+	// Fold text into the pool at offset p, returning the end offset.
+	private int fold(String text, int p) {
+		String s = Normalizer.normalize(text, Normalizer.Form.NFD);
+		int first = p;
+
+		if (p + s.length() > pool.length)
+			pool = Arrays.copyOf(pool, Math.max(2 * pool.length, p + s.length()));
+
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+
+			if (Character.getType(c) == Character.NON_SPACING_MARK)
+				continue; // Accent
+
+			int code = symbol(c);
+
+			if (code != 0 || p == first || pool[p - 1] != 0) // Collapse spaces
+				pool[p++] = (byte) code;
+		}
+
+		return p;
+	}
+
+	// Rebuild without the removed tracks, adding the rest back in the order
+	// they were first added, so results come out in the same order as before.
+	private void compact() {
+		MetadataService.Track[] old = tracks;
+		boolean[] gone = removed;
+		int oldSize = size;
+		String[] owners = new String[oldSize]; // Group of each track
+
+		for (Map.Entry<String, IntList> e : groups.entrySet()) {
+			IntList list = e.getValue();
+
+			for (int i = 0; i < list.size; i++)
+				owners[list.data[i]] = e.getKey();
+		}
+
+		tracks = new MetadataService.Track[Math.max(256, live)];
+		removed = new boolean[tracks.length];
+		start = new int[tracks.length + 1];
+		size = 0;
+		live = 0;
+		groups.clear();
+		Arrays.fill(postings, null);
+		Arrays.fill(lengths, 0);
+
+		for (int t = 0; t < oldSize; t++)
+			if (!gone[t])
+				add(owners[t], old[t]);
+	}
+
+	// **********************************************************************
+	// Private Class Methods
+	// **********************************************************************
+
+	private static int code(int a, int b, int c) {
+		return (a * SYMBOLS + b) * SYMBOLS + c;
+	}
+
+	// 1-26 for letters, 27-36 for digits, 0 for anything else.
+	private static int symbol(char c) {
+		if (c >= 'a' && c <= 'z')
+			return c - 'a' + 1;
+
+		if (c >= 'A' && c <= 'Z')
+			return c - 'A' + 1;
+
+		if (c >= '0' && c <= '9')
+			return c - '0' + 27;
+
+		return 0;
+	}
+
+	// A query folded like track text: starting with a space, words separated
+	// by single spaces, and no trailing space.
+	private static byte[] foldQuery(String query) {
+		String s = Normalizer.normalize(query, Normalizer.Form.NFD);
+		byte[] q = new byte[s.length() + 1];
+		int n = 1;
+
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+
+			if (Character.getType(c) == Character.NON_SPACING_MARK)
+				continue;
+
+			int code = symbol(c);
+
+			if (code != 0 || q[n - 1] != 0)
+				q[n++] = (byte) code;
+		}
+
+		if (n > 1 && q[n - 1] == 0)
+			n--;
+
+		return Arrays.copyOf(q, n);
+	}
+
+	// Codes of the grams every match must contain, without repeats. For each
+	// word: the trigrams from its leading space to its end (but not past it,
+	// since the word may be the start of a longer one), or the first-letter
+	// gram if it has only one letter.
+	private static IntList grams(byte[] q) {
+		IntList grams = new IntList();
+		int i = 0;
+
+		while (i < q.length) {
+			int j = i + 1;
+
+			while (j < q.length && q[j] != 0)
+				j++;
+
+			if (j - i == 2)
+				addUnique(grams, code(0, 0, q[i + 1]));
+
+			for (int k = i; k + 3 <= j; k++)
+				addUnique(grams, code(q[k], q[k + 1], q[k + 2]));
+
+			i = j;
+		}
+
+		return grams;
+	}
+
+	private static void addUnique(IntList list, int value) {
+		for (int i = 0; i < list.size; i++)
+			if (list.data[i] == value)
+				return;
+
+		list.add(value);
+	}
+
+	// **********************************************************************
+	// Inner Classes
+	// **********************************************************************
+
+	// Growable array of ints.
+	private static final class IntList {
+		private int[] data = new int[16];
+		private int size;
+
+		public void add(int value) {
+			if (size == data.length)
+				data = Arrays.copyOf(data, 2 * size);
+
+			data[size++] = value;
+		}
+
+		public void clear() {
+			size = 0;
+		}
+	}
+}
+
+// ******************************************************************************
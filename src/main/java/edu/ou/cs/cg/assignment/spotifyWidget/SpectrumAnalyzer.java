@@ -0,0 +1,284 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Background analysis of a WAV file into visualizer bar heights. A daemon
+// thread follows a play clock through the file, and about every HOP_MILLIS it
+// takes the SIZE samples ending at the current play position, applies a Hann
+// window, and runs a real FFT. The magnitudes of the FFT bins are grouped into
+// bars on a log frequency scale (so each bar covers the same musical
+// interval), converted to decibels, and scaled to bar heights.
+//
+// The real FFT packs the SIZE real samples into SIZE/2 complex values, runs
+// one complex radix-2 FFT of half the size, then untangles the even and odd
+// halves. The window, twiddle factors, bit reversal, and bar ranges are all
+// computed once, and all the work arrays are reused, so analysis doesn't
+// allocate.
+//
+// Heights are handed to the GL thread through a TripleBuffer, so neither the
+// analysis thread nor View.update() ever waits for the other.
+//
+// These pages are helpful:
+// en.wikipedia.org/wiki/Hann_function
+// www.dspguide.com/ch12/5.htm (FFT of real signals)
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import edu.ou.cs.cg.utilities.TripleBuffer;
+
+//******************************************************************************
+
+/**
+ * The <CODE>SpectrumAnalyzer</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public final class SpectrumAnalyzer implements Runnable {
+	// **********************************************************************
+	// Public Class Members
+	// **********************************************************************
+
+	public static final int SIZE = 2048; // Samples per FFT
+	public static final int HOP_MILLIS = 15; // Time between FFTs
+	public static final double MIN_FREQ = 40.0; // Bottom of the lowest bar
+	public static final double MAX_FREQ = 16000.0; // Top of the highest bar
+	public static final double FLOOR_DB = -60.0; // Bars are empty below this
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	// State (internal) variables
+	private final WavFile wav;
+	private final int bars;
+	private final float maxHeight; // Height of a bar at 0 dB
+	private final TripleBuffer heights;
+	private final Thread thread;
+
+	// Play clock, in frames of the file
+	private volatile boolean playing;
+	private volatile boolean running;
+	private long position; // Analysis thread only
+	private long last; // nanoTime of last advance
+
+	// Precomputed tables
+	private final float[] window = new float[SIZE];
+	private final float[] cos = new float[SIZE / 2]; // Twiddles for SIZE
+	private final float[] sin = new float[SIZE / 2];
+	private final int[] reverse = new int[SIZE / 2];
+	private final int[] lo; // First FFT bin of each bar
+	private final int[] hi; // Last FFT bin of each bar, exclusive
+
+	// Work arrays
+	private final float[] samples = new float[SIZE];
+	private final float[] re = new float[SIZE / 2];
+	private final float[] im = new float[SIZE / 2];
+	private final float[] mag = new float[SIZE / 2 + 1];
+
+	// **********************************************************************
+	// Constructors and Finalizer
+	// **********************************************************************
+
+	// Analyze wav into the given number of bars, each up to maxHeight high.
+	public SpectrumAnalyzer(WavFile wav, int bars, float maxHeight) {
+		this.wav = wav;
+		this.bars = bars;
+		this.maxHeight = maxHeight;
+		this.heights = new TripleBuffer(bars);
+
+		for (int i = 0; i < SIZE; i++)
+			window[i] = (float) (0.5 - 0.5 * Math.cos(2.0 * Math.PI * i / (SIZE - 1)));
+
+		for (int i = 0; i < SIZE / 2; i++) {
+			double a = -2.0 * Math.PI * i / SIZE;
+
+			cos[i] = (float) Math.cos(a);
+			sin[i] = (float) Math.sin(a);
+		}
+
+		int m = SIZE / 2;
+		int bits = Integer.numberOfTrailingZeros(m);
+
+		for (int i = 0; i < m; i++)
+			reverse[i] = Integer.reverse(i) >>> (32 - bits);
+
+		// Log-spaced bar edges, each bar at least one bin wide
+		lo = new int[bars];
+		hi = new int[bars];
+
+		double top = Math.min(MAX_FREQ, 0.5 * wav.getSampleRate());
+		double hz = (double) wav.getSampleRate() / SIZE; // Per bin
+		int next = 1; // Skip DC
+
+		for (int b = 0; b < bars; b++) {
+			double f = MIN_FREQ * Math.pow(top / MIN_FREQ, (b + 1) / (double) bars);
+			int end = Math.min(SIZE / 2 + 1, Math.max(next + 1, (int) Math.round(f / hz)));
+
+			lo[b] = Math.min(next, SIZE / 2);
+			hi[b] = Math.max(lo[b] + 1, end);
+			next = hi[b];
+		}
+
+		thread = new Thread(this, "SpectrumAnalyzer");
+		thread.setDaemon(true);
+	}
+
+	// **********************************************************************
+	// Getters and Setters
+	// **********************************************************************
+
+	public int getBars() {
+		return bars;
+	}
+
+	public void setPlaying(boolean playing) {
+		this.playing = playing;
+	}
+
+	// The latest bar heights. Call from one thread only (the GL thread). The
+	// array is valid until the next call.
+	public float[] getHeights() {
+		return heights.acquire();
+	}
+
+	// **********************************************************************
+	// Public Methods
+	// **********************************************************************
+
+	public void start() {
+		running = true;
+		last = System.nanoTime();
+		thread.start();
+	}
+
+	public void stop() {
+		running = false;
+		thread.interrupt();
+	}
+
+	// **********************************************************************
+	// Override Methods (Runnable)
+	// **********************************************************************
+
+	public void run() {
+		while (running) {
+			long now = System.nanoTime();
+
+			if (playing) {
+				position += (now - last) * wav.getSampleRate() / 1000000000L;
+
+				if (position >= wav.getFrames())
+					position = 0; // Loop
+			}
+
+			last = now;
+
+			analyze(position, heights.getBack());
+			heights.publish();
+
+			try {
+				Thread.sleep(HOP_MILLIS);
+			} catch (InterruptedException e) {
+				return;
+			}
+		}
+	}
+
+	// **********************************************************************
+	// Public Methods (Analysis)
+	// **********************************************************************
+
+	// Compute bar heights for the SIZE frames ending at frame end.
+	public void analyze(long end, float[] out) {
+		wav.read(end - SIZE, samples, 0, SIZE);
+
+		for (int i = 0; i < SIZE; i++)
+			samples[i] *= window[i];
+
+		fft();
+
+		// Bars take the loudest bin in their range, in dB relative to a full
+		// scale sine (whose windowed magnitude is SIZE/4)
+		float norm = 4.0f / SIZE;
+
+		for (int b = 0; b < bars; b++) {
+			float m = 0.0f;
+
+			for (int k = lo[b]; k < hi[b]; k++)
+				m = Math.max(m, mag[k]);
+
+			double db = 20.0 * Math.log10(Math.max(m * norm, 1.0e-10));
+			double t = Math.max(0.0, 1.0 - db / FLOOR_DB);
+
+			out[b] = (float) (t * maxHeight);
+		}
+	}
+
+	// **********************************************************************
+	// Private Methods
+	// **********************************************************************
+
+	// Real FFT of samples into mag[0..SIZE/2].
+	private void fft() {
+		int m = SIZE / 2;
+
+		// Pack even samples as real parts and odd samples as imaginary parts,
+		// in bit-reversed order for the in-place transform
+		for (int i = 0; i < m; i++) {
+			int j = reverse[i];
+
+			re[j] = samples[2 * i];
+			im[j] = samples[2 * i + 1];
+		}
+
+		// Iterative radix-2 complex FFT of size m. Twiddles for size m are
+		// every other twiddle for SIZE.
+		for (int len = 2; len <= m; len <<= 1) {
+			int half = len >> 1;
+			int step = SIZE / len;
+
+			for (int i = 0; i < m; i += len) {
+				for (int k = 0; k < half; k++) {
+					float wr = cos[k * step];
+					float wi = sin[k * step];
+					int a = i + k;
+					int b = a + half;
+					float tr = wr * re[b] - wi * im[b];
+					float ti = wr * im[b] + wi * re[b];
+
+					re[b] = re[a] - tr;
+					im[b] = im[a] - ti;
+					re[a] += tr;
+					im[a] += ti;
+				}
+			}
+		}
+
+		// Untangle: X[k] = E[k] + W^k O[k], where E and O are the transforms
+		// of the even and odd samples recovered from Z[k] and conj(Z[m-k])
+		mag[0] = Math.abs(re[0] + im[0]);
+		mag[m] = Math.abs(re[0] - im[0]);
+
+		for (int k = 1; k < m; k++) {
+			float zr = re[k];
+			float zi = im[k];
+			float cr = re[m - k];
+			float ci = -im[m - k];
+			float er = 0.5f * (zr + cr);
+			float ei = 0.5f * (zi + ci);
+			float or = 0.5f * (zi - ci); // (z - conj) / 2i
+			float oi = -0.5f * (zr - cr);
+			float xr = er + cos[k] * or - sin[k] * oi;
+			float xi = ei + cos[k] * oi + sin[k] * or;
+
+			mag[k] = (float) Math.sqrt(xr * xr + xi * xi);
+		}
+	}
+}
+
+// ******************************************************************************
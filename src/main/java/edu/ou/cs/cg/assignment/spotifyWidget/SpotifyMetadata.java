@@ -0,0 +1,539 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// MetadataService for the Spotify Web API. Requests go through a Transport,
+// which is either HTTP to the real API (HttpTransport) or an in-process fake
+// of it (StubTransport), so everything here behaves the same online or off.
+// Responses are parsed with the model classes of spotify-web-api-java.
+//
+// Requests are handled in four layers, in order:
+//
+//   1. Cache. Each response body is kept with its ETag and an expiration time
+//      (a TTL that depends on the endpoint). Until it expires, requests are
+//      answered from the cache without touching the network. The cache is
+//      least-recently-used, with a budget of MAX_CACHE_BYTES for paths and
+//      bodies together; an entry is dropped when it would go over, or once
+//      it has been expired for longer than MAX_STALE (after which its ETag
+//      isn't worth keeping to revalidate with).
+//   2. Sharing. A request for a path that is already on its way shares the
+//      future of the one in flight instead of making another.
+//   3. Rate limiting. A TokenBucket spaces requests out to what the API
+//      allows. A request that has to wait is rescheduled on the executor,
+//      not slept on, so no thread waits. A 429 response pauses the bucket
+//      for the server's Retry-After and then tries again.
+//   4. Revalidation. An expired entry is requested with If-None-Match, so a
+//      304 renews it without the server resending the body.
+//
+// All of this runs on a small pool of daemon threads. Results come back as
+// CompletableFutures that complete on those threads.
+//
+// See developer.spotify.com/documentation/web-api/concepts/rate-limits
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import se.michaelthelin.spotify.model_objects.IPlaylistItem;
+import se.michaelthelin.spotify.model_objects.miscellaneous.CurrentlyPlaying;
+import se.michaelthelin.spotify.model_objects.special.PlaybackQueue;
+import se.michaelthelin.spotify.model_objects.specification.ArtistSimplified;
+import se.michaelthelin.spotify.model_objects.specification.Episode;
+import se.michaelthelin.spotify.model_objects.specification.Image;
+import se.michaelthelin.spotify.model_objects.specification.Paging;
+import se.michaelthelin.spotify.model_objects.specification.PlaylistSimplified;
+import se.michaelthelin.spotify.model_objects.specification.PlaylistTrack;
+import edu.ou.cs.cg.utilities.Histogram;
+import edu.ou.cs.cg.utilities.TokenBucket;
+
+//******************************************************************************
+
+/**
+ * The <CODE>SpotifyMetadata</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public final class SpotifyMetadata implements MetadataService {
+	// **********************************************************************
+	// Public Class Members
+	// **********************************************************************
+
+	public static final String CURRENT_PATH = "/me/player/currently-playing";
+	public static final String QUEUE_PATH = "/me/player/queue";
+	public static final String PLAYLISTS_PATH = "/me/playlists?limit=50";
+	public static final String PLAYLIST_PATH = "/playlists/"; // + id + ...
+	public static final int PAGE_LIMIT = 100; // Most tracks the API sends
+
+	public static final long CURRENT_TTL = 2000; // Milliseconds
+	public static final long QUEUE_TTL = 5000;
+	public static final long PLAYLISTS_TTL = 60000;
+
+	public static final int BURST = 5; // Requests at once
+	public static final double RATE = 2.0; // Requests per second after
+	public static final int MAX_RETRIES = 3; // After 429s, per request
+	public static final int DEFAULT_RETRY_AFTER = 1; // Seconds, if not given
+	public static final long MAX_LATENCY = 60000000L; // Microseconds, tracked
+	public static final long MAX_CACHE_BYTES = 4L << 20; // Paths + bodies
+	public static final long MAX_STALE = 300000; // Milliseconds past expiry
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	// State (internal) variables
+	private final Transport transport;
+	private final TokenBucket bucket;
+	private final ScheduledExecutorService executor;
+	private final LinkedHashMap<String, Entry> cache; // By path, LRU first
+	private long cacheBytes; // Held by cache; both guarded by cache
+	private final ConcurrentHashMap<String, CompletableFuture<String>> inflight;
+
+	// Statistics
+	private final AtomicLong hits = new AtomicLong(); // Answered from cache
+	private final AtomicLong shared = new AtomicLong(); // Joined a request
+	private final AtomicLong downloaded = new AtomicLong(); // 200s
+	private final AtomicLong revalidated = new AtomicLong(); // 304s
+	private final AtomicLong throttled = new AtomicLong(); // 429s
+	private final AtomicLong failed = new AtomicLong(); // Gave up
+	private final AtomicLong evictions = new AtomicLong(); // Dropped entries
+	private final Histogram latencies = new Histogram(MAX_LATENCY); // us
+
+	// **********************************************************************
+	// Constructors and Finalizer
+	// **********************************************************************
+
+	public SpotifyMetadata(Transport transport) {
+		this(transport, new TokenBucket(BURST, RATE));
+	}
+
+	public SpotifyMetadata(Transport transport, TokenBucket bucket) {
+		this.transport = transport;
+		this.bucket = bucket;
+
+		cache = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+		inflight = new ConcurrentHashMap<String, CompletableFuture<String>>();
+		executor = Executors.newScheduledThreadPool(2, new ThreadFactory() {
+			private int count = 0;
+
+			public synchronized Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "SpotifyMetadata-" + (++count));
+
+				thread.setDaemon(true);
+
+				return thread;
+			}
+		});
+	}
+
+	// **********************************************************************
+	// Getters and Setters
+	// **********************************************************************
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getShared() {
+		return shared.get();
+	}
+
+	public long getDownloaded() {
+		return downloaded.get();
+	}
+
+	public long getRevalidated() {
+		return revalidated.get();
+	}
+
+	public long getThrottled() {
+		return throttled.get();
+	}
+
+	public long getFailed() {
+		return failed.get();
+	}
+
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	// Bytes (as chars x 2) of paths and bodies in the cache.
+	public long getCacheBytes() {
+		synchronized (cache) {
+			return cacheBytes;
+		}
+	}
+
+	// Microseconds from asking the network to having an answer, for each
+	// request answered (including time waiting on the rate limit).
+	public Histogram getLatencies() {
+		return latencies;
+	}
+
+	// **********************************************************************
+	// Override Methods (MetadataService)
+	// **********************************************************************
+
+	public CompletableFuture<Track> getCurrentTrack() {
+		return fetch(CURRENT_PATH, CURRENT_TTL).thenApply(new Function<String, Track>() {
+			public Track apply(String json) {
+				return parseCurrent(json);
+			}
+		});
+	}
+
+	public CompletableFuture<List<Track>> getQueue() {
+		return fetch(QUEUE_PATH, QUEUE_TTL).thenApply(new Function<String, List<Track>>() {
+			public List<Track> apply(String json) {
+				return parseQueue(json);
+			}
+		});
+	}
+
+	public CompletableFuture<List<Playlist>> getPlaylists() {
+		return fetch(PLAYLISTS_PATH, PLAYLISTS_TTL).thenApply(new Function<String, List<Playlist>>() {
+			public List<Playlist> apply(String json) {
+				return parsePlaylists(json);
+			}
+		});
+	}
+
+	public CompletableFuture<Page> getPlaylistTracks(String id, final int offset) {
+		String path = PLAYLIST_PATH + id + "/tracks?offset=" + offset + "&limit=" + PAGE_LIMIT;
+
+		return fetch(path, PLAYLISTS_TTL).thenApply(new Function<String, Page>() {
+			public Page apply(String json) {
+				return parsePage(json, offset);
+			}
+		});
+	}
+
+	public void shutdown() {
+		executor.shutdownNow();
+		transport.close();
+	}
+
+	// **********************************************************************
+	// Private Methods (Requests)
+	// **********************************************************************
+
+	// The body at path: from the cache if fresh, else from the request
+	// already in flight for it, else from a new request.
+	private CompletableFuture<String> fetch(final String path, long ttl) {
+		Entry entry = lookup(path);
+
+		if (entry != null && System.nanoTime() - entry.expires < 0) {
+			hits.incrementAndGet();
+			return CompletableFuture.completedFuture(entry.body);
+		}
+
+		final CompletableFuture<String> future = new CompletableFuture<String>();
+		CompletableFuture<String> other = inflight.putIfAbsent(path, future);
+
+		if (other != null) {
+			shared.incrementAndGet();
+			return other;
+		}
+
+		future.whenComplete(new BiConsumer<String, Throwable>() {
+			public void accept(String body, Throwable t) {
+				inflight.remove(path, future);
+			}
+		});
+
+		try {
+			executor.execute(new Attempt(path, ttl, future));
+		} catch (RejectedExecutionException e) { // Shut down
+			future.completeExceptionally(e);
+		}
+
+		return future;
+	}
+
+	// **********************************************************************
+	// Private Methods (Cache)
+	// **********************************************************************
+
+	private Entry lookup(String path) {
+		synchronized (cache) {
+			return cache.get(path);
+		}
+	}
+
+	// Add or replace the entry for path, then drop entries long expired and
+	// least recently used ones until the cache is within budget. An entry
+	// bigger than the whole budget isn't kept.
+	private void store(String path, Entry entry, long now) {
+		synchronized (cache) {
+			Entry old = cache.put(path, entry);
+
+			if (old != null)
+				cacheBytes -= old.bytes;
+
+			cacheBytes += entry.bytes;
+
+			long stale = TimeUnit.MILLISECONDS.toNanos(MAX_STALE);
+			Iterator<Entry> i = cache.values().iterator();
+
+			while (i.hasNext()) {
+				Entry e = i.next();
+
+				if (cacheBytes > MAX_CACHE_BYTES || now - e.expires > stale) {
+					cacheBytes -= e.bytes;
+					i.remove();
+					evictions.incrementAndGet();
+				}
+			}
+		}
+	}
+
+	// **********************************************************************
+	// Private Class Methods (Parsing)
+	// **********************************************************************
+
+	private static Track parseCurrent(String json) {
+		if (json.isEmpty()) // 204, nothing playing
+			return null;
+
+		return toTrack(new CurrentlyPlaying.JsonUtil().createModelObject(json).getItem());
+	}
+
+	private static List<Track> parseQueue(String json) {
+		List<Track> tracks = new ArrayList<Track>();
+
+		if (!json.isEmpty()) {
+			PlaybackQueue queue = new PlaybackQueue.JsonUtil().createModelObject(json);
+
+			if (queue.getQueue() != null)
+				for (IPlaylistItem item : queue.getQueue()) {
+					Track track = toTrack(item);
+
+					if (track != null)
+						tracks.add(track);
+				}
+		}
+
+		return Collections.unmodifiableList(tracks);
+	}
+
+	private static List<Playlist> parsePlaylists(String json) {
+		List<Playlist> playlists = new ArrayList<Playlist>();
+
+		if (!json.isEmpty()) {
+			Paging<PlaylistSimplified> page = new PlaylistSimplified.JsonUtil()
+					.createModelObjectPaging(json);
+
+			if (page.getItems() != null)
+				for (PlaylistSimplified p : page.getItems()) {
+					int n = (p.getTracks() != null && p.getTracks().getTotal() != null)
+							? p.getTracks().getTotal() : 0;
+
+					playlists.add(new Playlist(p.getId(), p.getName(), n, p.getSnapshotId()));
+				}
+		}
+
+		return Collections.unmodifiableList(playlists);
+	}
+
+	private static Page parsePage(String json, int offset) {
+		List<Track> tracks = new ArrayList<Track>();
+		Paging<PlaylistTrack> page = new PlaylistTrack.JsonUtil().createModelObjectPaging(json);
+		PlaylistTrack[] items = page.getItems();
+		int n = (items != null) ? items.length : 0;
+		int total = (page.getTotal() != null) ? page.getTotal() : offset + n;
+
+		for (int i = 0; i < n; i++) {
+			Track track = toTrack(items[i].getTrack());
+
+			if (track != null)
+				tracks.add(track);
+		}
+
+		// The server may send fewer than were asked for
+		int next = (page.getNext() != null && n > 0) ? offset + n : -1;
+
+		return new Page(Collections.unmodifiableList(tracks), offset, next, total);
+	}
+
+	private static Track toTrack(IPlaylistItem item) {
+		if (item == null)
+			return null;
+
+		String artist = "";
+		String album = "";
+		Image[] images = null;
+
+		if (item instanceof se.michaelthelin.spotify.model_objects.specification.Track) {
+			se.michaelthelin.spotify.model_objects.specification.Track t =
+					(se.michaelthelin.spotify.model_objects.specification.Track) item;
+			StringBuilder sb = new StringBuilder();
+
+			if (t.getArtists() != null)
+				for (ArtistSimplified a : t.getArtists())
+					sb.append(sb.length() > 0 ? ", " : "").append(a.getName());
+
+			artist = sb.toString();
+
+			if (t.getAlbum() != null) {
+				album = t.getAlbum().getName();
+				images = t.getAlbum().getImages();
+			}
+		} else if (item instanceof Episode) {
+			Episode e = (Episode) item;
+
+			if (e.getShow() != null)
+				artist = e.getShow().getName();
+
+			images = e.getImages();
+		}
+
+		// Spotify lists images widest first
+		String art = (images != null && images.length > 0) ? images[0].getUrl() : null;
+		int duration = (item.getDurationMs() != null) ? item.getDurationMs() : 0;
+
+		return new Track(item.getId(), item.getName(), artist, album, art, duration);
+	}
+
+	// **********************************************************************
+	// Inner Classes
+	// **********************************************************************
+
+	// Where requests go. Implementations may block; they're only called on
+	// the executor's threads.
+	public interface Transport {
+		// GET path (relative to the API root), with If-None-Match if etag
+		// isn't null.
+		public Response get(String path, String etag) throws IOException;
+
+		public void close();
+	}
+
+	// What came back from a Transport.
+	public static final class Response {
+		private final int status; // HTTP status code
+		private final String body; // Null unless 200
+		private final String etag; // Null if none
+		private final int retryAfter; // Seconds, or -1 if none
+
+		public Response(int status, String body, String etag, int retryAfter) {
+			this.status = status;
+			this.body = body;
+			this.etag = etag;
+			this.retryAfter = retryAfter;
+		}
+
+		public int getStatus() {
+			return status;
+		}
+
+		public String getBody() {
+			return body;
+		}
+
+		public String getEtag() {
+			return etag;
+		}
+
+		public int getRetryAfter() {
+			return retryAfter;
+		}
+	}
+
+	// A cached response body.
+	private static final class Entry {
+		private final String body;
+		private final String etag;
+		private final long expires; // nanoTime
+		private final long bytes; // Path and body, as chars x 2
+
+		public Entry(String path, String body, String etag, long expires) {
+			this.body = body;
+			this.etag = etag;
+			this.expires = expires;
+			this.bytes = 2L * (path.length() + body.length());
+		}
+	}
+
+	// One request, tried until it gets an answer, runs out of retries, or
+	// fails. Reschedules itself whenever the bucket says to wait.
+	private final class Attempt implements Runnable {
+		private final String path;
+		private final long ttl; // Nanoseconds
+		private final CompletableFuture<String> future;
+		private final long started = System.nanoTime();
+		private int retries = 0;
+
+		public Attempt(String path, long ttl, CompletableFuture<String> future) {
+			this.path = path;
+			this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+			this.future = future;
+		}
+
+		public void run() {
+			try {
+				long wait = bucket.acquire(System.nanoTime());
+
+				if (wait > 0) {
+					executor.schedule(this, wait, TimeUnit.NANOSECONDS);
+					return;
+				}
+
+				Entry entry = lookup(path);
+				Response r = transport.get(path, (entry != null) ? entry.etag : null);
+				long now = System.nanoTime();
+
+				switch (r.getStatus()) {
+					case 200:
+					case 204: // No content
+						String body = (r.getBody() != null) ? r.getBody() : "";
+
+						downloaded.incrementAndGet();
+						latencies.recordAtomic((now - started) / 1000L);
+						store(path, new Entry(path, body, r.getEtag(), now + ttl), now);
+						future.complete(body);
+						break;
+
+					case 304:
+						if (entry == null)
+							throw new IOException("Unexpected 304 for " + path);
+
+						revalidated.incrementAndGet();
+						latencies.recordAtomic((now - started) / 1000L);
+						store(path, new Entry(path, entry.body, entry.etag, now + ttl), now);
+						future.complete(entry.body);
+						break;
+
+					case 429:
+						throttled.incrementAndGet();
+
+						if (++retries > MAX_RETRIES)
+							throw new IOException("Rate limited on " + path);
+
+						int after = (r.getRetryAfter() >= 0) ? r.getRetryAfter()
+								: DEFAULT_RETRY_AFTER;
+
+						bucket.pause(now + TimeUnit.SECONDS.toNanos(after));
+						executor.execute(this); // Bucket will make it wait
+						break;
+
+					default:
+						throw new IOException("HTTP " + r.getStatus() + " for " + path);
+				}
+			} catch (Exception e) {
+				failed.incrementAndGet();
+				future.completeExceptionally(e);
+			}
+		}
+	}
+}
+
+// ******************************************************************************
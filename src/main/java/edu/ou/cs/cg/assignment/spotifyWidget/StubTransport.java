@@ -0,0 +1,411 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// In-process stand-in for the Spotify Web API, for running and testing the
+// widget offline. It answers the same paths with the same JSON shapes as the
+// real API, from a fixed list of made-up tracks that advance every
+// trackMillis. Like the real API, it tags responses with ETags and answers
+// If-None-Match with 304 when nothing has changed, and it limits its own
+// request rate with a TokenBucket, answering 429 with a Retry-After when
+// clients go too fast. An optional delay imitates network latency.
+//
+// Album art is drawn into temporary PNG files the first time it's asked for,
+// and served as file: URLs, so art loading can be exercised offline too.
+//
+// Playlists hold made-up tracks named by combining words, up to tens of
+// thousands per playlist, to exercise paging and long lists. Pages are bigger
+// than the real API allows (the client asks for PAGE_LIMIT, but servers may
+// send a different number), so large playlists load in reasonable time
+// through the client's rate limit.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import javax.imageio.ImageIO;
+import edu.ou.cs.cg.utilities.TokenBucket;
+
+//******************************************************************************
+
+/**
+ * The <CODE>StubTransport</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public final class StubTransport implements SpotifyMetadata.Transport {
+	// **********************************************************************
+	// Public Class Members
+	// **********************************************************************
+
+	public static final int QUEUE_LENGTH = 5; // Tracks after the current one
+	public static final int RETRY_AFTER = 1; // Seconds, when rate limited
+	public static final int ART_SIZE = 640; // Width and height of album art
+	public static final int PAGE_SIZE = 1000; // Playlist tracks per page
+
+	// Title, artist, album, duration in seconds
+	private static final String[][] TRACKS = new String[][] {
+		{ "Orbit Decay", "The Lagrange Points", "Stable Orbits", "214" },
+		{ "Rasterize Me", "Scanline", "Fill Rules", "187" },
+		{ "Homogeneous Coordinates", "W Divide", "Projective Space", "243" },
+		{ "Z-Fighting", "Depth Buffer", "Near and Far", "172" },
+		{ "Gouraud Afternoon", "Phong & the Normals", "Smooth Shading", "265" },
+		{ "Mipmap Lullaby", "Trilinear", "Level of Detail", "198" },
+		{ "Bresenham Line", "Midpoint", "Integer Only", "156" },
+		{ "Clip Space", "Sutherland-Hodgman", "Inside Out", "229" },
+	};
+
+	// Name, number of tracks
+	private static final String[][] PLAYLISTS = new String[][] {
+		{ "Rendering Pipeline", "42" },
+		{ "Late Night Shaders", "17" },
+		{ "Matrix Stack", "880" },
+		{ "Anti-Aliased", "23" },
+		{ "Everything Rasterized", "60000" },
+		{ "Deep Archive", "40000" },
+	};
+
+	// Words for the titles, artists, and albums of playlist tracks
+	private static final String[] ADJECTIVES = new String[] {
+		"Affine", "Barycentric", "Cubic", "Diffuse", "Euclidean", "Fractal",
+		"Gaussian", "Hyperbolic", "Isometric", "Jittered", "Kinetic",
+		"Linear", "Mirrored", "Normalized", "Orthogonal", "Procedural",
+		"Quadratic", "Radiant", "Specular", "Tessellated", "Uniform",
+		"Volumetric", "Wireframe", "Ambient", "Bezier", "Convex", "Dithered",
+		"Emissive", "Flat", "Global", "Hidden", "Indirect",
+	};
+
+	private static final String[] NOUNS = new String[] {
+		"Horizon", "Vertex", "Fragment", "Shadow", "Spline", "Quaternion",
+		"Frustum", "Viewport", "Texel", "Raster", "Gradient", "Lattice",
+		"Manifold", "Polygon", "Sampler", "Surface", "Voxel", "Kernel",
+		"Pixel", "Normal", "Tangent", "Matrix", "Octree", "Photon", "Mesh",
+		"Light", "Camera", "Canvas", "Scanline", "Triangle", "Buffer",
+		"Sprite", "Blend", "Stencil", "Shader", "Bounce", "Cascade",
+	};
+
+	private static final String[] BANDS = new String[] {
+		"The Lagrange Points", "Scanline", "W Divide", "Depth Buffer",
+		"Phong & the Normals", "Trilinear", "Midpoint", "Sutherland-Hodgman",
+		"Catmull-Clark", "The Bresenhams", "Alpha Channel", "Cook-Torrance",
+		"Nyquist", "Kd Tree", "Marching Cubes", "Moire Pattern", "Aliasing",
+		"Bump Map", "Half Vector", "Lambert", "Blinn", "Gimbal Lock",
+	};
+
+	// file: URLs of album art, drawn when first needed
+	private static final String[] ART = new String[TRACKS.length];
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	// State (internal) variables
+	private final long start; // nanoTime when "playback" started
+	private final long trackMillis; // How long each track lasts
+	private final long latency; // Milliseconds to sleep per request
+	private final TokenBucket limit; // Server-side rate limit
+
+	// Statistics
+	private final AtomicLong requests = new AtomicLong(); // All requests
+	private final AtomicLong limited = new AtomicLong(); // Answered 429
+
+	// **********************************************************************
+	// Constructors and Finalizer
+	// **********************************************************************
+
+	public StubTransport() {
+		this(30000, 50, new TokenBucket(10, 5.0));
+	}
+
+	// A new track every trackMillis, latency ms per request, and requests
+	// beyond what limit allows answered with 429.
+	public StubTransport(long trackMillis, long latency, TokenBucket limit) {
+		this.start = System.nanoTime();
+		this.trackMillis = Math.max(1, trackMillis);
+		this.latency = latency;
+		this.limit = limit;
+	}
+
+	// **********************************************************************
+	// Getters and Setters
+	// **********************************************************************
+
+	public long getRequests() {
+		return requests.get();
+	}
+
+	public long getLimited() {
+		return limited.get();
+	}
+
+	// **********************************************************************
+	// Override Methods (Transport)
+	// **********************************************************************
+
+	public SpotifyMetadata.Response get(String path, String etag) throws IOException {
+		requests.incrementAndGet();
+
+		if (latency > 0) {
+			try {
+				Thread.sleep(latency);
+			} catch (InterruptedException e) {
+				throw new IOException("Interrupted");
+			}
+		}
+
+		long now = System.nanoTime();
+
+		if (limit != null && limit.acquire(now) > 0) {
+			limited.incrementAndGet();
+			return new SpotifyMetadata.Response(429, null, null, RETRY_AFTER);
+		}
+
+		int current = (int) (TimeUnit.NANOSECONDS.toMillis(now - start) / trackMillis);
+		String body;
+
+		if (path.startsWith(SpotifyMetadata.CURRENT_PATH))
+			body = currentlyPlaying(current);
+		else if (path.startsWith(SpotifyMetadata.QUEUE_PATH))
+			body = queue(current);
+		else if (path.startsWith("/me/playlists"))
+			body = playlists();
+		else if (path.startsWith(SpotifyMetadata.PLAYLIST_PATH))
+			body = playlistTracks(path);
+		else
+			return new SpotifyMetadata.Response(404, null, null, -1);
+
+		// Strong ETag from the content, so unchanged responses match
+		String tag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+
+		if (tag.equals(etag))
+			return new SpotifyMetadata.Response(304, null, tag, -1);
+
+		return new SpotifyMetadata.Response(200, body, tag, -1);
+	}
+
+	public void close() {
+	}
+
+	// **********************************************************************
+	// Private Methods (Responses)
+	// **********************************************************************
+
+	// Progress is left out so that the body (and ETag) only changes with the
+	// track, as if the client polled without asking for progress.
+	private String currentlyPlaying(int current) {
+		JsonObject o = new JsonObject();
+
+		o.addProperty("is_playing", true);
+		o.addProperty("currently_playing_type", "track");
+		o.add("item", track(current));
+
+		return o.toString();
+	}
+
+	private String queue(int current) {
+		JsonObject o = new JsonObject();
+		JsonArray queue = new JsonArray();
+
+		for (int i = 1; i <= QUEUE_LENGTH; i++)
+			queue.add(track(current + i));
+
+		o.add("currently_playing", track(current));
+		o.add("queue", queue);
+
+		return o.toString();
+	}
+
+	private String playlists() {
+		JsonObject o = new JsonObject();
+		JsonArray items = new JsonArray();
+
+		for (int i = 0; i < PLAYLISTS.length; i++) {
+			JsonObject p = new JsonObject();
+			JsonObject tracks = new JsonObject();
+
+			tracks.addProperty("total", Integer.parseInt(PLAYLISTS[i][1]));
+			p.addProperty("id", "stubplaylist" + i);
+			p.addProperty("name", PLAYLISTS[i][0]);
+			p.addProperty("snapshot_id", "stubsnapshot" + i);
+			p.addProperty("type", "playlist");
+			p.add("tracks", tracks);
+			items.add(p);
+		}
+
+		o.add("items", items);
+		o.addProperty("limit", 50);
+		o.addProperty("offset", 0);
+		o.addProperty("total", PLAYLISTS.length);
+
+		return o.toString();
+	}
+
+	// A page of tracks for "/playlists/stubplaylist<n>/tracks?offset=<k>...".
+	private String playlistTracks(String path) {
+		int slash = path.indexOf('/', SpotifyMetadata.PLAYLIST_PATH.length());
+		String id = path.substring(SpotifyMetadata.PLAYLIST_PATH.length(),
+				Math.max(0, slash));
+		int p = -1;
+		int total = 0;
+
+		for (int i = 0; i < PLAYLISTS.length; i++)
+			if (id.equals("stubplaylist" + i)) {
+				p = i;
+				total = Integer.parseInt(PLAYLISTS[i][1]);
+			}
+
+		int offset = Math.max(0, Math.min(total, parameter(path, "offset")));
+		int end = Math.min(total, offset + PAGE_SIZE);
+		JsonObject o = new JsonObject();
+		JsonArray items = new JsonArray();
+
+		for (int i = offset; i < end; i++) {
+			JsonObject item = new JsonObject();
+
+			item.addProperty("is_local", false);
+			item.add("track", playlistTrack(p, i));
+			items.add(item);
+		}
+
+		o.add("items", items);
+		o.addProperty("limit", PAGE_SIZE);
+		o.addProperty("offset", offset);
+		o.addProperty("total", total);
+
+		if (end < total)
+			o.addProperty("next", HttpTransport.API_ROOT + SpotifyMetadata.PLAYLIST_PATH +
+					id + "/tracks?offset=" + end + "&limit=" + PAGE_SIZE);
+
+		return o.toString();
+	}
+
+	// Value of an integer query parameter, or 0 if missing or bad.
+	private static int parameter(String path, String name) {
+		int i = path.indexOf(name + "=");
+
+		if (i < 0)
+			return 0;
+
+		int j = i + name.length() + 1;
+		int k = j;
+
+		while (k < path.length() && Character.isDigit(path.charAt(k)))
+			k++;
+
+		return (k > j) ? Integer.parseInt(path.substring(j, k)) : 0;
+	}
+
+	// Track i of playlist p, named by mixing words from a hash of p and i.
+	private static JsonObject playlistTrack(int p, int i) {
+		int h = (p * 1000003 + i) * 0x9E3779B1;
+		int k = (h >>> 16) % TRACKS.length;
+		String title = ADJECTIVES[(h >>> 1) % ADJECTIVES.length] + " " +
+				NOUNS[(h >>> 7) % NOUNS.length];
+		String band = BANDS[(h >>> 13) % BANDS.length];
+		String album = NOUNS[(h >>> 19) % NOUNS.length] + " " +
+				ADJECTIVES[(h >>> 25) % ADJECTIVES.length].toLowerCase();
+
+		return track("stubp" + p + "t" + i, title, band, album, k,
+				120 + ((h >>> 3) % 240));
+	}
+
+	// The i-th track played, looping through TRACKS.
+	private static JsonObject track(int i) {
+		int k = i % TRACKS.length;
+		String[] t = TRACKS[k];
+
+		return track("stubtrack" + k, t[0], t[1], t[2], k, Integer.parseInt(t[3]));
+	}
+
+	// A track JSON object, with the art of album k.
+	private static JsonObject track(String id, String title, String artistName,
+			String albumName, int k, int seconds) {
+		JsonObject track = new JsonObject();
+		JsonObject artist = new JsonObject();
+		JsonObject album = new JsonObject();
+		JsonArray artists = new JsonArray();
+
+		artist.addProperty("id", "stubartist" + Integer.toHexString(artistName.hashCode()));
+		artist.addProperty("name", artistName);
+		artist.addProperty("type", "artist");
+		artists.add(artist);
+
+		album.addProperty("id", "stubalbum" + Integer.toHexString(albumName.hashCode()));
+		album.addProperty("name", albumName);
+		album.addProperty("type", "album");
+		album.add("images", images(k));
+
+		track.addProperty("id", id);
+		track.addProperty("name", title);
+		track.addProperty("type", "track");
+		track.addProperty("duration_ms", 1000 * seconds);
+		track.add("artists", artists);
+		track.add("album", album);
+
+		return track;
+	}
+
+	private static JsonArray images(int k) {
+		JsonArray images = new JsonArray();
+		String url = art(k);
+
+		if (url != null) {
+			JsonObject image = new JsonObject();
+
+			image.addProperty("url", url);
+			image.addProperty("width", ART_SIZE);
+			image.addProperty("height", ART_SIZE);
+			images.add(image);
+		}
+
+		return images;
+	}
+
+	// URL of the art for album k, drawing it into a temporary file the first
+	// time. Returns null if the file can't be written.
+	private static synchronized String art(int k) {
+		if (ART[k] != null)
+			return ART[k];
+
+		BufferedImage image = new BufferedImage(ART_SIZE, ART_SIZE,
+				BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		float hue = k / (float) TRACKS.length;
+
+		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+				RenderingHints.VALUE_ANTIALIAS_ON);
+		g.setPaint(new GradientPaint(0, 0, Color.getHSBColor(hue, 0.6f, 0.9f),
+				ART_SIZE, ART_SIZE, Color.getHSBColor(hue + 0.3f, 0.8f, 0.3f)));
+		g.fillRect(0, 0, ART_SIZE, ART_SIZE);
+		g.setColor(new Color(255, 255, 255, 160));
+		g.fillOval(ART_SIZE / 4, ART_SIZE / 4, ART_SIZE / 2, ART_SIZE / 2);
+		g.setColor(Color.getHSBColor(hue, 0.6f, 0.5f));
+		g.fillOval(7 * ART_SIZE / 16, 7 * ART_SIZE / 16, ART_SIZE / 8, ART_SIZE / 8);
+		g.dispose();
+
+		try {
+			File file = File.createTempFile("stubalbum" + k + "-", ".png");
+
+			file.deleteOnExit();
+			ImageIO.write(image, "png", file);
+			ART[k] = file.toURI().toString();
+		} catch (IOException e) {
+			System.err.println("Couldn't write stub album art: " + e.getMessage());
+		}
+
+		return ART[k];
+	}
+}
+
+// ******************************************************************************
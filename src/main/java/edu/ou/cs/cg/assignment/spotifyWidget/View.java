@@ -27,13 +27,19 @@ import java.lang.ProcessBuilder.Redirect;
 import java.text.DecimalFormat;
 import java.util.*;
 import com.jogamp.opengl.*;
-import com.jogamp.opengl.awt.GLJPanel;
 import com.jogamp.opengl.glu.*;
 import com.jogamp.opengl.util.FPSAnimator;
 import com.jogamp.opengl.util.awt.TextRenderer;
 
 import edu.ou.cs.cg.assignment.spotifyWidget.Model.screenState;
+import edu.ou.cs.cg.utilities.FrameStats;
+import edu.ou.cs.cg.utilities.ImageTexture;
+import edu.ou.cs.cg.utilities.ShapeBatch;
+import edu.ou.cs.cg.utilities.TextRendererCache;
+import edu.ou.cs.cg.utilities.TextureCache;
+import edu.ou.cs.cg.utilities.UpdateDispatcher;
 import edu.ou.cs.cg.utilities.Utilities;
+import edu.ou.cs.cg.utilities.ViewTransform;
 
 //******************************************************************************
 
@@ -55,6 +61,13 @@ public final class View
 	private static final DecimalFormat FORMAT = new DecimalFormat("0.000");
 		
 	public static final Random			RANDOM = new Random();
+
+	// Colors, packed for the shape batch
+	private static final int WHITE = ShapeBatch.rgb(255, 255, 255);
+	private static final int BLACK = ShapeBatch.rgb(0, 0, 0);
+	private static final int CONTROL = ShapeBatch.rgb(150, 148, 143);
+	private static final int SELECTED = ShapeBatch.rgb(70, 70, 70);
+	private static final int OUTLINE = ShapeBatch.rgb(60, 60, 60);
 	// **********************************************************************
 	// Public Class Members
 	// **********************************************************************
@@ -62,21 +75,54 @@ public final class View
 	public static final int MIN_SIDES = 3;
 	public static final int MAX_SIDES = 12;
 
+	public static final int ART_SIZE = 256; // Art is scaled to fit in this
+	public static final int ART_COUNT = 8; // Most art textures kept
+	public static final long ART_BYTES = 2L * 1024 * 1024; // Most art bytes
+	public static final int ART_PREFETCH = 3; // Queued tracks to load ahead
+
+	// Area for lists, in scene coordinates, and list rows, in pixels
+	public static final int LIST_X = 560;
+	public static final int LIST_Y = 410;
+	public static final int LIST_W = 410;
+	public static final int LIST_H = 280;
+	public static final int ROW_HEIGHT = 16;
+	public static final int HEADER_HEIGHT = 24;
+
+	public static final int VIS_W = 375; // Width of the bars, scene units
+
 	// **********************************************************************
 	// Private Members
 	// **********************************************************************
 
 	// State (internal) variables
-	private final GLJPanel canvas;
+	private final GLAutoDrawable canvas;
 	private int w; // Canvas width
 	private int h; // Canvas height
 
 	private TextRenderer renderer;
 
+	private TextRendererCache fonts; // Glyph atlases, made in init()
+	private TextRenderer titleRenderer; // 14pt, from fonts
+	private TextRenderer artistRenderer; // 10pt, from fonts
+	private TextureCache art; // Album art, made in init()
+	private TextRenderer listRenderer; // 12pt, from fonts
+	private final ListRenderer list; // Lays out the current list
+	private ShapeBatch shapes; // Flat shapes, made in init()
+
+	// Title and artist as laid out for drawing, kept until the model changes
+	private String titleSource;
+	private String artistSource;
+	private String titleLine;
+	private String artistLine;
+
 	private final FPSAnimator animator;
 	private int counter; // Frame counter
 
 	private final Model model;
+	private final ViewTransform transform; // Captured each frame
+	private final UpdateDispatcher dispatcher; // Model updates to run
+	private final FrameStats stats; // Timing, shown by [F3]
+	private final Metrics metrics; // For a MetricsServer, if any
 
 	private final KeyHandler keyHandler;
 	private final MouseHandler mouseHandler;
@@ -84,37 +130,57 @@ public final class View
 	private int screenWidth = 880;
 	private int screenHeight = 300;
 
-	private int[] barHeights;
+	private Visualizer visualizer; // Bar heights, made in init()
+
+	private final BeatScheduler beats; // When note events are due
+	private long lastFrame; // nanoTime of the previous update
 
 	// **********************************************************************
 	// Constructors and Finalizer
 	// **********************************************************************
 
-	public View(GLJPanel canvas) {
+	// Draws on canvas, which may be a component in a window (a GLJPanel) or
+	// an offscreen drawable. Only a component gets input handlers and an
+	// animator; whatever makes an offscreen one calls display() on it.
+	public View(GLAutoDrawable canvas) {
 		this.canvas = canvas;
 
 		// Initialize rendering
 		counter = 0;
+		transform = new ViewTransform();
+		beats = new BeatScheduler();
+		list = new ListRenderer(ROW_HEIGHT, HEADER_HEIGHT);
+		lastFrame = System.nanoTime();
+		dispatcher = new UpdateDispatcher();
+		stats = new FrameStats(DEFAULT_FRAMES_PER_SECOND);
+		metrics = new Metrics(stats, dispatcher);
 		canvas.addGLEventListener(this);
 
 		// Initialize model (scene data and parameter manager)
 		model = new Model(this);
 
-		// Initialize controller (interaction handlers)
-		keyHandler = new KeyHandler(this, model);
-		mouseHandler = new MouseHandler(this, model);
-
-		// Initialize animation
-		animator = new FPSAnimator(canvas, DEFAULT_FRAMES_PER_SECOND);
-		animator.start();
+		if (canvas instanceof Component) {
+			// Initialize controller (interaction handlers)
+			keyHandler = new KeyHandler(this, model);
+			mouseHandler = new MouseHandler(this, model);
+
+			// Initialize animation
+			animator = new FPSAnimator(canvas, DEFAULT_FRAMES_PER_SECOND);
+			animator.start();
+		} else {
+			keyHandler = null;
+			mouseHandler = null;
+			animator = null;
+		}
 	}
 
 	// **********************************************************************
 	// Getters and Setters
 	// **********************************************************************
 
-	public GLJPanel getCanvas() {
-		return canvas;
+	// The component drawn on, or null if drawing offscreen.
+	public Component getCanvas() {
+		return (canvas instanceof Component) ? (Component) canvas : null;
 	}
 
 	public int getWidth() {
@@ -125,6 +191,30 @@ public final class View
 		return h;
 	}
 
+	public Model getModel() {
+		return model;
+	}
+
+	// View/scene mapping as of the start of the current (or last) frame.
+	public ViewTransform getTransform() {
+		return transform;
+	}
+
+	// Queue for model updates, drained at the start of each frame.
+	public UpdateDispatcher getDispatcher() {
+		return dispatcher;
+	}
+
+	// Frame timing, and whether to show it.
+	public FrameStats getFrameStats() {
+		return stats;
+	}
+
+	// What there is to report to a MetricsServer.
+	public Metrics getMetrics() {
+		return metrics;
+	}
+
 	// **********************************************************************
 	// Public Methods
 	// **********************************************************************
@@ -142,21 +232,46 @@ public final class View
 		renderer = new TextRenderer(new Font("Monospaced", Font.PLAIN, 12),
 				true, true);
 
+		fonts = new TextRendererCache(false, true);
+		titleRenderer = fonts.get("Monospaced", Font.PLAIN, 14);
+		artistRenderer = fonts.get("Monospaced", Font.PLAIN, 10);
+		listRenderer = fonts.get("Monospaced", Font.PLAIN, 12);
+		titleSource = null;
+		artistSource = null;
+
+		art = new TextureCache(ART_SIZE, ART_COUNT, ART_BYTES);
+		shapes = new ShapeBatch();
+
 		initPipeline(drawable);
-		barHeights =new int[Model.NUM_BARS];
-		for(int i = 0; i < Model.NUM_BARS; i++)
-			barHeights[i] = 0;
+		visualizer = new Visualizer(model.getBars());
 	}
 
 	public void dispose(GLAutoDrawable drawable) {
 		renderer = null;
+
+		fonts.dispose();
+		titleRenderer = null;
+		artistRenderer = null;
+		listRenderer = null;
+
+		art.dispose(drawable.getGL().getGL2()); // Textures die with context
+		art = null;
+
+		shapes.dispose(drawable.getGL().getGL2());
+		shapes = null;
 	}
 
 	public void display(GLAutoDrawable drawable) {
+		stats.beginFrame();
+
+		dispatcher.drain(drawable); // Apply pending model updates
 		updatePipeline(drawable);
 
 		update(drawable);
+		stats.endUpdate();
 		render(drawable);
+
+		stats.endFrame();
 	}
 
 	public void reshape(GLAutoDrawable drawable, int x, int y, int w, int h) {
@@ -171,17 +286,48 @@ public final class View
 	private void update(GLAutoDrawable drawable) {
 		counter++; 
 
-		if(model.isPlaying && counter % 60 == 0)
-			model.progress();
-		
-		updateBars();
+		updateArt(drawable.getGL().getGL2());
+		metrics.publishTextures(art);
+
+		if (model.getCurrentView() != screenState.player)
+			updateList();
+
+		// Advance from elapsed time, so timing holds at any frame rate
+		long now = System.nanoTime();
+		double elapsed = (now - lastFrame) / 1.0e9;
+
+		lastFrame = now;
+
+		if(model.isPlaying)
+			model.progress(elapsed);
+
+		if (visualizer.getBars() != model.getBars())
+			visualizer.setBars(model.getBars());
+
+		// Bars follow the audio spectrum if there is audio, else the notes
+		SpectrumAnalyzer analyzer = model.getAnalyzer();
+
+		if (analyzer != null) {
+			analyzer.setPlaying(model.isPlaying);
+
+			if (model.isPlaying) {
+				float[] heights = analyzer.getHeights(); // Never blocks
 
-		int bps = model.getBPM() / 60;
-		int freq = 60/(3 * bps); 
+				visualizer.spectrum(heights, analyzer.getBars(), (float) model.getVolume());
+			}
+		} else {
+			// Apply every note event that came due since the last frame
+			int due = beats.poll(now, model.isPlaying, model.getBPM());
 
-		if(counter % freq == 0 && model.isPlaying)
-			addBeat(model.nextNote(), model.nextFreq());
+			for (int i = 0; i < due; i++) {
+				int beat = model.nextBeat();
 
+				if (beat >= 0)
+					addBeat(model.getNote(beat), model.getFreq(beat));
+			}
+		}
+
+		visualizer.update(elapsed);
 	}
 
 	private void render(GLAutoDrawable drawable) {
@@ -217,6 +363,8 @@ public final class View
 		gl.glMatrixMode(GL2.GL_PROJECTION); // Prepare for matrix xform
 		gl.glLoadIdentity(); // Set to identity matrix
 		glu.gluOrtho2D(0.0f, 1080f, 0.0f, 720.0f); // 2D translate and scale
+
+		transform.capture(gl); // Cache for mapping
 	}
 
 	// **********************************************************************
@@ -239,18 +387,30 @@ public final class View
 			case player :
 				drawPlayback(screenWidth, screenHeight, 365, 500); 
 				break;
+
+			case queueView:
+			case playlistView:
+			case allPlaylists:
+			case search:
+				drawList(gl);
+				break;
 			
 			default:
 				break;
 			
 		}
+
+		stats.draw(renderer, 2, h - 14); // [F3] Frame timing
 		
 		renderer.endRendering();
 	}
 
+	// Shapes are batched, and flushed only where the art has to go over
+	// them, so a frame takes a fixed few draw calls however many bars.
 	private void drawMain(GL2 gl) {
 		drawControls(gl);
 		drawScreen(gl);
+		shapes.flush(gl);
 	}
 
 
@@ -258,104 +418,183 @@ public final class View
 		
 		//Draw black background
 		//Width 880
-		setColor(gl, 0,0,0);
-		fillRect(gl, 100, 400, screenWidth, screenHeight);
+		shapes.setColor(BLACK);
+		shapes.fillRect(100, 400, screenWidth, screenHeight);
 
-		setColor(gl, new Color(255,255,255));
-		fillRect(gl,  100 + (screenWidth/2),400,2, screenHeight);
+		shapes.setColor(WHITE);
+		shapes.fillRect(100 + (screenWidth/2),400,2, screenHeight);
 
 		drawVisualizer(gl, 130, 450);
+		shapes.flush(gl); // Art goes over the background
+		drawArt(gl, 130, 530, 160);
+
+		if (model.getCurrentView() != screenState.player)
+			drawSelection(gl);
 		//Draw progress bar if playback is occuring
 		if(model.getCurrentView() == screenState.player)
 			drawProgressBar(gl);
 		
 	}
 	
-	private void drawVisualizer(GL2 gl, int ix, int iy){
-		int x = ix;
-		int minHeight = 10;
-		setColor(gl, new Color(255,255,255));
-		for(int i = 0; i < model.NUM_BARS; i++){
-			int barHeight = minHeight + barHeights[i];
-			fillRect(gl, x, iy , 20, barHeight);
-			x += 25;
-		}
+	// Draw the visible rows of the current list, clipped to the list area.
+	private void drawList(GL2 gl){
+		int x = LIST_X * w / 1080;
+		int y = LIST_Y * h / 720;
+		int width = LIST_W * w / 1080;
+		int height = LIST_H * h / 720;
+
+		gl.glEnable(GL.GL_SCISSOR_TEST);
+		gl.glScissor(x, y, width, height);
+
+		listRenderer.beginRendering(w, h);
+		listRenderer.setColor(0.85f, 0.85f, 0.85f, 1.0f);
+		list.draw(listRenderer, x + 4, y + height, width - 8);
+		listRenderer.endRendering();
+
+		gl.glDisable(GL.GL_SCISSOR_TEST);
 	}
 
-	private void addBeat(int barNum, int mag){
-		int max_height = (50);
-		mag = (int) (mag * model.getVolume());
-		barNum = Math.min(model.NUM_BARS, barNum);
+	// Highlight the selected row of the current list, if it's in view.
+	private void drawSelection(GL2 gl){
+		int selection = model.getListSelection();
 
-		barHeights[barNum] = Math.min(max_height, barHeights[barNum] + mag);
-		int tmpMag = mag/2;
-		int i = barNum + 1;
-		int locMag;
+		if (selection >= model.getListItems().size() || h == 0)
+			return;
 
-		//Spread freq forward
-		while(tmpMag > 10 && i < model.NUM_BARS){
-			barHeights[i] = Math.min(max_height, barHeights[i] + tmpMag);
-			tmpMag -= tmpMag/5;
-			i++;
+		// Row edges in pixels below the top of the list, then in the scene
+		long scroll = model.getListScroll();
+		double s = 720.0 / h;
+		double top = LIST_Y + LIST_H - s * (list.getTop(selection) - scroll);
+		double bottom = LIST_Y + LIST_H - s * (list.getBottom(selection) - scroll);
+
+		top = Math.min(top, LIST_Y + LIST_H);
+		bottom = Math.max(bottom, LIST_Y);
+
+		if (top > bottom) {
+			shapes.setColor(SELECTED);
+			shapes.fillRect(LIST_X, (float) bottom, LIST_W, (float) (top - bottom));
 		}
+	}
+
+	// Draw the current track's art in a size x size square at (x,y), or an
+	// outline until the art has loaded.
+	private void drawArt(GL2 gl, int x, int y, int size){
+		ImageTexture texture = art.get(model.getArtUrl());
 
-		//Spread freq backward
-		tmpMag = mag/2;
-		i = barNum - 1;
-		while(tmpMag > 10 && i >= 0){
-			barHeights[i] += Math.min(max_height, barHeights[i] + tmpMag + RANDOM.nextInt(tmpMag/2));
-			tmpMag -= tmpMag/5;
-			i--;
+		if (texture == null) {
+			shapes.setColor(OUTLINE);
+			shapes.edgeRect(x, y, size, size);
+			return;
 		}
 
+		// Fit the art's aspect ratio in the square
+		double s = (double) size / Math.max(texture.getWidth(), texture.getHeight());
+		double w = s * texture.getWidth();
+		double h = s * texture.getHeight();
+		double x0 = x + 0.5 * (size - w);
+		double y0 = y + 0.5 * (size - h);
+
+		gl.glColor4f(1.0f, 1.0f, 1.0f, 1.0f);
+		texture.draw(gl, x0, x0 + w, y0, y0 + h);
 	}
-	private void updateBars(){
-		for(int i = 0; i < Model.NUM_BARS; i++)
-			if(barHeights[i] > 0)
-				barHeights[i] -= 2;
-			else
-				barHeights[i] = 0;
+
+	// Draw the bars across VIS_W, however many there are. They all go into
+	// the shape batch, so this is one draw call for 16 bars or 4096.
+	private void drawVisualizer(GL2 gl, int ix, int iy){
+		int minHeight = 10;
+		int n = visualizer.getBars();
+		float[] heights = visualizer.getHeights();
+		float step = (float) VIS_W / n;
+		float width = step * 0.8f;
+
+		shapes.setColor(WHITE);
+		for(int i = 0; i < n; i++)
+			shapes.fillRect(ix + i * step, iy, width, minHeight + heights[i]);
 	}
+
+	// Spread a note across the bars around its position.
+	private void addBeat(int note, int mag){
+		double position = (note + 0.5) / Model.NUM_NOTES;
+
+		visualizer.impulse(position, (float) (mag * model.getVolume()));
+	}
+
+	// Lay out only the rows of the current list that will be visible.
+	private void updateList(){
+		int height = LIST_H * h / 720; // List area in pixels
+		int selection = model.getListSelection();
+
+		list.sync(model.getListTitle(), model.getListItems());
+		model.fitList(list.getExtent(), height, list.getTop(selection),
+				list.getBottom(selection));
+		list.layout(model.getListScroll(), height);
+	}
+
+	// Upload decoded art, evict old art, and start loading art for the
+	// current track and the next few in the queue.
+	private void updateArt(GL2 gl){
+		art.update(gl);
+		art.request(model.getArtUrl());
+
+		java.util.List<MetadataService.Track> queue = model.getQueue();
+
+		for (int i = 0; i < Math.min(ART_PREFETCH, queue.size()); i++)
+			art.request(queue.get(i).getArtUrl());
+	}
+
 	private void drawProgressBar(GL2 gl){
 		int barStart = 600;
 		int barHeight = 450;
 		int barWidth = 300;
 		
 		//Draw Bar
-		setColor(gl, new Color(255,255,255));
-		fillRect(gl, barStart, barHeight, barWidth, 1);
+		shapes.setColor(WHITE);
+		shapes.fillRect(barStart, barHeight, barWidth, 1);
 
 		//Draw endcaps
-		fillRect(gl, barStart, barHeight-8, 1, 16);
-		fillRect(gl, barStart+barWidth, barHeight-8,1.5,16);
+		shapes.fillRect(barStart, barHeight-8, 1, 16);
+		shapes.fillRect(barStart+barWidth, barHeight-8,1.5f,16);
 
 		//Draw point
-		drawCircle(gl, barStart + (int)(barWidth * model.getProgress()), barHeight, 4, 10, new Color(255,255,255));
+		shapes.fillCircle(barStart + (int)(barWidth * model.getProgress()), barHeight, 4, 10);
 
 	}
 	//Draw Playback information on right half of screen
 	//x,y is the upper right hand point of screen
 	//Height is region of information and doesn't include the footer options
 	public void drawPlayback(int w, int h, int x, int y){
-		TextRenderer rend = new TextRenderer(new Font("Monospaced", Font.PLAIN, 14),
-				false, true);
 		int ix = x + ((2/4) * w);
 
-		rend.beginRendering(this.w, this.h);
-		rend.setColor(166.0f/255.0f, 163.0f/255.0f, 162.0f/255.0f, 1.0f);
-		rend.draw(model.getTitle(), ix, this.h-75);
-		rend.endRendering();
-		
-		rend = new TextRenderer(new Font("Monospaced", Font.PLAIN, 10),
-				false, true);
+		layoutPlayback(w / 2 - 20);
 
-		rend.beginRendering(this.w, this.h);
-		rend.draw(model.getArtist(), ix + 20, this.h-95);
-		rend.setColor(166.0f/255.0f, 163.0f/255.0f, 162.0f/255.0f, 1.0f);
-		rend.endRendering();
+		titleRenderer.beginRendering(this.w, this.h);
+		titleRenderer.setColor(166.0f/255.0f, 163.0f/255.0f, 162.0f/255.0f, 1.0f);
+		titleRenderer.draw(titleLine, ix, this.h-75);
+		titleRenderer.endRendering();
 
-		
+		artistRenderer.beginRendering(this.w, this.h);
+		artistRenderer.setColor(166.0f/255.0f, 163.0f/255.0f, 162.0f/255.0f, 1.0f);
+		artistRenderer.draw(artistLine, ix + 20, this.h-95);
+		artistRenderer.endRendering();
 	}
+
+	// Lay out the title and artist to fit in width pixels, but only when they
+	// differ from the ones laid out last time.
+	private void layoutPlayback(int width) {
+		String title = model.getTitle();
+		String artist = model.getArtist();
+
+		if (!Objects.equals(title, titleSource)) {
+			titleSource = title;
+			titleLine = TextRendererCache.fit(titleRenderer, title, width);
+		}
+
+		if (!Objects.equals(artist, artistSource)) {
+			artistSource = artist;
+			artistLine = TextRendererCache.fit(artistRenderer, artist, width - 20);
+		}
+	}
+
 	//Outline of play button
 	public static final Point[] PLAY_BUTTON = new Point[] {
 		new Point(0,50),
@@ -387,40 +626,40 @@ public final class View
 	private void drawControls(GL2 gl){
 		int controlHeight = 260;
 		//Draw Media Controls
-		setColor(gl, new Color(150, 148, 143));
+		shapes.setColor(CONTROL);
 		
 		//If playing draw the play button
 		if(model.isPlaying){
-			fillPoly(gl, 1080/2 - 25, controlHeight, PLAY_BUTTON);
-			setColor(gl, new Color(0,0,0));
-			edgePoly(gl, 1080/2 - 25, controlHeight, PLAY_BUTTON);
+			shapes.fillPoly(1080/2 - 25, controlHeight, PLAY_BUTTON);
+			shapes.setColor(BLACK);
+			shapes.edgePoly(1080/2 - 25, controlHeight, PLAY_BUTTON);
 		}
 		//Draw Pause Button
 		else{
-			fillPoly(gl, (1080/2) - 25, controlHeight, BUTTON_BAR);
-			fillPoly(gl, (1080/2) + 25, controlHeight, BUTTON_BAR);
-			setColor(gl, new Color(0,0,0));
-			edgePoly(gl, (1080/2) - 25, controlHeight, BUTTON_BAR);
-			edgePoly(gl, (1080/2) + 25, controlHeight, BUTTON_BAR);
+			shapes.fillPoly((1080/2) - 25, controlHeight, BUTTON_BAR);
+			shapes.fillPoly((1080/2) + 25, controlHeight, BUTTON_BAR);
+			shapes.setColor(BLACK);
+			shapes.edgePoly((1080/2) - 25, controlHeight, BUTTON_BAR);
+			shapes.edgePoly((1080/2) + 25, controlHeight, BUTTON_BAR);
 		}
 
-		setColor(gl, new Color(150, 148, 143));
+		shapes.setColor(CONTROL);
 		//Draw rewind
-		fillPoly(gl, 1080/4 + 14, controlHeight, BUTTON_BAR);
-		fillPoly(gl, 1080/4 - 14, controlHeight, RWD_BUTTON);
+		shapes.fillPoly(1080/4 + 14, controlHeight, BUTTON_BAR);
+		shapes.fillPoly(1080/4 - 14, controlHeight, RWD_BUTTON);
 
 		//Draw ffwd
-		fillPoly(gl, (3 * 1080/4) - 14, controlHeight, BUTTON_BAR);
-		fillPoly(gl, (3 * 1080/4) + 14, controlHeight, FWD_BUTTON);
+		shapes.fillPoly((3 * 1080/4) - 14, controlHeight, BUTTON_BAR);
+		shapes.fillPoly((3 * 1080/4) + 14, controlHeight, FWD_BUTTON);
 
-		setColor(gl, new Color(0,0,0));
+		shapes.setColor(BLACK);
 		//Draw rewind
-		edgePoly(gl, 1080/4 + 14, controlHeight, BUTTON_BAR);
-		edgePoly(gl, 1080/4 - 14, controlHeight, RWD_BUTTON);
+		shapes.edgePoly(1080/4 + 14, controlHeight, BUTTON_BAR);
+		shapes.edgePoly(1080/4 - 14, controlHeight, RWD_BUTTON);
 
 		//Draw ffwd
-		edgePoly(gl, (3 * 1080/4) - 14, controlHeight, BUTTON_BAR);
-		edgePoly(gl, (3 * 1080/4) + 14, controlHeight, FWD_BUTTON);
+		shapes.edgePoly((3 * 1080/4) - 14, controlHeight, BUTTON_BAR);
+		shapes.edgePoly((3 * 1080/4) + 14, controlHeight, FWD_BUTTON);
 	}
 
 	// **********************************************************************
@@ -475,63 +714,6 @@ public final class View
 		gl.glEnd();
 	}
 
-	private void	fillRect(GL2 gl, int x, int y, int w, int h)
-	{
-		
-
-		gl.glBegin(GL2.GL_POLYGON);
-
-		gl.glVertex2i(x+0, y+0);
-		gl.glVertex2i(x+0, y+h);
-		gl.glVertex2i(x+w, y+h);
-		gl.glVertex2i(x+w, y+0);
-
-		gl.glEnd();
-	}
-
-	private void	edgeRect(GL2 gl, int x, int y, int w, int h)
-	{
-		
-
-		gl.glBegin(GL.GL_LINE_LOOP);
-
-		gl.glVertex2i(x+0, y+0);
-		gl.glVertex2i(x+0, y+h);
-		gl.glVertex2i(x+w, y+h);
-		gl.glVertex2i(x+w, y+0);
-
-		gl.glEnd();
-
-		gl.glLineWidth(1.0f);
-	}
-
-	// Fills a polygon defined by a starting point and a sequence of offsets.
-	private void	fillPoly(GL2 gl, int startx, int starty, Point[] offsets)
-	{
-		
-
-		gl.glBegin(GL2.GL_POLYGON);
-
-		for (int i=0; i<offsets.length; i++)
-			gl.glVertex2i(startx + offsets[i].x, starty + offsets[i].y);
-
-		gl.glEnd();
-	}
-
-	// Edges a polygon defined by a starting point and a sequence of offsets.
-	private void	edgePoly(GL2 gl, int startx, int starty, Point[] offsets)
-	{
-		
-
-		gl.glBegin(GL2.GL_LINE_LOOP);
-
-		for (int i=0; i<offsets.length; i++)
-			gl.glVertex2i(startx + offsets[i].x, starty + offsets[i].y);
-
-		gl.glEnd();
-
-		gl.glLineWidth(1.0f);
-	}
 	
 
 	// **********************************************************************
@@ -541,25 +723,25 @@ public final class View
 	
 
 	// **********************************************************************
-	// Private Methods (Vectors)
+	// Package Methods (Vectors, static for benchmarking)
 	// **********************************************************************
 
 	// This might be a method to calculate a dot product. Sure seems like it.
-	private double dot(double vx, double vy,
+	static double dot(double vx, double vy,
 			double wx, double wy) {
 
 		return vx * wx + wy * vy;
 	}
 
 	// Helper for dot product
-	private double dot(Point2D.Double p1, Point2D.Double p2) {
+	static double dot(Point2D.Double p1, Point2D.Double p2) {
 
 		return dot(p1.x, p1.y, p2.x, p2.y);
 	}
 
 	// Determines if point q is to the left of line p1->p2. If strict is false,
 	// points exactly on the line are considered to be left of it.
-	private boolean isLeft(Point2D.Double p1, Point2D.Double p2,
+	static boolean isLeft(Point2D.Double p1, Point2D.Double p2,
 			Point2D.Double q, boolean strict) {
 		// Generate normal vector and vector from p1->q
 		Point2D.Double v1 = new Point2D.Double(-(p2.y - p1.y), p2.x - p1.x);
@@ -574,7 +756,7 @@ public final class View
 	// Determines if point q is inside a polygon. The polygon must be convex
 	// with points stored in counterclockwise order. Points exactly on any side
 	// of the polygon are considered to be outside of it.
-	private boolean contains(Deque<Point2D.Double> polygon,
+	static boolean contains(Deque<Point2D.Double> polygon,
 			Point2D.Double q) {
 		Iterator<Point2D.Double> polyIter = polygon.iterator();
 		Point2D.Double p1, p2, first = polyIter.next();
@@ -597,67 +779,6 @@ public final class View
 		return true;
 	}
 
-	// **********************************************************************
-	// Private Methods (Helper Functions from previous assignments)
-	// **********************************************************************
-	private void drawCircle(GL2 gl, int x, int y, double r, int sides, Color c) {
-		drawCircle(gl, x, y, r, sides, 0.0, 1.0, c);
-	}
-
-	private void drawCircle(GL2 gl, int x, int y, double radius, int sides, double startTheta, double endTheta,
-			Color color) {
-		double dt = (endTheta - startTheta) / sides;
-
-		gl.glBegin(GL2.GL_POLYGON);
-		setColor(gl, color);
-		for (double t = startTheta; t < endTheta; t += dt) {
-			double dx = radius * Math.cos(2 * Math.PI * t);
-			double dy = radius * Math.sin(2 * Math.PI * t);
-
-			gl.glVertex2d(x + dx, y + dy);
-
-		}
-		gl.glEnd();
-	}
-
-	private void fillRect(GL2 gl, double x, double y, double w, double h) {
-		gl.glBegin(GL2.GL_POLYGON);
-
-		gl.glVertex2d(x + 0.0, y + 0.0);
-		gl.glVertex2d(x + 0.0, y + h);
-		gl.glVertex2d(x + w, y + h);
-		gl.glVertex2d(x + w, y + 0.0);
-
-		gl.glEnd();
-	}
-
-	// Edges a rectangle having lower left corner at (x,y) and dimensions (w,h).
-	private void edgeRect(GL2 gl, double x, double y, double w, double h) {
-		gl.glLineWidth(1.0f);
-		gl.glBegin(GL.GL_LINE_LOOP);
-
-		gl.glVertex2d(x + 0.0, y + 0.0);
-		gl.glVertex2d(x + 0.0, y + h);
-		gl.glVertex2d(x + w, y + h);
-		gl.glVertex2d(x + w, y + 0.0);
-
-		gl.glEnd();
-	}
-
-	// Sets color, normalizing r, g, b, a values from max 255 to 1.0.
-	private void setColor(GL2 gl, int r, int g, int b, int a) {
-		gl.glColor4f(r / 255.0f, g / 255.0f, b / 255.0f, a / 255.0f);
-	}
-
-	// Sets fully opaque color, normalizing r, g, b values from max 255 to 1.0.
-	private void setColor(GL2 gl, int r, int g, int b) {
-		setColor(gl, r, g, b, 255);
-	}
-
-	// Wrapper for setting color with Java color object
-	private void setColor(GL2 gl, Color c) {
-		setColor(gl, c.getRed(), c.getGreen(), c.getBlue());
-	}
 }
 
 // ******************************************************************************
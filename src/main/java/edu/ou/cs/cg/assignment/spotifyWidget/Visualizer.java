@@ -0,0 +1,157 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Bar heights for the visualizer, for anywhere from MIN_BARS to MAX_BARS bars.
+// Each frame, input arrives as note impulses (at a position along the bars)
+// and/or as a spectrum (at its own resolution), and update() turns it into
+// heights. The smoothing is separable: one 1-D kernel across the bars, one
+// 1-D kernel across time.
+//
+//   Across the bars, each impulse is spread by a Gaussian kernel whose width
+//   is a fixed fraction (SPREAD) of the bars, so a note covers the same part
+//   of the visualizer however many bars there are. The kernel is computed
+//   when the bar count changes, not per impulse. Spectra are already smooth,
+//   so they're just resampled to the bar count.
+//
+//   Across time, each bar has an attack/decay envelope. A peak follower jumps
+//   up to the input and falls off exponentially with time constant DECAY,
+//   and the height eases toward the peak with time constant ATTACK. The
+//   factors are computed from the frame time once per frame, so heights move
+//   at the same speed at any frame rate.
+//
+// All state is in float arrays allocated when the bar count changes and
+// reused every frame after, so a frame costs O(bars) plus O(kernel) per
+// impulse, with no allocation.
+//
+// Not thread-safe; use it from the GL thread.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.util.Arrays;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Visualizer</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public final class Visualizer {
+	// **********************************************************************
+	// Public Class Members
+	// **********************************************************************
+
+	public static final int MIN_BARS = 16;
+	public static final int MAX_BARS = 4096;
+	public static final float MAX_HEIGHT = 50.0f; // Tallest bar, in pixels
+	public static final double SPREAD = 0.08; // Kernel sigma, per bar count
+	public static final double ATTACK = 0.02; // Rise time constant, seconds
+	public static final double DECAY = 0.25; // Fall time constant, seconds
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	// State (internal) variables
+	private int bars;
+	private float[] kernel; // Half a Gaussian, center first, peak 1
+	private float[] input; // This frame's input, cleared by update()
+	private float[] peaks; // Peak follower
+	private float[] heights; // Output
+
+	// **********************************************************************
+	// Constructors and Finalizer
+	// **********************************************************************
+
+	public Visualizer(int bars) {
+		setBars(bars);
+	}
+
+	// **********************************************************************
+	// Getters and Setters
+	// **********************************************************************
+
+	public int getBars() {
+		return bars;
+	}
+
+	// Change the number of bars (clamped to MIN_BARS..MAX_BARS). Starts from
+	// empty bars.
+	public void setBars(int n) {
+		bars = Math.max(MIN_BARS, Math.min(MAX_BARS, n));
+		input = new float[bars];
+		peaks = new float[bars];
+		heights = new float[bars];
+
+		double sigma = Math.max(0.5, SPREAD * bars);
+		int radius = (int) Math.ceil(3.0 * sigma);
+
+		kernel = new float[radius + 1];
+
+		for (int i = 0; i <= radius; i++)
+			kernel[i] = (float) Math.exp(-0.5 * (i / sigma) * (i / sigma));
+	}
+
+	// Bar heights as of the last update(), from 0 to MAX_HEIGHT. The array is
+	// reused, so don't keep it past the frame.
+	public float[] getHeights() {
+		return heights;
+	}
+
+	// **********************************************************************
+	// Public Methods
+	// **********************************************************************
+
+	// Add an impulse of the given magnitude centered at position, from 0
+	// (first bar) to 1 (last bar).
+	public void impulse(double position, float magnitude) {
+		int c = (int) Math.round(Math.max(0.0, Math.min(1.0, position)) * (bars - 1));
+		int r = kernel.length - 1;
+		int lo = Math.max(0, c - r);
+		int hi = Math.min(bars - 1, c + r);
+
+		for (int b = lo; b <= hi; b++)
+			input[b] += magnitude * kernel[Math.abs(b - c)];
+	}
+
+	// Add a spectrum of n heights, scaled by gain, resampled to the bars.
+	public void spectrum(float[] spectrum, int n, float gain) {
+		if (n <= 0)
+			return;
+
+		float scale = (n - 1) / (float) Math.max(1, bars - 1);
+
+		for (int b = 0; b < bars; b++) {
+			float x = b * scale;
+			int i = Math.min((int) x, n - 1);
+			int j = Math.min(i + 1, n - 1);
+			float t = x - i;
+
+			input[b] += gain * (spectrum[i] + t * (spectrum[j] - spectrum[i]));
+		}
+	}
+
+	// Advance the envelopes by elapsed seconds, taking in this frame's input.
+	public void update(double elapsed) {
+		float fall = (float) Math.exp(-elapsed / DECAY);
+		float rise = (float) (1.0 - Math.exp(-elapsed / ATTACK));
+
+		for (int b = 0; b < bars; b++) {
+			float x = Math.min(MAX_HEIGHT, input[b]);
+			float p = Math.max(x, peaks[b] * fall);
+
+			peaks[b] = p;
+			heights[b] += (p - heights[b]) * rise;
+		}
+
+		Arrays.fill(input, 0.0f);
+	}
+}
+
+// ******************************************************************************
@@ -0,0 +1,194 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Read-only access to the samples of a WAV file. The file is memory-mapped
+// through a FileChannel, so samples are read straight from the page cache
+// without copying the file into the heap, however long it is. Supports PCM
+// integer samples of 8, 16, 24, or 32 bits and 32-bit float samples, in plain
+// or WAVE_FORMAT_EXTENSIBLE files, with any number of channels. Channels are
+// mixed down to mono floats in [-1, 1] when read.
+//
+// See soundfile.sapp.org/doc/WaveFormat/ for the layout.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.assignment.spotifyWidget;
+
+//import java.lang.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+//******************************************************************************
+
+/**
+ * The <CODE>WavFile</CODE> class.
+ * <P>
+ *
+ * @version %I%, %G%
+ */
+public final class WavFile {
+	// **********************************************************************
+	// Private Class Members
+	// **********************************************************************
+
+	private static final int FORMAT_PCM = 1;
+	private static final int FORMAT_FLOAT = 3;
+	private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+	// **********************************************************************
+	// Private Members
+	// **********************************************************************
+
+	// State (internal) variables
+	private final ByteBuffer data; // Sample data only (mapped)
+	private final int format; // FORMAT_PCM or FORMAT_FLOAT
+	private final int channels;
+	private final int sampleRate; // Frames per second
+	private final int bytesPerSample; // Per channel
+	private final int frames; // Number of sample frames
+
+	// **********************************************************************
+	// Constructors and Finalizer
+	// **********************************************************************
+
+	public WavFile(File file) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+				FileChannel channel = raf.getChannel()) {
+			long size = channel.size();
+
+			if (size > Integer.MAX_VALUE)
+				throw new IOException("WAV file too large to map: " + file);
+
+			MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+			map.order(ByteOrder.LITTLE_ENDIAN);
+
+			if (size < 12 || map.getInt(0) != 0x46464952 || map.getInt(8) != 0x45564157)
+				throw new IOException("Not a RIFF/WAVE file: " + file);
+
+			// Walk the chunks to find the format and the samples
+			int fmt = -1;
+			int dataStart = -1;
+			int dataSize = 0;
+			long p = 12;
+
+			while (p + 8 <= size && (fmt < 0 || dataStart < 0)) {
+				int id = map.getInt((int) p);
+				long length = map.getInt((int) p + 4) & 0xFFFFFFFFL;
+
+				if (id == 0x20746D66) // "fmt "
+					fmt = (int) p + 8;
+				else if (id == 0x61746164) { // "data"
+					dataStart = (int) p + 8;
+					dataSize = (int) Math.min(length, size - dataStart);
+				}
+
+				p += 8 + length + (length & 1); // Chunks are padded to even
+			}
+
+			if (fmt < 0 || dataStart < 0)
+				throw new IOException("WAV file has no fmt or data chunk: " + file);
+
+			int tag = map.getShort(fmt) & 0xFFFF;
+
+			if (tag == FORMAT_EXTENSIBLE)
+				tag = map.getShort(fmt + 24) & 0xFFFF; // Subformat GUID
+
+			channels = map.getShort(fmt + 2) & 0xFFFF;
+			sampleRate = map.getInt(fmt + 4);
+			bytesPerSample = (map.getShort(fmt + 14) & 0xFFFF) / 8;
+			format = tag;
+
+			if (channels < 1 || sampleRate < 1)
+				throw new IOException("Bad WAV format: " + file);
+
+			if (!(tag == FORMAT_PCM && bytesPerSample >= 1 && bytesPerSample <= 4) &&
+					!(tag == FORMAT_FLOAT && bytesPerSample == 4))
+				throw new IOException("Unsupported WAV encoding " + tag + " with " +
+						(8 * bytesPerSample) + " bits: " + file);
+
+			map.position(dataStart);
+			map.limit(dataStart + dataSize);
+			data = map.slice().order(ByteOrder.LITTLE_ENDIAN);
+			frames = dataSize / (channels * bytesPerSample);
+		}
+	}
+
+	// **********************************************************************
+	// Getters and Setters
+	// **********************************************************************
+
+	public int getChannels() {
+		return channels;
+	}
+
+	public int getSampleRate() {
+		return sampleRate;
+	}
+
+	public int getFrames() {
+		return frames;
+	}
+
+	// **********************************************************************
+	// Public Methods
+	// **********************************************************************
+
+	// Mix n frames starting at frame first down to mono, into out starting at
+	// offset. Frames past either end of the file read as silence.
+	public void read(long first, float[] out, int offset, int n) {
+		int stride = channels * bytesPerSample;
+		float scale = 1.0f / channels;
+
+		for (int i = 0; i < n; i++) {
+			long f = first + i;
+
+			if (f < 0 || f >= frames) {
+				out[offset + i] = 0.0f;
+				continue;
+			}
+
+			int p = (int) f * stride;
+			float sum = 0.0f;
+
+			for (int c = 0; c < channels; c++, p += bytesPerSample)
+				sum += sample(p);
+
+			out[offset + i] = sum * scale;
+		}
+	}
+
+	// **********************************************************************
+	// Private Methods
+	// **********************************************************************
+
+	// One sample at byte p, scaled to [-1, 1].
+	private float sample(int p) {
+		if (format == FORMAT_FLOAT)
+			return data.getFloat(p);
+
+		switch (bytesPerSample) {
+			case 1: // Unsigned
+				return ((data.get(p) & 0xFF) - 128) / 128.0f;
+
+			case 2:
+				return data.getShort(p) / 32768.0f;
+
+			case 3:
+				return (((data.get(p + 2) << 16) | ((data.get(p + 1) & 0xFF) << 8) |
+						(data.get(p) & 0xFF))) / 8388608.0f;
+
+			default:
+				return data.getInt(p) / 2147483648.0f;
+		}
+	}
+}
+
+// ******************************************************************************
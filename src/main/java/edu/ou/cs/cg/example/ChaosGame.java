@@ -0,0 +1,125 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Persistent point store for the chaos game that draws a Sierpinski gasket.
+// The points from earlier frames are kept, so growing from m to m' points
+// only computes the m' - m new ones. The store is emptied only when the base
+// triangle actually changes. New points come from a ChaosGenerator, which
+// fills them in parallel. This page is helpful:
+// en.wikipedia.org/wiki/Chaos_game
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.example;
+
+//import java.lang.*;
+import java.awt.geom.Point2D;
+import java.util.Arrays;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ChaosGame</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class ChaosGame
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final ChaosGenerator	generator;
+	private final double[]		t = new double[6];	// Base triangle x,y pairs
+	private boolean			valid = false;		// Base triangle set?
+
+	private float[]			xy;			// Points so far, as x,y pairs
+	private int				count;			// Number of points so far
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public ChaosGame()
+	{
+		this(new ChaosGenerator());
+	}
+
+	public ChaosGame(ChaosGenerator generator)
+	{
+		this.generator = generator;
+
+		xy = new float[2 * 1024];
+		count = 0;
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int	getCount()
+	{
+		return count;
+	}
+
+	// Points as x,y pairs. Only the first 2 * getCount() values are valid, and
+	// the array may be replaced by a larger one when the store grows.
+	public float[]	getPoints()
+	{
+		return xy;
+	}
+
+	// Set the base triangle. Returns true (and empties the store) only if
+	// any of its vertices differ from the current ones.
+	public boolean	setTriangle(Point2D.Double[] v)
+	{
+		if (valid && (t[0] == v[0].x) && (t[1] == v[0].y) &&
+			(t[2] == v[1].x) && (t[3] == v[1].y) &&
+			(t[4] == v[2].x) && (t[5] == v[2].y))
+			return false;
+
+		for (int i=0; i<3; i++)
+		{
+			t[2 * i] = v[i].x;
+			t[2 * i + 1] = v[i].y;
+		}
+
+		valid = true;
+		reset();
+
+		return true;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Empty the store.
+	public void	reset()
+	{
+		count = 0;
+	}
+
+	// Make the store hold exactly m points. Computes only the points that are
+	// new since the last call. If m is smaller than the current count, the
+	// store keeps its first m points.
+	public void	extend(int m)
+	{
+		if (m < count)
+		{
+			count = Math.max(m, 0);
+			return;
+		}
+
+		if (2 * m > xy.length)
+			xy = Arrays.copyOf(xy, Math.max(2 * m, 2 * xy.length));
+
+		generator.generate(t, xy, count, m - count);
+		count = m;
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,137 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Parallel point generator for the chaos game. A request for n points is cut
+// into one contiguous slice per worker. Each slice gets its own SplittableRandom
+// stream, split off a root stream in slice order before any task runs, so the
+// output depends only on the seed, the worker count, and the sequence of
+// requests, never on thread scheduling.
+//
+// Each slice starts at the first vertex of the base triangle and runs a short
+// burn-in before it stores anything. Every step halves the distance to the
+// attractor, so after BURN_IN steps the error is far below one pixel.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.example;
+
+//import java.lang.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import edu.ou.cs.cg.utilities.Slices;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ChaosGenerator</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class ChaosGenerator
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int	BURN_IN = 20;		// Steps before first point
+	public static final int	MIN_SLICE = 4096;	// Points per task, at least
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final ForkJoinPool			pool;
+	private final SplittableRandom		root;		// Splits one stream per slice
+	private final int					workers;	// Maximum slices per request
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Nondeterministic seed, one worker per available processor.
+	public ChaosGenerator()
+	{
+		this(System.nanoTime(), Runtime.getRuntime().availableProcessors());
+	}
+
+	public ChaosGenerator(long seed, int workers)
+	{
+		this.pool = ForkJoinPool.commonPool();
+		this.root = new SplittableRandom(seed);
+		this.workers = Math.max(1, workers);
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int	getWorkers()
+	{
+		return workers;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Generate n points inside the base triangle t (x,y pairs of its three
+	// vertices), storing them as x,y pairs into xy starting at point offset.
+	// Not thread-safe; call from one thread at a time.
+	public void	generate(double[] t, float[] xy, int offset, int n)
+	{
+		if (n <= 0)
+			return;
+
+		int					slices = Math.max(1,
+										  Math.min(workers, n / MIN_SLICE));
+		SplittableRandom[]	streams = new SplittableRandom[slices];
+
+		for (int i=0; i<slices; i++)			// Split in a fixed order
+			streams[i] = root.split();
+
+		Slices.invoke(pool, n, slices, new Slices.Body() {
+				public void run(int slice, long lo, long hi) {
+					fill(t, xy, offset + (int)lo, (int)(hi - lo),
+						 streams[slice]);
+				}
+			});
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// Fill points [offset, offset + n) from a single random stream.
+	private static void	fill(double[] t, float[] xy, int offset, int n,
+							 SplittableRandom random)
+	{
+		double	x = t[0];
+		double	y = t[1];
+
+		for (int i=0; i<BURN_IN; i++)
+		{
+			int	index = 2 * random.nextInt(3);
+
+			x = (x + t[index]) / 2;
+			y = (y + t[index + 1]) / 2;
+		}
+
+		int	end = 2 * (offset + n);
+
+		for (int i=2*offset; i<end; i+=2)
+		{
+			int	index = 2 * random.nextInt(3);
+
+			x = (x + t[index]) / 2;				// Fold x,y inside base triangle
+			y = (y + t[index + 1]) / 2;			// relative to a random vertex.
+
+			xy[i] = (float)x;
+			xy[i + 1] = (float)y;
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,335 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Density histogram for the chaos game. Instead of drawing every iteration as
+// a point, iterations are counted into a grid of bins, one bin per pixel of
+// the area being viewed. The counts are then tone-mapped with a log scale
+// into an RGBA image that can be uploaded as a single texture. This supports
+// far more iterations than drawing GL_POINTS, since the cost per iteration is
+// one increment, and the cost to draw is one textured quad.
+//
+// Iterations run in parallel on the common ForkJoinPool. Each slice counts
+// into its own private grid, and the private grids are summed afterward, so
+// there is no contention between slices. Counts saturate instead of
+// overflowing, so the grid can keep accumulating for as long as it's shown.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.example;
+
+//import java.lang.*;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import edu.ou.cs.cg.utilities.Slices;
+
+//******************************************************************************
+
+/**
+ * The <CODE>DensityGrid</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class DensityGrid
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int	MIN_SLICE = 1 << 16;	// Iterations per task
+	private static final int	LOG_TABLE = 4096;		// Cached log1p() counts
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final SplittableRandom	root;
+	private final int				workers;
+
+	private int					w;				// Grid width, in bins
+	private int					h;				// Grid height, in bins
+	private double					xmin;			// Scene bounds of the grid
+	private double					xmax;
+	private double					ymin;
+	private double					ymax;
+
+	private int[]					bins;			// Merged counts
+	private int[][]				partials;		// One private grid per slice
+	private long					total;			// Iterations so far
+	private int					max;			// Largest count so far
+
+	private final float[]			logs = new float[LOG_TABLE];
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public DensityGrid()
+	{
+		this(System.nanoTime(), Runtime.getRuntime().availableProcessors());
+	}
+
+	public DensityGrid(long seed, int workers)
+	{
+		this.root = new SplittableRandom(seed);
+		this.workers = Math.max(1, workers);
+
+		for (int i=0; i<LOG_TABLE; i++)
+			logs[i] = (float)Math.log1p(i);
+
+		partials = new int[this.workers][];
+		setBounds(-1.0, 1.0, -1.0, 1.0);
+		resize(1, 1);
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int	getWidth()
+	{
+		return w;
+	}
+
+	public int	getHeight()
+	{
+		return h;
+	}
+
+	public long	getTotal()
+	{
+		return total;
+	}
+
+	public int	getMax()
+	{
+		return max;
+	}
+
+	// Change the number of bins. Clears the grid if the size changes.
+	public void	resize(int w, int h)
+	{
+		w = Math.max(1, w);
+		h = Math.max(1, h);
+
+		if ((bins != null) && (w == this.w) && (h == this.h))
+			return;
+
+		this.w = w;
+		this.h = h;
+
+		bins = new int[w * h];
+
+		for (int i=0; i<partials.length; i++)
+			partials[i] = null;				// Reallocated on demand
+
+		clear();
+	}
+
+	// Change the scene area covered by the grid. Clears the grid if it moves.
+	public void	setBounds(double xmin, double xmax, double ymin, double ymax)
+	{
+		if ((xmin == this.xmin) && (xmax == this.xmax) &&
+			(ymin == this.ymin) && (ymax == this.ymax))
+			return;
+
+		this.xmin = xmin;
+		this.xmax = xmax;
+		this.ymin = ymin;
+		this.ymax = ymax;
+
+		clear();
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	public void	clear()
+	{
+		if (bins != null)
+			Arrays.fill(bins, 0);
+
+		total = 0;
+		max = 0;
+	}
+
+	// Run n more iterations of the chaos game inside the base triangle t (x,y
+	// pairs of its three vertices) and count them into the grid. Iterations
+	// that land outside the grid bounds are counted in the total only.
+	public void	accumulate(double[] t, long n)
+	{
+		accumulate(new DensityGrid[] { this }, t, n);
+	}
+
+	// Same as accumulate(t, n), but counts one stream of n iterations into
+	// several grids at once, each with its own size and bounds. Useful to show
+	// the same gasket at several zoom levels for the cost of one. The first
+	// grid supplies the random numbers and the number of slices.
+	public static void	accumulate(DensityGrid[] grids, double[] t, long n)
+	{
+		if (n <= 0)
+			return;
+
+		DensityGrid			first = grids[0];
+		int					slices = (int)Math.max(1, Math.min(first.workers,
+													n / MIN_SLICE));
+		SplittableRandom[]	streams = new SplittableRandom[slices];
+
+		for (int i=0; i<slices; i++)
+			streams[i] = first.root.split();
+
+		for (DensityGrid grid : grids)
+			grid.allocate(slices);
+
+		Slices.invoke(ForkJoinPool.commonPool(), n, slices, new Slices.Body() {
+				public void run(int slice, long lo, long hi) {
+					bin(grids, t, hi - lo, streams[slice], slice);
+				}
+			});
+
+		for (DensityGrid grid : grids)
+		{
+			grid.merge(slices);
+			grid.total += n;
+		}
+	}
+
+	// Tone-map the counts into w * h RGBA pixels (white, with a log-scaled
+	// alpha), rows ordered bottom to top to match OpenGL texture layout.
+	public void	toneMap(ByteBuffer rgba)
+	{
+		float	scale = (max > 0) ? 255.0f / (float)Math.log1p(max) : 0.0f;
+
+		rgba.clear();
+
+		for (int i=0; i<bins.length; i++)
+		{
+			int		c = bins[i];
+			float	v = (c < LOG_TABLE) ? logs[c] : (float)Math.log1p(c);
+
+			rgba.put((byte)0xFF);
+			rgba.put((byte)0xFF);
+			rgba.put((byte)0xFF);
+			rgba.put((byte)(int)(v * scale));
+		}
+
+		rgba.flip();
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	// Make sure there's a private grid for each of the first n slices.
+	private void	allocate(int n)
+	{
+		if (partials.length < n)
+			partials = Arrays.copyOf(partials, n);
+
+		for (int i=0; i<n; i++)
+			if (partials[i] == null)
+				partials[i] = new int[w * h];
+	}
+
+	// Add the first n private grids into the merged counts, saturating
+	// instead of overflowing, and zero them for next time.
+	private void	merge(int n)
+	{
+		int	m = max;
+
+		for (int s=0; s<n; s++)
+		{
+			int[]	p = partials[s];
+
+			for (int i=0; i<bins.length; i++)
+			{
+				if (p[i] == 0)
+					continue;
+
+				long	v = (long)bins[i] + p[i];
+				int		c = (v > Integer.MAX_VALUE) ? Integer.MAX_VALUE
+													: (int)v;
+
+				bins[i] = c;
+				p[i] = 0;
+
+				if (c > m)
+					m = c;
+			}
+		}
+
+		max = m;
+	}
+
+	// Iterate n times from the first vertex after a burn-in, counting into the
+	// private grid for the given slice of every grid.
+	private static void	bin(DensityGrid[] grids, double[] t, long n,
+								SplittableRandom random, int slice)
+	{
+		int			k = grids.length;
+		double[]	sx = new double[k];
+		double[]	sy = new double[k];
+		double[]	x0 = new double[k];
+		double[]	y0 = new double[k];
+		int[]		gw = new int[k];
+		int[]		gh = new int[k];
+		int[][]		p = new int[k][];
+
+		for (int g=0; g<k; g++)
+		{
+			DensityGrid	grid = grids[g];
+
+			sx[g] = grid.w / (grid.xmax - grid.xmin);
+			sy[g] = grid.h / (grid.ymax - grid.ymin);
+			x0[g] = grid.xmin;
+			y0[g] = grid.ymin;
+			gw[g] = grid.w;
+			gh[g] = grid.h;
+			p[g] = grid.partials[slice];
+		}
+
+		double	x = t[0];
+		double	y = t[1];
+
+		for (int i=0; i<ChaosGenerator.BURN_IN; i++)
+		{
+			int	index = 2 * random.nextInt(3);
+
+			x = (x + t[index]) / 2;
+			y = (y + t[index + 1]) / 2;
+		}
+
+		long	r = 0L;
+
+		for (long i=0; i<n; i++)
+		{
+			// Take two vertex choices from each random long. Scaling 32 random
+			// bits by 3 gives an index in [0,2] with negligible bias.
+			if ((i & 1L) == 0L)
+				r = random.nextLong();
+			else
+				r >>>= 32;
+
+			int	index = 2 * (int)(((r & 0xFFFFFFFFL) * 3L) >>> 32);
+
+			x = (x + t[index]) / 2;				// Fold x,y inside base triangle
+			y = (y + t[index + 1]) / 2;			// relative to a random vertex.
+
+			for (int g=0; g<k; g++)
+			{
+				double	bx = (x - x0[g]) * sx[g];
+				double	by = (y - y0[g]) * sy[g];
+
+				if ((bx >= 0.0) && (bx < gw[g]) && (by >= 0.0) && (by < gh[g]))
+					p[g][(int)by * gw[g] + (int)bx]++;
+			}
+		}
+	}
+}
+
+//******************************************************************************
@@ -27,6 +27,7 @@ package edu.ou.cs.cg.example;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.*;
+import java.nio.ByteBuffer;
 import java.util.Random;
 import javax.swing.*;
 import com.jogamp.opengl.*;
@@ -35,6 +36,9 @@ import com.jogamp.opengl.glu.GLU;
 import com.jogamp.opengl.util.FPSAnimator;
 import com.jogamp.opengl.util.awt.TextRenderer;
 import com.jogamp.opengl.util.gl2.GLUT;
+import com.jogamp.common.nio.Buffers;
+import edu.ou.cs.cg.utilities.ImageTexture;
+import edu.ou.cs.cg.utilities.VertexBuffer;
 
 //******************************************************************************
 
@@ -52,7 +56,6 @@ public final class Gasket
 	//**********************************************************************
 
 	public static final GLUT	MYGLUT = new GLUT();
-	public static final Random	RANDOM = new Random();
 
 	//**********************************************************************
 	// Private Members
@@ -65,12 +68,25 @@ public final class Gasket
 	private TextRenderer		renderer;
 
 	private int				m = 1;			// Number of points to draw
+	private int				pinned = 0;	// Fixed number of points, if > 0
+	private final Random		random;		// Color and vertex mode changes
 	private double				theta = 0.0;	// Current angle
 	private double				s = 0.0;		// Sine of angle
 	private double				c = 0.0;		// Cosine of angle
 	private int				cmode = 0;		// Color mode [0-2]
 	private int				vmode = 0;		// Vertex mode [0-2]
 
+	private final ChaosGame	chaos;			// Persistent point store
+	private volatile boolean	retained = true;	// Draw points from a VBO?
+	private VertexBuffer		points;			// Retained gasket points
+	private double				ftime = 0.0;	// Smoothed render time (ms)
+
+	private volatile boolean	density = false;	// Draw as a histogram?
+	private long				budget = 1L << 22;	// Iterations per frame
+	private DensityGrid		grid;			// Histogram of iterations
+	private ImageTexture		image;			// Tone-mapped histogram
+	private ByteBuffer			pixels;		// Tone-mapped RGBA pixels
+
 	//**********************************************************************
 	// Main
 	//**********************************************************************
@@ -86,6 +102,28 @@ public final class Gasket
 
 	public Gasket(String[] args)
 	{
+		// Use -seed=<n> and -workers=<n> for reproducible point sets and
+		// mode changes, and -points=<n> to draw n points every frame
+		long	seed = System.nanoTime();
+		int		workers = Runtime.getRuntime().availableProcessors();
+
+		for (String arg : args)
+		{
+			if ("-immediate".equals(arg))
+				retained = false;
+			else if (arg.startsWith("-seed="))
+				seed = Long.parseLong(arg.substring(6));
+			else if (arg.startsWith("-workers="))
+				workers = Integer.parseInt(arg.substring(9));
+			else if (arg.startsWith("-budget="))
+				budget = Long.parseLong(arg.substring(8));
+			else if (arg.startsWith("-points="))
+				pinned = Integer.parseInt(arg.substring(8));
+		}
+
+		random = new Random(seed);
+		chaos = new ChaosGame(new ChaosGenerator(seed, workers));
+		grid = new DensityGrid(seed, workers);
 	}
 
 	//**********************************************************************
@@ -126,6 +164,17 @@ public final class Gasket
 				}
 			});
 
+		// Toggle between retained (VBO) and immediate point drawing, and
+		// between points and a density histogram of many more iterations
+		canvas.addKeyListener(new KeyAdapter() {
+				public void keyPressed(KeyEvent e) {
+					if (e.getKeyCode() == KeyEvent.VK_SPACE)
+						retained = !retained;
+					else if (e.getKeyCode() == KeyEvent.VK_D)
+						density = !density;
+				}
+			});
+
 		// Register this class to update whenever OpenGL needs it
 		canvas.addGLEventListener(this);
 
@@ -147,6 +196,8 @@ public final class Gasket
 
 		renderer = new TextRenderer(new Font("Serif", Font.PLAIN, 18),
 									true, true);
+		points = new VertexBuffer(100000);
+		image = new ImageTexture();
 
 		GL2	gl = drawable.getGL().getGL2();
 
@@ -157,6 +208,10 @@ public final class Gasket
 	// Notification to release resources for the GLContext.
 	public void	dispose(GLAutoDrawable drawable)
 	{
+		GL2	gl = drawable.getGL().getGL2();
+
+		points.dispose(gl);
+		image.dispose(gl);
 		renderer = null;
 	}
 
@@ -183,7 +238,9 @@ public final class Gasket
 	{
 		k++;									// Advance animation counter
 
-		if (m > 100000)						// Check point cap
+		if (pinned > 0)						// Point count is fixed
+			m = pinned;
+		else if (m > 100000)					// Check point cap
 			m = 1;								// Reset point count
 		else
 			m = (int)Math.floor(m * 1.07) + 1;	// Increase point count
@@ -194,11 +251,37 @@ public final class Gasket
 
 		if ((k % 300) == 0)
 		{
-			cmode = RANDOM.nextInt(3);			// Change color mode
-			vmode = RANDOM.nextInt(3);			// Change vertex mode
+			cmode = random.nextInt(3);			// Change color mode
+			vmode = random.nextInt(3);			// Change vertex mode
 
 			//System.out.println("CMode: " + cmode + " VMode: " + vmode);
 		}
+
+		Point2D.Double[]	t = new Point2D.Double[3];
+
+		calcVertices(t, vmode);
+
+		if (chaos.setTriangle(t))				// Base triangle has changed,
+		{
+			points.clear();					// so start over from scratch
+			grid.clear();
+		}
+
+		if (density)							// Count many more iterations
+		{
+			double[]	v = new double[] { t[0].x, t[0].y, t[1].x, t[1].y,
+										   t[2].x, t[2].y };
+
+			grid.resize(w, h);					// One bin per pixel
+			grid.setBounds(-1.0, 1.0, -1.0, 1.0);	// Same as the projection
+			grid.accumulate(v, budget);
+			return;
+		}
+
+		chaos.extend(m);						// Add only the new points
+
+		if (points.getCount() > m)				// Point count was reset, so
+			points.truncate(m);				// drop the stale tail too
 	}
 
 	// Render the scene model and display the current animation frame.
@@ -210,9 +293,21 @@ public final class Gasket
 
 		setProjection(gl);						// Use the default projection
 
+		long	t0 = System.nanoTime();		// Time the scene (CPU side)
+
 		// Draw the scene
 		drawBaseTriangle(gl);					// Draw a colored triangle
-		drawSierpinskiTriangle(gl);			// Draw a Sierpinski triangle
+
+		if (density)
+			drawSierpinskiDensity(gl);			// Draw gasket as a histogram
+		else if (retained)
+			drawSierpinskiPoints(gl);			// Draw gasket from a VBO
+		else
+			drawSierpinskiTriangle(gl);		// Draw a Sierpinski triangle
+
+		// Keep a running average so the number is readable on screen
+		ftime = 0.95 * ftime + 0.05 * ((System.nanoTime() - t0) / 1.0e6);
+
 		drawText(drawable);					// Draw some text
 
 		gl.glFlush();							// Finish and display
@@ -225,7 +320,7 @@ public final class Gasket
 	// Position and orient the default camera to view in 2-D, centered above.
 	private void	setProjection(GL2 gl)
 	{
-		GLU	glu = GLU.createGLU();
+		GLU	glu = GLU.createGLU(gl);
 
 		gl.glMatrixMode(GL2.GL_PROJECTION);		// Prepare for matrix xform
 		gl.glLoadIdentity();						// Set to identity matrix
@@ -265,31 +360,53 @@ public final class Gasket
 
 	// Draw a Sierpinski gasket inside the base triangle. This page is helpful:
 	// en.wikipedia.org/wiki/Sierpinski_triangle
+	// The points themselves are kept from frame to frame by the ChaosGame
+	// store, which folds each new point inside the base triangle relative to
+	// a random vertex. See update().
 	private void	drawSierpinskiTriangle(GL2 gl)
 	{
 		gl.glBegin(GL.GL_POINTS);				// Start specifying points
 		gl.glColor3f(1.0f, 1.0f, 1.0f);		// Draw in white
 
-		Point2D.Double[]	t = new Point2D.Double[3];
-		Point2D.Double		p = new Point2D.Double(c, c);
+		float[]	xy = chaos.getPoints();
+		int		n = chaos.getCount();
 
-		calcVertices(t, vmode);
+		for (int i=0; i<n; i++)				// Draw m points
+			gl.glVertex2f(xy[2 * i], xy[2 * i + 1]);
+
+		gl.glEnd();
+	}
 
-		p.x = t[0].x;							// Initial x coordinate
-		p.y = t[0].y;							// Initial y coordinate
+	// Same as drawSierpinskiTriangle(), but copies the points into a vertex
+	// buffer and draws them with one glDrawArrays() call. Press space to
+	// switch between the two and compare their render times.
+	private void	drawSierpinskiPoints(GL2 gl)
+	{
+		int	n = chaos.getCount();
 
-		for (int i=0; i<m; i++)				// Draw m points
-		{
-			int	index = RANDOM.nextInt(3);
+		// Append only the points added to the store since the last frame
+		points.add(chaos.getPoints(), points.getCount(), n - points.getCount());
+		points.upload(gl);						// Copy new points to the GPU
 
-			p.x = (p.x + t[index].x) / 2;		// Fold x,y inside base triangle
-			p.y = (p.y + t[index].y) / 2;		// relative to a random vertex.
-			//System.out.println(" " + index + " " + p.x + " " + p.y);
+		gl.glColor3f(1.0f, 1.0f, 1.0f);		// Draw in white
+		points.draw(gl, GL.GL_POINTS);
+	}
 
-			gl.glVertex2d(p.x, p.y);
-		}
+	// Draw the density histogram of all iterations so far as one texture
+	// covering the whole projection. Press d to switch to/from points.
+	private void	drawSierpinskiDensity(GL2 gl)
+	{
+		int	gw = grid.getWidth();
+		int	gh = grid.getHeight();
 
-		gl.glEnd();
+		if ((pixels == null) || (pixels.capacity() < gw * gh * 4))
+			pixels = Buffers.newDirectByteBuffer(gw * gh * 4);
+
+		grid.toneMap(pixels);					// Log-scale counts to alpha
+		image.update(gl, gw, gh, pixels);		// Upload as a single texture
+
+		gl.glColor3f(1.0f, 1.0f, 1.0f);		// Draw in white
+		image.draw(gl, -1.0, 1.0, -1.0, 1.0);
 	}
 
 	// Warning! Text is drawn in unprojected canvas/viewport coordinates.
@@ -300,7 +417,11 @@ public final class Gasket
 		renderer.beginRendering(w, h);
 		renderer.setColor(0.75f, 0.75f, 0.75f, 1.0f);
 		renderer.draw("Sierpinski Gasket (CMode: " + cmode +
-					  " VMode: " + vmode + " Points: " + m + ")", 2, h - 14);
+					  " VMode: " + vmode + " Points: " +
+					  (density ? grid.getTotal() : m) + ")", 2, h - 14);
+		renderer.draw((density ? "Density" : retained ? "Retained" :
+					   "Immediate") + " [space|d]: " +
+					  String.format("%.2f ms", ftime), 2, h - 34);
 		renderer.endRendering();
 	}
 
@@ -66,6 +66,12 @@ public final class Lorenz
 
 	private int				m = 1;			// Number of points to draw
 
+	private final LorenzTrajectory	trajectory;	// Cached integrated states
+	private volatile LorenzTrajectory.Integrator	integrator;
+
+	private final LorenzEnsemble	ensemble;	// Perturbed trajectories
+	private volatile boolean		ensembled;	// Show ensemble instead?
+
 	//**********************************************************************
 	// Main
 	//**********************************************************************
@@ -81,6 +87,24 @@ public final class Lorenz
 
 	public Lorenz(String[] args)
 	{
+		// Use -ensemble=<n>, -seed=<n>, and -workers=<n> to size the ensemble
+		int		n = 16384;
+		long	seed = System.nanoTime();
+		int		workers = Runtime.getRuntime().availableProcessors();
+
+		for (String arg : args)
+		{
+			if (arg.startsWith("-ensemble="))
+				n = Integer.parseInt(arg.substring(10));
+			else if (arg.startsWith("-seed="))
+				seed = Long.parseLong(arg.substring(6));
+			else if (arg.startsWith("-workers="))
+				workers = Integer.parseInt(arg.substring(9));
+		}
+
+		trajectory = new LorenzTrajectory();
+		integrator = trajectory.getIntegrator();
+		ensemble = new LorenzEnsemble(n, 1.0e-3, seed, workers);
 	}
 
 	//**********************************************************************
@@ -121,6 +145,31 @@ public final class Lorenz
 				}
 			});
 
+		// Choose the integrator with the number keys, E toggles the ensemble
+		canvas.addKeyListener(new KeyAdapter() {
+				public void keyPressed(KeyEvent e) {
+					switch (e.getKeyCode())
+					{
+						case KeyEvent.VK_1:
+							integrator = LorenzTrajectory.Integrator.EULER;
+							break;
+
+						case KeyEvent.VK_2:
+							integrator = LorenzTrajectory.Integrator.RK4;
+							break;
+
+						case KeyEvent.VK_3:
+							integrator =
+								LorenzTrajectory.Integrator.DORMAND_PRINCE;
+							break;
+
+						case KeyEvent.VK_E:
+							ensembled = !ensembled;
+							break;
+					}
+				}
+			});
+
 		// Register this class to update whenever OpenGL needs it
 		canvas.addGLEventListener(this);
 
@@ -178,12 +227,21 @@ public final class Lorenz
 	{
 		k++;									// Advance animation counter
 
+		if (ensembled)
+		{
+			ensemble.advance(2, trajectory.getStepSize());	// Two steps
+			return;
+		}
+
 		if (m > 100000)						// Check point cap
 			m = 1;								// Reset point count
 		else
 			m++;								// Faster increase at low counts
 
 		m = (int)Math.floor(m * 1.01) + 1;		// Increase point count
+
+		trajectory.setIntegrator(integrator);	// Resets only on a change
+		trajectory.extend(m + 1);				// Integrate only new steps
 	}
 
 	// Render the scene model and display the current animation frame.
@@ -196,7 +254,11 @@ public final class Lorenz
 		//setProjection(gl);					// Use the default projection
 
 		// Draw the scene
-		drawLorenzAttractor(gl);				// Draw the Lorenz Attractor
+		if (ensembled)
+			drawLorenzEnsemble(gl);			// Draw the ensemble
+		else
+			drawLorenzAttractor(gl);			// Draw the Lorenz Attractor
+
 		drawText(drawable);					// Draw some text
 
 		gl.glFlush();							// Finish and display
@@ -227,25 +289,13 @@ public final class Lorenz
 	{
 		gl.glBegin(GL.GL_POINTS);				// Start specifying points
 
-		double		dt = 0.01;					// Integration step size
-		double		sigma = 10.0;				// Constant for updating x
-		double		rho = 28.0;				// Constant for updating y
-		double		beta = 8.0 / 3.0;			// Constant for updating z
-		double		lx = 0.1;					// Initial x coordinate
-		double		ly = 0.0;					// Initial y coordinate
-		double		lz = 0.0;					// Initial z coordinate
+		double[]	xyz = trajectory.getStates();	// Integrated from (0.1,0,0)
 
-		for (int i=0; i<m; i++)
+		for (int i=1; i<=m; i++)				// Skip the initial state
 		{
-			double	llx = lx + dt * sigma * (ly - lx);
-			double	lly = ly + dt * (lx * (rho - lz) - ly);
-			double	llz = lz + dt * (lx * ly - beta * lz);
-
-			lx = llx;
-			ly = lly;
-			lz = llz;
-			//System.out.println(" " + lx + " " + ly + " " + lz);
-
+			double	lx = xyz[3 * i];
+			double	ly = xyz[3 * i + 1];
+			double	lz = xyz[3 * i + 2];
 			float	cc = (float)((lz + 30.0) / 60.0);
 
 			gl.glColor3f(cc, cc, cc);			// Draw in gray, depth-scaled
@@ -255,6 +305,26 @@ public final class Lorenz
 		gl.glEnd();
 	}
 
+	// Draw the current point of every trajectory in the ensemble.
+	private void	drawLorenzEnsemble(GL2 gl)
+	{
+		gl.glBegin(GL.GL_POINTS);				// Start specifying points
+
+		double[]	x = ensemble.getX();
+		double[]	y = ensemble.getY();
+		double[]	z = ensemble.getZ();
+
+		for (int i=0; i<x.length; i++)
+		{
+			float	cc = (float)((z[i] + 30.0) / 60.0);
+
+			gl.glColor3f(cc, cc, cc);			// Draw in gray, depth-scaled
+			gl.glVertex2d(x[i] / 30.0, y[i] / 30.0);
+		}
+
+		gl.glEnd();
+	}
+
 	// Warning! Text is drawn in unprojected canvas/viewport coordinates.
 	// For more on text rendering, the example on this page is long but helpful:
 	// jogamp.org/jogl-demos/src/demos/j2d/FlyingText.java
@@ -262,7 +332,24 @@ public final class Lorenz
 	{
 		renderer.beginRendering(w, h);
 		renderer.setColor(0.75f, 0.75f, 0.75f, 1.0f);
+		if (ensembled)
+		{
+			renderer.draw("Lorenz Ensemble (Trajectories: " +
+						  ensemble.getSize() + ")", 2, h - 14);
+			renderer.draw(String.format("RK4 [e]: %.3g steps/s on %d workers",
+										ensemble.getStepsPerSecond(),
+										ensemble.getWorkers()), 2, h - 34);
+			renderer.endRendering();
+			return;
+		}
+
 		renderer.draw("Lorenz Attractor (Points: " + m + ")", 2, h - 14);
+		renderer.draw(String.format("%s [1|2|3]: %.3g steps/s, " +
+									"error %.2e (max %.2e)",
+									trajectory.getIntegrator(),
+									trajectory.getStepsPerSecond(),
+									trajectory.getLastError(),
+									trajectory.getMaxError()), 2, h - 34);
 		renderer.endRendering();
 	}
 }
@@ -0,0 +1,226 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Ensemble of Lorenz trajectories that start from slightly perturbed copies of
+// the same initial state. Nearby trajectories separate exponentially, so the
+// ensemble spreads out over the whole attractor within a few seconds.
+//
+// States are stored as a structure of arrays, one double[] each for x, y, and
+// z, and advanced with fixed-step RK4 in a single flat loop per slice. Each
+// iteration touches only index i of each array and has no branches, which is
+// the shape that the JIT's superword pass can turn into SIMD instructions.
+// Each slice takes all of its steps one cache-sized block of trajectories at
+// a time, and slices run in parallel on the common ForkJoinPool.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.example;
+
+//import java.lang.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import edu.ou.cs.cg.utilities.Slices;
+
+//******************************************************************************
+
+/**
+ * The <CODE>LorenzEnsemble</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class LorenzEnsemble
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int	MIN_SLICE = 4096;	// Trajectories per task
+	public static final int	BLOCK = 1024;		// Trajectories per cache block
+
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final double	SIGMA = LorenzTrajectory.SIGMA;
+	private static final double	RHO = LorenzTrajectory.RHO;
+	private static final double	BETA = LorenzTrajectory.BETA;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final ForkJoinPool	pool;
+	private final int			workers;	// Maximum slices per advance
+	private final int			n;			// Number of trajectories
+
+	private final double[]		x;
+	private final double[]		y;
+	private final double[]		z;
+
+	// Statistics
+	private long				steps;		// Trajectory steps taken
+	private long				nanos;		// Time spent integrating
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Nondeterministic perturbations, one worker per available processor.
+	public LorenzEnsemble(int n)
+	{
+		this(n, 1.0e-3, System.nanoTime(),
+			 Runtime.getRuntime().availableProcessors());
+	}
+
+	// n trajectories starting within spread of (0.1, 0, 0), each coordinate
+	// perturbed independently and uniformly.
+	public LorenzEnsemble(int n, double spread, long seed, int workers)
+	{
+		this.pool = ForkJoinPool.commonPool();
+		this.workers = Math.max(1, workers);
+		this.n = Math.max(1, n);
+
+		x = new double[this.n];
+		y = new double[this.n];
+		z = new double[this.n];
+
+		SplittableRandom	random = new SplittableRandom(seed);
+
+		for (int i=0; i<this.n; i++)
+		{
+			x[i] = 0.1 + spread * (2.0 * random.nextDouble() - 1.0);
+			y[i] = 0.0 + spread * (2.0 * random.nextDouble() - 1.0);
+			z[i] = 0.0 + spread * (2.0 * random.nextDouble() - 1.0);
+		}
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int	getSize()
+	{
+		return n;
+	}
+
+	public int	getWorkers()
+	{
+		return workers;
+	}
+
+	// Current x coordinates. The arrays are owned by the ensemble; don't
+	// modify them, or read them during advance().
+	public double[]	getX()
+	{
+		return x;
+	}
+
+	public double[]	getY()
+	{
+		return y;
+	}
+
+	public double[]	getZ()
+	{
+		return z;
+	}
+
+	// Trajectory steps per second (trajectories * steps / time), over all
+	// calls to advance() so far.
+	public double	getStepsPerSecond()
+	{
+		return ((nanos > 0) ? (steps * 1.0e9 / nanos) : 0.0);
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Advance every trajectory by k steps of size dt.
+	public void	advance(int k, double dt)
+	{
+		if (k <= 0)
+			return;
+
+		int		slices = Math.max(1, Math.min(workers, n / MIN_SLICE));
+		long	start = System.nanoTime();
+
+		Slices.invoke(pool, n, slices, new Slices.Body() {
+				public void run(int slice, long lo, long hi) {
+					advance(x, y, z, (int)lo, (int)hi, k, dt);
+				}
+			});
+
+		nanos += System.nanoTime() - start;
+		steps += (long)n * k;
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// Advance trajectories [lo, hi) by k steps, one block at a time so that
+	// each block stays in cache for all k steps.
+	private static void	advance(double[] x, double[] y, double[] z,
+								int lo, int hi, int k, double dt)
+	{
+		for (int a=lo; a<hi; a+=BLOCK)
+			step(x, y, z, a, Math.min(a + BLOCK, hi), k, dt);
+	}
+
+	// Advance trajectories [lo, hi) by k steps of RK4. All of the work for one
+	// trajectory and step happens in one iteration, with no branches.
+	private static void	step(double[] x, double[] y, double[] z,
+							 int lo, int hi, int k, double dt)
+	{
+		double	h2 = 0.5 * dt;
+		double	h6 = dt / 6.0;
+
+		for (int s=0; s<k; s++)
+		{
+			for (int i=lo; i<hi; i++)
+			{
+				double	x0 = x[i];
+				double	y0 = y[i];
+				double	z0 = z[i];
+
+				double	ax = SIGMA * (y0 - x0);
+				double	ay = x0 * (RHO - z0) - y0;
+				double	az = x0 * y0 - BETA * z0;
+
+				double	x1 = x0 + h2 * ax;
+				double	y1 = y0 + h2 * ay;
+				double	z1 = z0 + h2 * az;
+
+				double	bx = SIGMA * (y1 - x1);
+				double	by = x1 * (RHO - z1) - y1;
+				double	bz = x1 * y1 - BETA * z1;
+
+				double	x2 = x0 + h2 * bx;
+				double	y2 = y0 + h2 * by;
+				double	z2 = z0 + h2 * bz;
+
+				double	cx = SIGMA * (y2 - x2);
+				double	cy = x2 * (RHO - z2) - y2;
+				double	cz = x2 * y2 - BETA * z2;
+
+				double	x3 = x0 + dt * cx;
+				double	y3 = y0 + dt * cy;
+				double	z3 = z0 + dt * cz;
+
+				double	dx = SIGMA * (y3 - x3);
+				double	dy = x3 * (RHO - z3) - y3;
+				double	dz = x3 * y3 - BETA * z3;
+
+				x[i] = x0 + h6 * (ax + 2.0 * (bx + cx) + dx);
+				y[i] = y0 + h6 * (ay + 2.0 * (by + cy) + dy);
+				z[i] = z0 + h6 * (az + 2.0 * (bz + cz) + dz);
+			}
+		}
+	}
+}
+
+//******************************************************************************
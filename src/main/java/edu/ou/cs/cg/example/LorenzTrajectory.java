@@ -0,0 +1,465 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Cached trajectory of the Lorenz system. The integrated states are kept in a
+// growing primitive array, so asking for more points only integrates the new
+// steps, and asking for fewer just uses a prefix. Three integrators are
+// available:
+//
+//   EULER            Forward Euler with a fixed step (the original example).
+//   RK4              Classic 4th order Runge-Kutta with a fixed step.
+//   DORMAND_PRINCE   Adaptive 5th order Runge-Kutta with an embedded 4th order
+//                    error estimate (the method behind MATLAB's ode45).
+//
+// Fixed-step methods estimate their local error by step doubling, sampled
+// every ERROR_SAMPLE steps so the estimate costs little. The adaptive method
+// gets its estimate from every step for free. These pages are helpful:
+// en.wikipedia.org/wiki/Lorenz_system
+// en.wikipedia.org/wiki/Runge-Kutta_methods
+// en.wikipedia.org/wiki/Dormand-Prince_method
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.example;
+
+//import java.lang.*;
+import java.util.Arrays;
+
+//******************************************************************************
+
+/**
+ * The <CODE>LorenzTrajectory</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class LorenzTrajectory
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final double		SIGMA = 10.0;		// Constant for updating x
+	public static final double		RHO = 28.0;		// Constant for updating y
+	public static final double		BETA = 8.0 / 3.0;	// Constant for updating z
+
+	public static final int		ERROR_SAMPLE = 64;	// Steps per error sample
+
+	public enum Integrator
+	{
+		EULER,
+		RK4,
+		DORMAND_PRINCE,
+	};
+
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	// Dormand-Prince coefficients (the 7th stage is the FSAL derivative)
+	private static final double	A21 = 1.0 / 5.0;
+	private static final double	A31 = 3.0 / 40.0;
+	private static final double	A32 = 9.0 / 40.0;
+	private static final double	A41 = 44.0 / 45.0;
+	private static final double	A42 = -56.0 / 15.0;
+	private static final double	A43 = 32.0 / 9.0;
+	private static final double	A51 = 19372.0 / 6561.0;
+	private static final double	A52 = -25360.0 / 2187.0;
+	private static final double	A53 = 64448.0 / 6561.0;
+	private static final double	A54 = -212.0 / 729.0;
+	private static final double	A61 = 9017.0 / 3168.0;
+	private static final double	A62 = -355.0 / 33.0;
+	private static final double	A63 = 46732.0 / 5247.0;
+	private static final double	A64 = 49.0 / 176.0;
+	private static final double	A65 = -5103.0 / 18656.0;
+	private static final double	B1 = 35.0 / 384.0;
+	private static final double	B3 = 500.0 / 1113.0;
+	private static final double	B4 = 125.0 / 192.0;
+	private static final double	B5 = -2187.0 / 6784.0;
+	private static final double	B6 = 11.0 / 84.0;
+	private static final double	E1 = 71.0 / 57600.0;		// 5th - 4th order
+	private static final double	E3 = -71.0 / 16695.0;
+	private static final double	E4 = 71.0 / 1920.0;
+	private static final double	E5 = -17253.0 / 339200.0;
+	private static final double	E6 = 22.0 / 525.0;
+	private static final double	E7 = -1.0 / 40.0;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private Integrator			integrator;
+	private double				dt;			// Fixed (or initial) step size
+	private double				tolerance;		// Adaptive error tolerance
+	private double				h;				// Adaptive current step size
+	private final double		x0;			// Initial state
+	private final double		y0;
+	private final double		z0;
+
+	private double[]			xyz;			// States so far, as x,y,z triples
+	private int				count;			// Number of states so far
+
+	// Scratch stage derivatives, and the FSAL derivative for Dormand-Prince
+	private final double[]		k1 = new double[3];
+	private final double[]		k2 = new double[3];
+	private final double[]		k3 = new double[3];
+	private final double[]		k4 = new double[3];
+	private final double[]		k5 = new double[3];
+	private final double[]		k6 = new double[3];
+	private final double[]		k7 = new double[3];
+	private final double[]		s = new double[3];
+	private final double[]		r = new double[3];
+	private boolean			fsal;			// Is k1 the derivative at head?
+
+	// Statistics
+	private long				steps;			// Steps taken (accepted)
+	private long				rejected;		// Adaptive steps rejected
+	private long				nanos;			// Time spent integrating
+	private double				lastError;		// Most recent error estimate
+	private double				maxError;		// Largest error estimate
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public LorenzTrajectory()
+	{
+		this(0.1, 0.0, 0.0, Integrator.EULER, 0.01);
+	}
+
+	public LorenzTrajectory(double x0, double y0, double z0,
+							Integrator integrator, double dt)
+	{
+		this.x0 = x0;
+		this.y0 = y0;
+		this.z0 = z0;
+		this.integrator = integrator;
+		this.dt = dt;
+		this.tolerance = 1.0e-6;
+
+		xyz = new double[3 * 1024];
+		reset();
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public Integrator	getIntegrator()
+	{
+		return integrator;
+	}
+
+	public double	getStepSize()
+	{
+		return dt;
+	}
+
+	public double	getTolerance()
+	{
+		return tolerance;
+	}
+
+	public int	getCount()
+	{
+		return count;
+	}
+
+	// States as x,y,z triples. Only the first 3 * getCount() values are valid,
+	// and the array may be replaced by a larger one when the trajectory grows.
+	public double[]	getStates()
+	{
+		return xyz;
+	}
+
+	// Integration steps per second, over all steps taken since the last reset.
+	public double	getStepsPerSecond()
+	{
+		return ((nanos > 0) ? (steps * 1.0e9 / nanos) : 0.0);
+	}
+
+	public long	getRejectedSteps()
+	{
+		return rejected;
+	}
+
+	// Most recent estimate of the local (per step) error, as a max norm.
+	public double	getLastError()
+	{
+		return lastError;
+	}
+
+	// Largest estimate of the local error since the last reset.
+	public double	getMaxError()
+	{
+		return maxError;
+	}
+
+	// Changing the integrator discards the cached trajectory.
+	public void	setIntegrator(Integrator integrator)
+	{
+		if (integrator == this.integrator)
+			return;
+
+		this.integrator = integrator;
+		reset();
+	}
+
+	// Changing the step size discards the cached trajectory.
+	public void	setStepSize(double dt)
+	{
+		if (dt == this.dt)
+			return;
+
+		this.dt = dt;
+		reset();
+	}
+
+	// Changing the tolerance discards the cached (adaptive) trajectory.
+	public void	setTolerance(double tolerance)
+	{
+		if (tolerance == this.tolerance)
+			return;
+
+		this.tolerance = tolerance;
+
+		if (integrator == Integrator.DORMAND_PRINCE)
+			reset();
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Discard all states except the initial one.
+	public void	reset()
+	{
+		xyz[0] = x0;
+		xyz[1] = y0;
+		xyz[2] = z0;
+		count = 1;
+		h = dt;
+		fsal = false;
+
+		steps = 0;
+		rejected = 0;
+		nanos = 0;
+		lastError = 0.0;
+		maxError = 0.0;
+	}
+
+	// Make sure the trajectory has at least m states, integrating only the
+	// steps that haven't been taken yet.
+	public void	extend(int m)
+	{
+		if (m <= count)
+			return;
+
+		if (3 * m > xyz.length)
+			xyz = Arrays.copyOf(xyz, Math.max(3 * m, 2 * xyz.length));
+
+		long	start = System.nanoTime();
+
+		switch (integrator)
+		{
+			case EULER:
+			case RK4:
+				extendFixed(m);
+				break;
+
+			case DORMAND_PRINCE:
+				extendAdaptive(m);
+				break;
+		}
+
+		nanos += System.nanoTime() - start;
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Store the Lorenz system derivative at (x,y,z) into d.
+	public static void	derivative(double x, double y, double z, double[] d)
+	{
+		d[0] = SIGMA * (y - x);
+		d[1] = x * (RHO - z) - y;
+		d[2] = x * y - BETA * z;
+	}
+
+	//**********************************************************************
+	// Private Methods (Fixed Step)
+	//**********************************************************************
+
+	private void	extendFixed(int m)
+	{
+		for (int i=count; i<m; i++)
+		{
+			int	a = 3 * (i - 1);
+			int	b = 3 * i;
+
+			step(xyz[a], xyz[a + 1], xyz[a + 2], dt, s);
+
+			xyz[b] = s[0];
+			xyz[b + 1] = s[1];
+			xyz[b + 2] = s[2];
+
+			if ((i % ERROR_SAMPLE) == 0)
+				sampleError(xyz[a], xyz[a + 1], xyz[a + 2]);
+		}
+
+		steps += m - count;
+		count = m;
+	}
+
+	// Take one fixed step of size dt from (x,y,z), storing the result in out.
+	private void	step(double x, double y, double z, double dt, double[] out)
+	{
+		if (integrator == Integrator.EULER)
+		{
+			derivative(x, y, z, k1);
+
+			out[0] = x + dt * k1[0];
+			out[1] = y + dt * k1[1];
+			out[2] = z + dt * k1[2];
+		}
+		else
+		{
+			double	hh = 0.5 * dt;
+
+			derivative(x, y, z, k1);
+			derivative(x + hh * k1[0], y + hh * k1[1], z + hh * k1[2], k2);
+			derivative(x + hh * k2[0], y + hh * k2[1], z + hh * k2[2], k3);
+			derivative(x + dt * k3[0], y + dt * k3[1], z + dt * k3[2], k4);
+
+			out[0] = x + dt / 6.0 * (k1[0] + 2.0 * (k2[0] + k3[0]) + k4[0]);
+			out[1] = y + dt / 6.0 * (k1[1] + 2.0 * (k2[1] + k3[1]) + k4[1]);
+			out[2] = z + dt / 6.0 * (k1[2] + 2.0 * (k2[2] + k3[2]) + k4[2]);
+		}
+	}
+
+	// Estimate the local error of one step from (x,y,z) by step doubling:
+	// compare one full step against two half steps (Richardson).
+	private void	sampleError(double x, double y, double z)
+	{
+		double	p = ((integrator == Integrator.EULER) ? 1.0 : 4.0);
+
+		step(x, y, z, dt, s);
+		step(x, y, z, 0.5 * dt, r);
+		step(r[0], r[1], r[2], 0.5 * dt, r);
+
+		double	e = Math.max(Math.abs(r[0] - s[0]),
+							 Math.max(Math.abs(r[1] - s[1]),
+									  Math.abs(r[2] - s[2])));
+
+		recordError(e / (Math.pow(2.0, p) - 1.0));
+	}
+
+	//**********************************************************************
+	// Private Methods (Adaptive Step)
+	//**********************************************************************
+
+	private void	extendAdaptive(int m)
+	{
+		double	hmax = 4.0 * dt;		// Keep points close enough to draw
+		double	hmin = 1.0e-6 * dt;
+
+		while (count < m)
+		{
+			int		a = 3 * (count - 1);
+			double	x = xyz[a];
+			double	y = xyz[a + 1];
+			double	z = xyz[a + 2];
+
+			if (!fsal)
+				derivative(x, y, z, k1);
+
+			derivative(x + h * (A21 * k1[0]),
+					   y + h * (A21 * k1[1]),
+					   z + h * (A21 * k1[2]), k2);
+			derivative(x + h * (A31 * k1[0] + A32 * k2[0]),
+					   y + h * (A31 * k1[1] + A32 * k2[1]),
+					   z + h * (A31 * k1[2] + A32 * k2[2]), k3);
+			derivative(x + h * (A41 * k1[0] + A42 * k2[0] + A43 * k3[0]),
+					   y + h * (A41 * k1[1] + A42 * k2[1] + A43 * k3[1]),
+					   z + h * (A41 * k1[2] + A42 * k2[2] + A43 * k3[2]), k4);
+			derivative(x + h * (A51 * k1[0] + A52 * k2[0] + A53 * k3[0] +
+								A54 * k4[0]),
+					   y + h * (A51 * k1[1] + A52 * k2[1] + A53 * k3[1] +
+								A54 * k4[1]),
+					   z + h * (A51 * k1[2] + A52 * k2[2] + A53 * k3[2] +
+								A54 * k4[2]), k5);
+			derivative(x + h * (A61 * k1[0] + A62 * k2[0] + A63 * k3[0] +
+								A64 * k4[0] + A65 * k5[0]),
+					   y + h * (A61 * k1[1] + A62 * k2[1] + A63 * k3[1] +
+								A64 * k4[1] + A65 * k5[1]),
+					   z + h * (A61 * k1[2] + A62 * k2[2] + A63 * k3[2] +
+								A64 * k4[2] + A65 * k5[2]), k6);
+
+			for (int i=0; i<3; i++)
+				s[i] = xyz[a + i] + h * (B1 * k1[i] + B3 * k3[i] +
+										 B4 * k4[i] + B5 * k5[i] +
+										 B6 * k6[i]);
+
+			derivative(s[0], s[1], s[2], k7);
+
+			// Scaled max norm of the difference between 5th and 4th order
+			double	err = 0.0;
+			double	abs = 0.0;
+
+			for (int i=0; i<3; i++)
+			{
+				double	e = h * (E1 * k1[i] + E3 * k3[i] + E4 * k4[i] +
+								 E5 * k5[i] + E6 * k6[i] + E7 * k7[i]);
+				double	sc = tolerance * (1.0 + Math.max(Math.abs(xyz[a + i]),
+														 Math.abs(s[i])));
+
+				err = Math.max(err, Math.abs(e) / sc);
+				abs = Math.max(abs, Math.abs(e));
+			}
+
+			// Standard step size controller, with safety factor and limits
+			double	f = ((err > 0.0) ? 0.9 * Math.pow(err, -0.2) : 5.0);
+
+			f = Math.min(5.0, Math.max(0.2, f));
+
+			if ((err <= 1.0) || (h <= hmin))
+			{
+				int	b = 3 * count;
+
+				xyz[b] = s[0];
+				xyz[b + 1] = s[1];
+				xyz[b + 2] = s[2];
+				count++;
+				steps++;
+
+				System.arraycopy(k7, 0, k1, 0, 3);	// First same as last
+				fsal = true;
+
+				recordError(abs);
+			}
+			else
+			{
+				rejected++;
+			}
+
+			h = Math.max(hmin, Math.min(hmax, h * f));
+		}
+	}
+
+	//**********************************************************************
+	// Private Methods (Statistics)
+	//**********************************************************************
+
+	private void	recordError(double e)
+	{
+		lastError = e;
+
+		if (e > maxError)
+			maxError = e;
+	}
+}
+
+//******************************************************************************
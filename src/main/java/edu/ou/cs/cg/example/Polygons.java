@@ -229,7 +229,7 @@ public final class Polygons
 	// Position and orient the default camera to view in 2-D, in pixel coords.
 	private void	setProjection(GL2 gl)
 	{
-		GLU	glu = GLU.createGLU();
+		GLU	glu = GLU.createGLU(gl);
 
 		gl.glMatrixMode(GL2.GL_PROJECTION);		// Prepare for matrix xform
 		gl.glLoadIdentity();						// Set to identity matrix
@@ -27,6 +27,7 @@ package edu.ou.cs.cg.example;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.*;
+import java.nio.ByteBuffer;
 import java.util.Random;
 import javax.swing.*;
 import com.jogamp.opengl.*;
@@ -35,6 +36,9 @@ import com.jogamp.opengl.glu.GLU;
 import com.jogamp.opengl.util.FPSAnimator;
 import com.jogamp.opengl.util.awt.TextRenderer;
 import com.jogamp.opengl.util.gl2.GLUT;
+import com.jogamp.common.nio.Buffers;
+import edu.ou.cs.cg.utilities.ImageTexture;
+import edu.ou.cs.cg.utilities.VertexBuffer;
 
 //******************************************************************************
 
@@ -54,6 +58,12 @@ public final class Viewgrid
 	public static final GLUT	MYGLUT = new GLUT();
 	public static final Random	RANDOM = new Random();
 
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int	LEVELS = 6;		// Number of zoom levels
+
 	//**********************************************************************
 	// Private Members
 	//**********************************************************************
@@ -71,6 +81,16 @@ public final class Viewgrid
 	private int				cmode = 0;		// Color mode [0-2]
 	private int				vmode = 0;		// Vertex mode [0-2]
 
+	private final ChaosGame	chaos = new ChaosGame();	// Point store
+
+	private volatile boolean	density = false;	// Draw as a histogram?
+	private final long			budget = 1L << 20;	// Iterations per frame
+	private DensityGrid[]		grids;			// Histogram per zoom level
+	private ImageTexture		image;			// Tone-mapped histogram
+	private ByteBuffer			pixels;		// Tone-mapped RGBA pixels
+
+	private VertexBuffer		points;		// Retained gasket points
+
 	//**********************************************************************
 	// Main
 	//**********************************************************************
@@ -126,6 +146,14 @@ public final class Viewgrid
 				}
 			});
 
+		// Toggle between points and a density histogram of many iterations
+		canvas.addKeyListener(new KeyAdapter() {
+				public void keyPressed(KeyEvent e) {
+					if (e.getKeyCode() == KeyEvent.VK_D)
+						density = !density;
+				}
+			});
+
 		// Register this class to update whenever OpenGL needs it
 		canvas.addGLEventListener(this);
 
@@ -147,6 +175,12 @@ public final class Viewgrid
 
 		renderer = new TextRenderer(new Font("Serif", Font.PLAIN, 18),
 									true, true);
+		image = new ImageTexture();
+		points = new VertexBuffer(100000);
+		grids = new DensityGrid[LEVELS];
+
+		for (int i=0; i<LEVELS; i++)
+			grids[i] = new DensityGrid();
 
 		GL2	gl = drawable.getGL().getGL2();
 
@@ -157,6 +191,10 @@ public final class Viewgrid
 	// Notification to release resources for the GLContext.
 	public void	dispose(GLAutoDrawable drawable)
 	{
+		GL2	gl = drawable.getGL().getGL2();
+
+		image.dispose(gl);
+		points.dispose(gl);
 		renderer = null;
 	}
 
@@ -199,6 +237,24 @@ public final class Viewgrid
 
 			//System.out.println("CMode: " + cmode + " VMode: " + vmode);
 		}
+
+		Point2D.Double[]	t = new Point2D.Double[3];
+
+		calcVertices(t, vmode);
+
+		if (chaos.setTriangle(t))				// Start over only if changed
+		{
+			points.clear();
+			clearDensity();
+		}
+
+		if (density)							// Count many more iterations
+			accumulateDensity(t);
+		else
+			chaos.extend(m);					// Add only the new points
+
+		if (points.getCount() > chaos.getCount())	// Point count was reset,
+			points.truncate(chaos.getCount());		// so drop the stale tail
 	}
 
 	// Render the scene model and display the current animation frame.
@@ -214,14 +270,18 @@ public final class Viewgrid
 		float	ymin = -2.0f;	// but keep a fixed 1:1 aspect ratio when the
 		float	ymax = 2.0f;	// size of the screen space (canvas) changes.
 
-		int	n = 6;					// Number of zoom levels
+		int	n = LEVELS;				// Number of zoom levels
 
 		for (int i=0; i<n; i++)				// Draw each level
 		{
 			setProjectionAndViewport(gl, i, n, xmin, xmax, ymin, ymax);
 
 			drawBaseTriangle(gl);				// Draw a colored triangle
-			drawSierpinskiTriangle(gl);		// Draw a Sierpinski triangle
+
+			if (density)						// Draw a density histogram
+				drawSierpinskiDensity(gl, grids[i], xmin, xmax, ymin, ymax);
+			else
+				drawSierpinskiPoints(gl);		// Draw a Sierpinski triangle
 
 			// Zoom by x2 and offset a little to make levels more interesting
 			xmin *= 0.5f + 0.02f;
@@ -289,31 +349,19 @@ public final class Viewgrid
 
 	// Draw a Sierpinski gasket inside the base triangle. This page is helpful:
 	// en.wikipedia.org/wiki/Sierpinski_triangle
-	private void	drawSierpinskiTriangle(GL2 gl)
+	// The points are generated in update() and kept by the ChaosGame store.
+	// Any new points are copied into a vertex buffer and drawn with one call.
+	// Only the first level of each frame has anything new to copy, so every
+	// level after it draws the same buffer again at its own resolution.
+	private void	drawSierpinskiPoints(GL2 gl)
 	{
-		gl.glBegin(GL.GL_POINTS);				// Start specifying points
-		gl.glColor3f(1.0f, 1.0f, 1.0f);		// Draw in white
-
-		Point2D.Double[]	t = new Point2D.Double[3];
-		Point2D.Double		p = new Point2D.Double(c, c);
+		int	n = chaos.getCount();
 
-		calcVertices(t, vmode);
-
-		p.x = t[0].x;							// Initial x coordinate
-		p.y = t[0].y;							// Initial y coordinate
-
-		for (int i=0; i<m; i++)
-		{
-			int	index = RANDOM.nextInt(3);
-
-			p.x = (p.x + t[index].x) / 2;		// Fold x,y inside base triable
-			p.y = (p.y + t[index].y) / 2;		// relative to a random vertex.
-			//System.out.println(" " + index + " " + p.x + " " + p.y);
-
-			gl.glVertex2d(p.x, p.y);
-		}
+		points.add(chaos.getPoints(), points.getCount(), n - points.getCount());
+		points.upload(gl);						// Copy new points to the GPU
 
-		gl.glEnd();
+		gl.glColor3f(1.0f, 1.0f, 1.0f);		// Draw in white
+		points.draw(gl, GL.GL_POINTS);
 	}
 
 	private void	drawBounds(GL2 gl, float xmin, float xmax,
@@ -345,6 +393,27 @@ public final class Viewgrid
 		gl.glEnd();
 	}
 
+	// Draw one level's density histogram of many chaos-game iterations inside
+	// the base triangle, as one texture covering the given scene bounds. The
+	// grid has one bin per pixel of the level's viewport, and keeps
+	// accumulating in update() for as long as the base triangle stays the
+	// same. Press d to switch to/from it.
+	private void	drawSierpinskiDensity(GL2 gl, DensityGrid grid, float xmin,
+										  float xmax, float ymin, float ymax)
+	{
+		int	gw = grid.getWidth();
+		int	gh = grid.getHeight();
+
+		if ((pixels == null) || (pixels.capacity() < gw * gh * 4))
+			pixels = Buffers.newDirectByteBuffer(gw * gh * 4);
+
+		grid.toneMap(pixels);					// Log-scale counts to alpha
+		image.update(gl, gw, gh, pixels);		// Upload as a single texture
+
+		gl.glColor3f(1.0f, 1.0f, 1.0f);		// Draw in white
+		image.draw(gl, xmin, xmax, ymin, ymax);
+	}
+
 	// Warning! Text is drawn in unprojected canvas/viewport coordinates.
 	// For more on text rendering, the example on this page is long but helpful:
 	// jogamp.org/jogl-demos/src/demos/j2d/FlyingText.java
@@ -361,6 +430,34 @@ public final class Viewgrid
 	// Private Methods (Utility)
 	//**********************************************************************
 
+	// Count one stream of iterations into the grids of all zoom levels at
+	// once, so the cost per frame doesn't grow with the number of levels.
+	// Each grid covers its level's bounds with one bin per viewport pixel.
+	private void	accumulateDensity(Point2D.Double[] t)
+	{
+		double[]	v = new double[] { t[0].x, t[0].y, t[1].x, t[1].y,
+									   t[2].x, t[2].y };
+		int			n = LEVELS;
+		float		b = 2.0f;					// Same progression as render()
+
+		for (int i=0; i<n; i++)
+		{
+			grids[i].resize(w / n - 8, h);		// One bin per viewport pixel
+			grids[i].setBounds(-b, b, -b, b);	// Same as the projection
+
+			b *= 0.5f + 0.02f;
+		}
+
+		DensityGrid.accumulate(grids, v, budget);
+	}
+
+	// Forget all iterations counted so far, at every zoom level.
+	private void	clearDensity()
+	{
+		for (DensityGrid grid : grids)
+			grid.clear();
+	}
+
 	// Calculate the three base triangle colors for angle theta.
 	private void	calcColors(Color[] rgb, int version)
 	{
@@ -27,6 +27,7 @@ package edu.ou.cs.cg.example;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.*;
+import java.nio.ByteBuffer;
 import java.util.Random;
 import javax.swing.*;
 import com.jogamp.opengl.*;
@@ -35,6 +36,8 @@ import com.jogamp.opengl.glu.GLU;
 import com.jogamp.opengl.util.FPSAnimator;
 import com.jogamp.opengl.util.awt.TextRenderer;
 import com.jogamp.opengl.util.gl2.GLUT;
+import com.jogamp.common.nio.Buffers;
+import edu.ou.cs.cg.utilities.ImageTexture;
 
 //******************************************************************************
 
@@ -71,6 +74,14 @@ public final class Viewport
 	private int				cmode = 0;		// Color mode [0-2]
 	private int				vmode = 0;		// Vertex mode [0-2]
 
+	private final ChaosGame	chaos = new ChaosGame();	// Point store
+
+	private volatile boolean	density = false;	// Draw as a histogram?
+	private final long			budget = 1L << 22;	// Iterations per frame
+	private final DensityGrid	grid = new DensityGrid();	// Histogram
+	private ImageTexture		image;			// Tone-mapped histogram
+	private ByteBuffer			pixels;		// Tone-mapped RGBA pixels
+
 	//**********************************************************************
 	// Main
 	//**********************************************************************
@@ -126,6 +137,14 @@ public final class Viewport
 				}
 			});
 
+		// Toggle between points and a density histogram of many iterations
+		canvas.addKeyListener(new KeyAdapter() {
+				public void keyPressed(KeyEvent e) {
+					if (e.getKeyCode() == KeyEvent.VK_D)
+						density = !density;
+				}
+			});
+
 		// Register this class to update whenever OpenGL needs it
 		canvas.addGLEventListener(this);
 
@@ -147,6 +166,7 @@ public final class Viewport
 
 		renderer = new TextRenderer(new Font("Serif", Font.PLAIN, 18),
 									true, true);
+		image = new ImageTexture();
 
 		GL2	gl = drawable.getGL().getGL2();
 
@@ -157,6 +177,9 @@ public final class Viewport
 	// Notification to release resources for the GLContext.
 	public void	dispose(GLAutoDrawable drawable)
 	{
+		GL2	gl = drawable.getGL().getGL2();
+
+		image.dispose(gl);
 		renderer = null;
 	}
 
@@ -199,6 +222,26 @@ public final class Viewport
 
 			//System.out.println("CMode: " + cmode + " VMode: " + vmode);
 		}
+
+		Point2D.Double[]	t = new Point2D.Double[3];
+
+		calcVertices(t, vmode);
+
+		if (chaos.setTriangle(t))				// Start over only if changed
+			clearDensity();
+
+		if (density)							// Count many more iterations
+		{
+			double[]	v = new double[] { t[0].x, t[0].y, t[1].x, t[1].y,
+										   t[2].x, t[2].y };
+
+			grid.resize(400, 200);				// One bin per viewport pixel
+			grid.setBounds(-0.6, 0.9, -0.3, 0.5);	// Same as the projection
+			grid.accumulate(v, budget);
+			return;
+		}
+
+		chaos.extend(m);						// Add only the new points
 	}
 
 	// Render the scene model and display the current animation frame.
@@ -219,7 +262,12 @@ public final class Viewport
 
 		fillBounds(gl, xmin, xmax, ymin, ymax);	// Fill a bounding box
 		drawBaseTriangle(gl);					// Draw a colored triangle
-		drawSierpinskiTriangle(gl);			// Draw a Sierpinski triangle
+
+		if (density)							// Draw a density histogram
+			drawSierpinskiDensity(gl, xmin, xmax, ymin, ymax);
+		else
+			drawSierpinskiTriangle(gl);		// Draw a Sierpinski triangle
+
 		edgeBounds(gl, xmin, xmax-xoff, ymin, ymax);	// Draw a bounding box
 		//drawText(drawable);					// Draw some text
 
@@ -280,29 +328,17 @@ public final class Viewport
 
 	// Draw a Sierpinski gasket inside the base triangle. This page is helpful:
 	// en.wikipedia.org/wiki/Sierpinski_triangle
+	// The points are generated in update() and kept by the ChaosGame store.
 	private void	drawSierpinskiTriangle(GL2 gl)
 	{
 		gl.glBegin(GL.GL_POINTS);				// Start specifying points
 		gl.glColor3f(1.0f, 1.0f, 1.0f);		// Draw in white
 
-		Point2D.Double[]	t = new Point2D.Double[3];
-		Point2D.Double		p = new Point2D.Double(c, c);
-
-		calcVertices(t, vmode);
-
-		p.x = t[0].x;							// Initial x coordinate
-		p.y = t[0].y;							// Initial y coordinate
+		float[]	xy = chaos.getPoints();
+		int		n = chaos.getCount();
 
-		for (int i=0; i<m; i++)
-		{
-			int	index = RANDOM.nextInt(3);
-
-			p.x = (p.x + t[index].x) / 2;		// Fold x,y inside base triable
-			p.y = (p.y + t[index].y) / 2;		// relative to a random vertex.
-			//System.out.println(" " + index + " " + p.x + " " + p.y);
-
-			gl.glVertex2d(p.x, p.y);
-		}
+		for (int i=0; i<n; i++)
+			gl.glVertex2f(xy[2 * i], xy[2 * i + 1]);
 
 		gl.glEnd();
 	}
@@ -335,6 +371,27 @@ public final class Viewport
 		gl.glEnd();
 	}
 
+	// Draw the density histogram of many chaos-game iterations inside the
+	// base triangle, as one texture covering the given scene bounds. The grid
+	// has one bin per pixel of the viewport, and keeps accumulating in
+	// update() for as long as the base triangle stays the same. Press d to
+	// switch to/from it.
+	private void	drawSierpinskiDensity(GL2 gl, float xmin, float xmax,
+										  float ymin, float ymax)
+	{
+		int	gw = grid.getWidth();
+		int	gh = grid.getHeight();
+
+		if ((pixels == null) || (pixels.capacity() < gw * gh * 4))
+			pixels = Buffers.newDirectByteBuffer(gw * gh * 4);
+
+		grid.toneMap(pixels);					// Log-scale counts to alpha
+		image.update(gl, gw, gh, pixels);		// Upload as a single texture
+
+		gl.glColor3f(1.0f, 1.0f, 1.0f);		// Draw in white
+		image.draw(gl, xmin, xmax, ymin, ymax);
+	}
+
 	// Warning! Text is drawn in unprojected canvas/viewport coordinates.
 	// For more on text rendering, the example on this page is long but helpful:
 	// jogamp.org/jogl-demos/src/demos/j2d/FlyingText.java
@@ -351,6 +408,12 @@ public final class Viewport
 	// Private Methods (Utility)
 	//**********************************************************************
 
+	// Forget all iterations counted so far.
+	private void	clearDensity()
+	{
+		grid.clear();
+	}
+
 	// Calculate the three base triangle colors for angle theta.
 	private void	calcColors(Color[] rgb, int version)
 	{
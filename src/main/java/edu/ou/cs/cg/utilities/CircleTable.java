@@ -0,0 +1,94 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Shared cache of unit-circle vertex tables, keyed by number of sides. Each
+// table holds the x,y pairs of a regular polygon inscribed in the unit circle,
+// starting at angle 0 and going counterclockwise. Tables are computed once
+// (with cos and sin) the first time any caller asks for that number of sides,
+// then shared by all callers on all threads. Scale them by the radius when
+// copying them into vertex data.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+//******************************************************************************
+
+/**
+ * The <CODE>CircleTable</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class CircleTable
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final ConcurrentHashMap<Integer, float[]>	TABLES =
+		new ConcurrentHashMap<Integer, float[]>();
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// The unit-circle table for a polygon with the given number of sides, as
+	// 2 * sides floats. The array is shared, so don't modify it.
+	public static float[]	getUnitCircle(int sides)
+	{
+		if (sides < 1)
+			throw new IllegalArgumentException("sides must be positive");
+
+		Integer	key = sides;
+		float[]	table = TABLES.get(key);
+
+		if (table == null)
+		{
+			float[]	computed = compute(sides);
+
+			table = TABLES.putIfAbsent(key, computed);
+
+			if (table == null)
+				table = computed;
+		}
+
+		return table;
+	}
+
+	// Append the vertices of a polygon with the given number of sides and
+	// radius, centered at the origin, to a vertex buffer.
+	public static void	addCircle(VertexBuffer buffer, int sides, double radius)
+	{
+		float[]	table = getUnitCircle(sides);
+		float	r = (float)radius;
+
+		for (int i=0; i<2*sides; i+=2)
+			buffer.add(r * table[i], r * table[i + 1]);
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static float[]	compute(int sides)
+	{
+		float[]	table = new float[2 * sides];
+
+		for (int i=0; i<sides; i++)
+		{
+			double	theta = (2.0 * Math.PI) * (i / (double)sides);
+
+			table[2 * i] = (float)Math.cos(theta);
+			table[2 * i + 1] = (float)Math.sin(theta);
+		}
+
+		return table;
+	}
+}
+
+//******************************************************************************
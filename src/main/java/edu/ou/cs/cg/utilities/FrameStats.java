@@ -0,0 +1,336 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Per-frame timing and allocation for a GLEventListener, with a text overlay
+// to show them. In display(), call beginFrame() first, endUpdate() between
+// updating the model and rendering it, and endFrame() last. Times come from
+// System.nanoTime().
+//
+// Frame times are the intervals from one beginFrame() to the next, so they
+// include waiting for the animator, and are what the user sees. They go into
+// a Histogram in microseconds, once for all frames so far and once for the
+// current window of WINDOW frames. At the end of each window its p50, p95
+// and p99 are taken, along with mean and worst update and render times and
+// the bytes allocated per frame on the GL thread, and the window starts
+// over. The overlay shows the last full window, so it changes every second
+// or two rather than flickering.
+//
+// Given the animator's frame rate, intervals much longer than its period
+// are counted as dropped frames: one for each period missed. An animator
+// that falls behind doesn't say so itself, so this is the only way to tell.
+//
+// Allocation comes from the JVM's per-thread allocated byte count
+// (com.sun.management.ThreadMXBean), read once per window rather than per
+// frame. On JVMs without it the overlay says n/a.
+//
+// Nothing on the measurement path allocates: the three frame methods only
+// do arithmetic and histogram counts. Reading the allocation count may
+// allocate a few bytes itself (it does in Java 8), once per window, which
+// shows up in the next window's figure. Text for the overlay is formatted in
+// draw(), only when shown, and only once per window.
+//
+// The frame methods and draw() go on the GL thread. Toggle the overlay from
+// any thread. Getters of totals (the histograms and dropped frames) may be
+// called from any thread.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+import com.jogamp.opengl.util.awt.TextRenderer;
+
+//******************************************************************************
+
+/**
+ * The <CODE>FrameStats</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class FrameStats
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int		WINDOW = 120;				// Frames
+	public static final long		MAX_MICROS = 10000000L;	// 10 seconds
+	public static final int		LINE_HEIGHT = 14;			// Overlay, pixels
+
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final com.sun.management.ThreadMXBean	THREADS = threads();
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final Histogram	frames;			// All frame intervals, us
+	private final Histogram	work;			// All update + render, us
+	private final Histogram	window;			// This window's intervals, us
+	private final long			period;		// Nanoseconds, 0 if unknown
+	private final AtomicLong	dropped;		// Periods missed, all frames
+	private volatile boolean	visible;
+
+	// This frame (nanoseconds)
+	private long				begin;			// 0 before the first frame
+	private long				updated;
+
+	// This window (nanoseconds, except counts)
+	private int				windowFrames;
+	private long				updateSum;
+	private long				updateMax;
+	private long				renderSum;
+	private long				renderMax;
+	private long				thread;		// Where allocation was read
+	private long				allocated;		// Bytes, -1 if unknown
+
+	// Last full window, for the overlay
+	private long				p50;			// Microseconds
+	private long				p95;
+	private long				p99;
+	private double				fps;
+	private double				updateMean;	// Milliseconds
+	private double				updateWorst;
+	private double				renderMean;
+	private double				renderWorst;
+	private long				allocPerFrame;	// Bytes, -1 if unknown
+	private int				revision;		// Windows completed
+
+	// Overlay text, formatted from the last full window
+	private final String[]		lines = new String[3];
+	private int				linesRevision = -1;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public FrameStats()
+	{
+		this(0);
+	}
+
+	// Count dropped frames for an animator running at fps, if fps > 0.
+	public FrameStats(int fps)
+	{
+		period = ((fps > 0) ? 1000000000L / fps : 0L);
+		dropped = new AtomicLong();
+		frames = new Histogram(MAX_MICROS);
+		work = new Histogram(MAX_MICROS);
+		window = new Histogram(MAX_MICROS);
+		thread = -1L;
+		allocated = -1L;
+		allocPerFrame = -1L;
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public boolean	isVisible()
+	{
+		return visible;
+	}
+
+	public void	setVisible(boolean visible)
+	{
+		this.visible = visible;
+	}
+
+	public void	toggle()
+	{
+		visible = !visible;
+	}
+
+	// Intervals between frames so far, in microseconds.
+	public Histogram	getFrameTimes()
+	{
+		return frames;
+	}
+
+	// Time spent in update and render for each frame so far, in microseconds.
+	public Histogram	getWorkTimes()
+	{
+		return work;
+	}
+
+	// Frames missed so far, or 0 if the frame rate wasn't given.
+	public long	getDroppedFrames()
+	{
+		return dropped.get();
+	}
+
+	//**********************************************************************
+	// Public Methods (Measurement)
+	//**********************************************************************
+
+	public void	beginFrame()
+	{
+		long	now = System.nanoTime();
+
+		if (begin != 0L)
+		{
+			long	ns = now - begin;
+
+			frames.record(ns / 1000L);
+			window.record(ns / 1000L);
+
+			// More than half a period late means at least one was missed
+			if ((period > 0L) && (ns > period + period / 2))
+				dropped.lazySet(dropped.get() + (ns + period / 2) / period - 1);
+		}
+
+		begin = now;
+		updated = now;
+	}
+
+	public void	endUpdate()
+	{
+		updated = System.nanoTime();
+	}
+
+	public void	endFrame()
+	{
+		long	now = System.nanoTime();
+		long	update = updated - begin;
+		long	render = now - updated;
+
+		work.record((now - begin) / 1000L);
+
+		updateSum += update;
+		updateMax = Math.max(updateMax, update);
+		renderSum += render;
+		renderMax = Math.max(renderMax, render);
+
+		if (++windowFrames >= WINDOW)
+			endWindow();
+	}
+
+	//**********************************************************************
+	// Public Methods (Overlay)
+	//**********************************************************************
+
+	// Draw the overlay, if visible, with its first line's baseline at (x,y)
+	// and the rest below. Call between the renderer's beginRendering() and
+	// endRendering(), in whatever color it has.
+	public void	draw(TextRenderer renderer, int x, int y)
+	{
+		if (!visible)
+			return;
+
+		if (linesRevision != revision)
+			format();
+
+		for (int i=0; i<lines.length; i++)
+			renderer.draw(lines[i], x, y - i * LINE_HEIGHT);
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	// Take the window's figures and start a new one.
+	private void	endWindow()
+	{
+		int	n = windowFrames;
+
+		p50 = window.getValueAtPercentile(50.0);
+		p95 = window.getValueAtPercentile(95.0);
+		p99 = window.getValueAtPercentile(99.0);
+		fps = ((window.getSum() > 0L) ?
+			   window.getCount() * 1.0e6 / window.getSum() : 0.0);
+
+		updateMean = updateSum / 1.0e6 / n;
+		updateWorst = updateMax / 1.0e6;
+		renderMean = renderSum / 1.0e6 / n;
+		renderWorst = renderMax / 1.0e6;
+
+		sampleAllocation(n);
+
+		window.clear();
+		windowFrames = 0;
+		updateSum = 0L;
+		updateMax = 0L;
+		renderSum = 0L;
+		renderMax = 0L;
+		revision++;
+	}
+
+	// Bytes allocated per frame on this thread over the last n frames. The
+	// first window on a thread only sets the baseline.
+	private void	sampleAllocation(int n)
+	{
+		if (THREADS == null)
+			return;
+
+		long	id = Thread.currentThread().getId();
+		long	bytes = THREADS.getThreadAllocatedBytes(id);
+
+		if ((id == thread) && (allocated >= 0L) && (bytes >= 0L))
+			allocPerFrame = (bytes - allocated) / n;
+		else
+			allocPerFrame = -1L;
+
+		thread = id;
+		allocated = bytes;
+	}
+
+	private void	format()
+	{
+		lines[0] = String.format("Frame  p50 %6.2f  p95 %6.2f  p99 %6.2f ms" +
+								 "  %5.1f fps", p50 / 1000.0, p95 / 1000.0,
+								 p99 / 1000.0, fps);
+		lines[1] = String.format("Update %6.2f avg %6.2f max ms  " +
+								 "Render %6.2f avg %6.2f max ms",
+								 updateMean, updateWorst,
+								 renderMean, renderWorst);
+		lines[2] = ((allocPerFrame < 0L) ? "Alloc  n/a" :
+					String.format("Alloc  %.1f KB/frame",
+								  allocPerFrame / 1024.0)) +
+			((period > 0L) ? "  Dropped " + dropped.get() : "");
+
+		linesRevision = revision;
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// The JVM's per-thread allocation counter, turned on, or null if it
+	// doesn't have one.
+	private static com.sun.management.ThreadMXBean	threads()
+	{
+		ThreadMXBean	bean = ManagementFactory.getThreadMXBean();
+
+		if (!(bean instanceof com.sun.management.ThreadMXBean))
+			return null;
+
+		com.sun.management.ThreadMXBean	b =
+			(com.sun.management.ThreadMXBean)bean;
+
+		try
+		{
+			if (!b.isThreadAllocatedMemorySupported())
+				return null;
+
+			if (!b.isThreadAllocatedMemoryEnabled())
+				b.setThreadAllocatedMemoryEnabled(true);
+
+			return b;
+		}
+		catch (UnsupportedOperationException e)
+		{
+			return null;
+		}
+	}
+}
+
+//******************************************************************************
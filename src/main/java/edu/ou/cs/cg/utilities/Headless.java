@@ -0,0 +1,345 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Runs any of the project's GLEventListeners without a window, for machines
+// with no display or GPU. The listener draws into a JOGL offscreen
+// auto-drawable (an FBO, or a pbuffer where FBOs aren't available), and
+// display() is called back to back for a given number of frames, as fast as
+// it will go, then the frame rate is reported. Frames can also be saved as
+// PNG files, to compare against golden images.
+//
+//   java ... edu.ou.cs.cg.utilities.Headless [options] <class> [args...]
+//
+//   -frames=<n>    Frames to render (default 600)
+//   -size=<w>x<h>  Size of the drawable (default 1080x720)
+//   -png=<dir>     Save frames to dir/frame00000.png and so on
+//   -every=<k>     With -png, save every kth frame only (default 1)
+//   -software      Ask for a software renderer from the start
+//
+// The class is either a GLEventListener with a (String[]) constructor, such
+// as example.Gasket, which is given the remaining args; or a View with a
+// (GLAutoDrawable) constructor, such as application.circle.View, which adds
+// itself to the drawable. Views make no input handlers or animator when the
+// drawable isn't a component.
+//
+// If no accelerated offscreen drawable can be made, one is asked for again
+// with hardware acceleration turned off, which picks a software renderer such
+// as Mesa's llvmpipe where there is one. On Linux, LIBGL_ALWAYS_SOFTWARE=1 in
+// the environment forces Mesa's software renderer outright; on boxes with no
+// X server at all, run under xvfb-run, or use a JOGL built with EGL.
+//
+// Saving frames is timed separately, so the frame rate is for rendering only.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import javax.imageio.ImageIO;
+import com.jogamp.opengl.*;
+import com.jogamp.opengl.util.awt.AWTGLReadBufferUtil;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Headless</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class Headless
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int		DEFAULT_FRAMES = 600;
+	public static final int		DEFAULT_WIDTH = 1080;
+	public static final int		DEFAULT_HEIGHT = 720;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final GLOffscreenAutoDrawable	drawable;
+	private final boolean					software;	// Fell back?
+
+	// Frame saving (GL thread, which is the caller's thread here)
+	private File							dir;		// Null if not saving
+	private int							every;
+	private int							frame;		// Frames displayed
+	private long							saving;		// Nanoseconds spent
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] args) throws Exception
+	{
+		// Fonts and images work without a display in headless AWT
+		System.setProperty("java.awt.headless", "true");
+
+		int		frames = DEFAULT_FRAMES;
+		int		width = DEFAULT_WIDTH;
+		int		height = DEFAULT_HEIGHT;
+		File	dir = null;
+		int		every = 1;
+		boolean	software = false;
+		int		i = 0;
+
+		for (; (i < args.length) && args[i].startsWith("-"); i++)
+		{
+			String	arg = args[i];
+
+			if (arg.startsWith("-frames="))
+				frames = Integer.parseInt(arg.substring(8));
+			else if (arg.startsWith("-size="))
+			{
+				String[]	wh = arg.substring(6).split("x");
+
+				width = Integer.parseInt(wh[0]);
+				height = Integer.parseInt(wh[1]);
+			}
+			else if (arg.startsWith("-png="))
+				dir = new File(arg.substring(5));
+			else if (arg.startsWith("-every="))
+				every = Integer.parseInt(arg.substring(7));
+			else if ("-software".equals(arg))
+				software = true;
+			else
+				throw new IllegalArgumentException("Unknown option " + arg);
+		}
+
+		if (i == args.length)
+		{
+			System.err.println("Usage: Headless [-frames=n] [-size=wxh] " +
+							   "[-png=dir] [-every=k] [-software] " +
+							   "<class> [args...]");
+			System.exit(2);
+		}
+
+		String[]	rest = new String[args.length - i - 1];
+
+		System.arraycopy(args, i + 1, rest, 0, rest.length);
+
+		Headless	headless = new Headless(width, height, software);
+
+		headless.attach(Class.forName(args[i]), rest);
+
+		if (dir != null)
+			headless.setOutput(dir, every);
+
+		headless.run(frames);
+		headless.destroy();
+
+		System.exit(0);		// Views may have left daemon threads running
+	}
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Make a width x height offscreen drawable, falling back to software
+	// rendering if need be.
+	public Headless(int width, int height, boolean software)
+	{
+		GLOffscreenAutoDrawable	d = null;
+
+		if (!software)
+		{
+			try
+			{
+				d = create(width, height, true);
+			}
+			catch (GLException e)
+			{
+				System.err.println("No accelerated offscreen drawable (" +
+								   e.getMessage() + "); trying software");
+			}
+		}
+
+		if (d == null)
+		{
+			d = create(width, height, false);
+			software = true;
+		}
+
+		this.drawable = d;
+		this.software = software;
+		this.every = 1;
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public GLOffscreenAutoDrawable	getDrawable()
+	{
+		return drawable;
+	}
+
+	// Whether the drawable is software rendered (as far as we asked for).
+	public boolean	isSoftware()
+	{
+		return software;
+	}
+
+	// Save every kth frame displayed from now on as a PNG file in dir.
+	public void	setOutput(File dir, int every)
+	{
+		this.dir = dir;
+		this.every = Math.max(1, every);
+
+		dir.mkdirs();
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Make an instance of c to draw on the drawable: with a (GLAutoDrawable)
+	// constructor if it has one (it adds itself as a listener), otherwise
+	// with a (String[]) constructor, added here. Call once.
+	public Object	attach(Class<?> c, String[] args) throws Exception
+	{
+		Object	target;
+
+		try
+		{
+			Constructor<?>	k = c.getConstructor(GLAutoDrawable.class);
+
+			target = k.newInstance(drawable);
+		}
+		catch (NoSuchMethodException e)
+		{
+			Constructor<?>	k = c.getConstructor(String[].class);
+
+			target = k.newInstance((Object)args);
+
+			if (!(target instanceof GLEventListener))
+				throw new IllegalArgumentException(c.getName() +
+											" isn't a GLEventListener");
+
+			drawable.addGLEventListener((GLEventListener)target);
+		}
+
+		// Listeners are called in the order added, so this saves each frame
+		// after the target has drawn it
+		drawable.addGLEventListener(new Capture());
+
+		return target;
+	}
+
+	// Display n frames back to back, then report how fast that was.
+	// Returns the nanoseconds spent rendering, not counting saving frames.
+	public long	run(int n)
+	{
+		long	start = System.nanoTime();
+		long	saved = saving;
+
+		for (int i=0; i<n; i++)
+			drawable.display();
+
+		long	elapsed = (System.nanoTime() - start) - (saving - saved);
+
+		System.out.println(String.format(
+			"%d frames at %dx%d%s in %.1f ms: %.1f fps, %.3f ms/frame",
+			n, drawable.getSurfaceWidth(), drawable.getSurfaceHeight(),
+			(software ? " (software)" : ""), elapsed / 1.0e6,
+			n / (elapsed / 1.0e9), elapsed / 1.0e6 / Math.max(1, n)));
+
+		return elapsed;
+	}
+
+	// Release the drawable, calling every listener's dispose().
+	public void	destroy()
+	{
+		drawable.destroy();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static GLOffscreenAutoDrawable	create(int width, int height,
+												   boolean accelerated)
+	{
+		GLProfile		profile = GLProfile.getMaxFixedFunc(accelerated);
+		GLCapabilities	capabilities = new GLCapabilities(profile);
+
+		capabilities.setOnscreen(false);
+		capabilities.setFBO(true);				// Preferred
+		capabilities.setPBuffer(true);			// If no FBOs
+		capabilities.setHardwareAccelerated(accelerated);
+		capabilities.setAlphaBits(8);
+
+		GLDrawableFactory	factory = GLDrawableFactory.getFactory(profile);
+
+		return factory.createOffscreenAutoDrawable(null, capabilities, null,
+												   width, height);
+	}
+
+	//**********************************************************************
+	// Inner Classes
+	//**********************************************************************
+
+	// Saves frames after the target has drawn them.
+	private final class Capture implements GLEventListener
+	{
+		private AWTGLReadBufferUtil	reader;
+
+		public void	init(GLAutoDrawable d)
+		{
+		}
+
+		public void	dispose(GLAutoDrawable d)
+		{
+			if (reader != null)
+				reader.dispose(d.getGL());
+
+			reader = null;
+		}
+
+		public void	display(GLAutoDrawable d)
+		{
+			int	n = frame++;
+
+			if ((dir == null) || (n % every != 0))
+				return;
+
+			long	start = System.nanoTime();
+
+			if (reader == null)
+				reader = new AWTGLReadBufferUtil(d.getGL().getGLProfile(), false);
+
+			BufferedImage	image = reader.readPixelsToBufferedImage(d.getGL(),
+																	 true);
+			File			file = new File(dir,
+											String.format("frame%05d.png", n));
+
+			try
+			{
+				ImageIO.write(image, "png", file);
+			}
+			catch (IOException e)
+			{
+				System.err.println("Couldn't save " + file + ": " +
+								   e.getMessage());
+			}
+
+			saving += System.nanoTime() - start;
+		}
+
+		public void	reshape(GLAutoDrawable d, int x, int y, int w, int h)
+		{
+		}
+	}
+}
+
+//******************************************************************************
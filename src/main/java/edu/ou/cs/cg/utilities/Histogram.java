@@ -0,0 +1,239 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Counts of non-negative long values (such as microseconds) in fixed
+// log-linear buckets, after HdrHistogram. Values below 2 * HALF get a bucket
+// apiece; above that, each power of two is split into HALF buckets, so any
+// value is off by at most 1 part in HALF (under 2%) wherever it falls. The
+// buckets are sized once, for values up to a given maximum; larger values
+// are counted in the last bucket.
+//
+// Recording is O(1) and allocates nothing. Percentiles walk the buckets, so
+// they cost O(buckets), about 1200 for a maximum of 10 seconds in
+// microseconds.
+//
+// Meant for one writing thread and any number of reading ones. Counts are
+// kept in an AtomicLongArray and only ever set by the writer (lazySet, no
+// CAS), so readers see each count whole but may see a record() half done.
+// Where values come from several threads, they all use recordAtomic()
+// instead, which increments with CAS; it's still lock-free.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Histogram</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class Histogram
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int	SUB_BITS = 7;
+	public static final int	HALF = 1 << (SUB_BITS - 1);	// Buckets per octave
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final long				max;
+	private final AtomicLongArray	counts;
+	private final AtomicLong		count = new AtomicLong();
+	private final AtomicLong		sum = new AtomicLong();
+	private final AtomicLong		highest = new AtomicLong();
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Buckets for values from 0 to max.
+	public Histogram(long max)
+	{
+		this.max = Math.max(2 * HALF, max);
+		this.counts = new AtomicLongArray(index(this.max) + 1);
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public long	getMax()
+	{
+		return max;
+	}
+
+	// Values recorded.
+	public long	getCount()
+	{
+		return count.get();
+	}
+
+	// Sum of the values recorded, as given (before bucketing).
+	public long	getSum()
+	{
+		return sum.get();
+	}
+
+	// Largest value recorded, as given.
+	public long	getHighest()
+	{
+		return highest.get();
+	}
+
+	public int	getBucketCount()
+	{
+		return counts.length();
+	}
+
+	// Values recorded in bucket i.
+	public long	getBucket(int i)
+	{
+		return counts.get(i);
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Count a value. Writer only.
+	public void	record(long value)
+	{
+		long	v = Math.max(0L, value);
+		int	i = index(Math.min(v, max));
+
+		counts.lazySet(i, counts.get(i) + 1);
+		count.lazySet(count.get() + 1);
+		sum.lazySet(sum.get() + v);
+
+		if (v > highest.get())
+			highest.lazySet(v);
+	}
+
+	// Count a value from any of several writing threads.
+	public void	recordAtomic(long value)
+	{
+		long	v = Math.max(0L, value);
+
+		counts.incrementAndGet(index(Math.min(v, max)));
+		count.incrementAndGet();
+		sum.addAndGet(v);
+
+		long	h = highest.get();
+
+		while ((v > h) && !highest.compareAndSet(h, v))
+			h = highest.get();
+	}
+
+	// Add all of another histogram's counts to this one's. The two must
+	// have the same maximum. Writer only.
+	public void	add(Histogram h)
+	{
+		for (int i=0; i<counts.length(); i++)
+			counts.lazySet(i, counts.get(i) + h.counts.get(i));
+
+		count.lazySet(count.get() + h.count.get());
+		sum.lazySet(sum.get() + h.sum.get());
+
+		if (h.highest.get() > highest.get())
+			highest.lazySet(h.highest.get());
+	}
+
+	// Forget everything recorded. Writer only.
+	public void	clear()
+	{
+		for (int i=0; i<counts.length(); i++)
+			counts.lazySet(i, 0L);
+
+		count.lazySet(0L);
+		sum.lazySet(0L);
+		highest.lazySet(0L);
+	}
+
+	// The value at or below which p percent of values fall, as the middle
+	// of its bucket, or 0 if nothing has been recorded.
+	public long	getValueAtPercentile(double p)
+	{
+		long	n = count.get();
+
+		if (n == 0)
+			return 0L;
+
+		long	rank = Math.max(1L, (long)Math.ceil(n * p / 100.0));
+		long	seen = 0L;
+
+		for (int i=0; i<counts.length(); i++)
+		{
+			seen += counts.get(i);
+
+			if (seen >= rank)
+				return (lowest(i) + highest(i)) / 2;
+		}
+
+		return highest(counts.length() - 1);
+	}
+
+	// Values recorded that are at most value, for cumulative buckets with
+	// bounds of one's choosing. Exact when value is a bucket's upper bound.
+	public long	getCountAtOrBelow(long value)
+	{
+		long	n = 0L;
+
+		for (int i=0; i<counts.length(); i++)
+		{
+			if (highest(i) > value)
+				break;
+
+			n += counts.get(i);
+		}
+
+		return n;
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Bucket for a value.
+	public static int	index(long v)
+	{
+		if (v < 2 * HALF)
+			return (int)v;
+
+		int	shift = (63 - Long.numberOfLeadingZeros(v)) - (SUB_BITS - 1);
+
+		return 2 * HALF + (shift - 1) * HALF + (int)((v >>> shift) - HALF);
+	}
+
+	// Smallest value in bucket i.
+	public static long	lowest(int i)
+	{
+		if (i < 2 * HALF)
+			return i;
+
+		int	shift = (i - 2 * HALF) / HALF + 1;
+		long	sub = (i - 2 * HALF) % HALF + HALF;
+
+		return sub << shift;
+	}
+
+	// Largest value in bucket i.
+	public static long	highest(int i)
+	{
+		return lowest(i + 1) - 1;
+	}
+}
+
+//******************************************************************************
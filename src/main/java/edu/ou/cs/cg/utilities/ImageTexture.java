@@ -0,0 +1,172 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// A 2-D RGBA texture that is filled from a direct ByteBuffer and drawn as one
+// textured quad. The texture is reallocated only when the image size changes;
+// otherwise each update() replaces the pixels in place.
+//
+// All methods that take a GL2 must be called on the OpenGL thread.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.nio.ByteBuffer;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ImageTexture</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class ImageTexture
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private int				id;			// Texture name, 0 if none
+	private int				w;				// Image width, in pixels
+	private int				h;				// Image height, in pixels
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public ImageTexture()
+	{
+		id = 0;
+		w = 0;
+		h = 0;
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int	getWidth()
+	{
+		return w;
+	}
+
+	public int	getHeight()
+	{
+		return h;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Replace the texture contents with w * h RGBA pixels, bottom row first.
+	public void	update(GL2 gl, int w, int h, ByteBuffer rgba)
+	{
+		if (id == 0)
+		{
+			int[]	ids = new int[1];
+
+			gl.glGenTextures(1, ids, 0);
+			id = ids[0];
+			this.w = 0;
+			this.h = 0;
+		}
+
+		gl.glBindTexture(GL.GL_TEXTURE_2D, id);
+		gl.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, 1);
+
+		if ((w != this.w) || (h != this.h))
+		{
+			gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MIN_FILTER,
+							   GL.GL_LINEAR);
+			gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MAG_FILTER,
+							   GL.GL_LINEAR);
+			gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_WRAP_S,
+							   GL.GL_CLAMP_TO_EDGE);
+			gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_WRAP_T,
+							   GL.GL_CLAMP_TO_EDGE);
+			gl.glTexImage2D(GL.GL_TEXTURE_2D, 0, GL.GL_RGBA, w, h, 0,
+							GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, rgba);
+
+			this.w = w;
+			this.h = h;
+		}
+		else
+		{
+			gl.glTexSubImage2D(GL.GL_TEXTURE_2D, 0, 0, 0, w, h,
+							   GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, rgba);
+		}
+
+		gl.glBindTexture(GL.GL_TEXTURE_2D, 0);
+	}
+
+	// Draw the whole texture over the scene rectangle [xmin,xmax]x[ymin,ymax],
+	// blending by alpha and tinting by the current color.
+	public void	draw(GL2 gl, double xmin, double xmax, double ymin, double ymax)
+	{
+		draw(gl, xmin, xmax, ymin, ymax, 0.0, 1.0, 0.0, 1.0);
+	}
+
+	// Draw part of the texture, [s0,s1]x[t0,t1] in texture coordinates, over
+	// the scene rectangle [xmin,xmax]x[ymin,ymax].
+	public void	draw(GL2 gl, double xmin, double xmax, double ymin, double ymax,
+					 double s0, double s1, double t0, double t1)
+	{
+		draw(gl, id, xmin, xmax, ymin, ymax, s0, s1, t0, t1);
+	}
+
+	// Release the texture.
+	public void	dispose(GL2 gl)
+	{
+		if (id != 0)
+			gl.glDeleteTextures(1, new int[] { id }, 0);
+
+		id = 0;
+		w = 0;
+		h = 0;
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Draw any texture as a quad. Shared with other texture owners.
+	public static void	draw(GL2 gl, int id, double xmin, double xmax,
+							 double ymin, double ymax, double s0, double s1,
+							 double t0, double t1)
+	{
+		if (id == 0)
+			return;
+
+		gl.glEnable(GL.GL_TEXTURE_2D);
+		gl.glEnable(GL.GL_BLEND);
+		gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
+		gl.glTexEnvi(GL2.GL_TEXTURE_ENV, GL2.GL_TEXTURE_ENV_MODE,
+					 GL2.GL_MODULATE);
+		gl.glBindTexture(GL.GL_TEXTURE_2D, id);
+
+		gl.glBegin(GL2.GL_QUADS);
+
+		gl.glTexCoord2d(s0, t0);
+		gl.glVertex2d(xmin, ymin);
+		gl.glTexCoord2d(s1, t0);
+		gl.glVertex2d(xmax, ymin);
+		gl.glTexCoord2d(s1, t1);
+		gl.glVertex2d(xmax, ymax);
+		gl.glTexCoord2d(s0, t1);
+		gl.glVertex2d(xmin, ymax);
+
+		gl.glEnd();
+
+		gl.glBindTexture(GL.GL_TEXTURE_2D, 0);
+		gl.glDisable(GL.GL_BLEND);
+		gl.glDisable(GL.GL_TEXTURE_2D);
+	}
+}
+
+//******************************************************************************
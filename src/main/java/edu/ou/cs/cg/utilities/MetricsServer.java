@@ -0,0 +1,327 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Serves metrics at http://localhost:<port>/metrics in the Prometheus text
+// format (version 0.0.4), for watching an application that runs for days.
+// It uses the JDK's own HTTP server (com.sun.net.httpserver) on one daemon
+// thread, and is bound to the loopback address only, so nothing off the
+// machine can reach it; scrape it with a local Prometheus or node agent, or
+// look at it with curl.
+//
+// The server always reports JVM memory: heap and non-heap use, and the
+// direct and mapped buffer pools, which is where off-heap memory such as
+// vertex buffers and mapped audio lives. Applications add their own metrics
+// with a Source, which writes them out on each request. Sources run on the
+// server's thread, so they should only read values that other threads keep
+// up to date, such as atomics and Histograms, and never touch OpenGL.
+//
+// The static write methods format the common metric types. Histograms are
+// written with buckets at the given bounds, which are in the exported unit
+// (usually seconds); scale converts the Histogram's units to that one. Counts
+// at a bound are exact to within the Histogram's bucket there (under 2%).
+//
+// See prometheus.io/docs/instrumenting/exposition_formats
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import com.sun.net.httpserver.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>MetricsServer</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class MetricsServer
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final String		PATH = "/metrics";
+	public static final String		CONTENT_TYPE =
+		"text/plain; version=0.0.4; charset=utf-8";
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final HttpServer					server;
+	private final ExecutorService				executor;
+	private final CopyOnWriteArrayList<Source>	sources;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Start serving on localhost:port. A port of 0 picks a free one.
+	public MetricsServer(int port) throws IOException
+	{
+		InetSocketAddress	address =
+			new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+
+		sources = new CopyOnWriteArrayList<Source>();
+		executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				public Thread newThread(Runnable r) {
+					Thread	thread = new Thread(r, "MetricsServer");
+
+					thread.setDaemon(true);
+
+					return thread;
+				}
+			});
+
+		server = HttpServer.create(address, 0);
+		server.createContext(PATH, new Handler());
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// The port actually bound.
+	public int	getPort()
+	{
+		return server.getAddress().getPort();
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	public void	addSource(Source source)
+	{
+		sources.add(source);
+	}
+
+	public void	removeSource(Source source)
+	{
+		sources.remove(source);
+	}
+
+	// Everything there is to report, as the server would send it.
+	public String	scrape()
+	{
+		StringBuilder	out = new StringBuilder(4096);
+
+		writeMemory(out);
+
+		for (Source source : sources)
+			source.write(out);
+
+		return out.toString();
+	}
+
+	public void	stop()
+	{
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	//**********************************************************************
+	// Public Class Methods (Formatting)
+	//**********************************************************************
+
+	// A value that only goes up. By convention, name ends in _total.
+	public static void	writeCounter(StringBuilder out, String name,
+									 String help, double value)
+	{
+		writeHeader(out, name, "counter", help);
+		writeSample(out, name, null, value);
+	}
+
+	// A value that goes up and down.
+	public static void	writeGauge(StringBuilder out, String name,
+								   String help, double value)
+	{
+		writeHeader(out, name, "gauge", help);
+		writeSample(out, name, null, value);
+	}
+
+	// A histogram's counts at each bound (and +Inf), count and sum. Bounds
+	// are in the exported unit and increasing; a value v in the histogram
+	// is v * scale in that unit.
+	public static void	writeHistogram(StringBuilder out, String name,
+									   String help, Histogram h,
+									   double scale, double[] bounds)
+	{
+		writeHeader(out, name, "histogram", help);
+
+		for (int i=0; i<bounds.length; i++)
+		{
+			long	n = h.getCountAtOrBelow(Math.round(bounds[i] / scale));
+
+			writeSample(out, name + "_bucket",
+						"le=\"" + bounds[i] + "\"", n);
+		}
+
+		// Read the total once, so +Inf and _count agree
+		long	total = h.getCountAtOrBelow(Long.MAX_VALUE);
+
+		writeSample(out, name + "_bucket", "le=\"+Inf\"", total);
+		writeSample(out, name + "_sum", null, h.getSum() * scale);
+		writeSample(out, name + "_count", null, total);
+	}
+
+	public static void	writeHeader(StringBuilder out, String name,
+									String type, String help)
+	{
+		out.append("# HELP ").append(name).append(' ').append(help)
+			.append('\n');
+		out.append("# TYPE ").append(name).append(' ').append(type)
+			.append('\n');
+	}
+
+	// A string made safe to put between quotes as a label value.
+	public static String	escape(String value)
+	{
+		return value.replace("\\", "\\\\").replace("\"", "\\\"")
+			.replace("\n", "\\n");
+	}
+
+	// One line: name{labels} value. Labels may be null.
+	public static void	writeSample(StringBuilder out, String name,
+									String labels, double value)
+	{
+		out.append(name);
+
+		if (labels != null)
+			out.append('{').append(labels).append('}');
+
+		out.append(' ');
+
+		if (value == Math.rint(value) && Math.abs(value) < 1.0e15)
+			out.append((long)value);
+		else
+			out.append(value);
+
+		out.append('\n');
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static void	writeMemory(StringBuilder out)
+	{
+		MemoryUsage	heap =
+			ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+		MemoryUsage	nonheap =
+			ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+
+		writeHeader(out, "jvm_memory_used_bytes", "gauge",
+					"Memory in use, by area.");
+		writeSample(out, "jvm_memory_used_bytes", "area=\"heap\"",
+					heap.getUsed());
+		writeSample(out, "jvm_memory_used_bytes", "area=\"nonheap\"",
+					nonheap.getUsed());
+
+		writeHeader(out, "jvm_memory_committed_bytes", "gauge",
+					"Memory committed by the OS, by area.");
+		writeSample(out, "jvm_memory_committed_bytes", "area=\"heap\"",
+					heap.getCommitted());
+		writeSample(out, "jvm_memory_committed_bytes", "area=\"nonheap\"",
+					nonheap.getCommitted());
+
+		writeGauge(out, "jvm_memory_max_bytes",
+				   "Most heap memory there can be, or -1 if unbounded.",
+				   heap.getMax());
+
+		writeHeader(out, "jvm_buffer_pool_used_bytes", "gauge",
+					"Off-heap memory in use by NIO buffers, by pool.");
+
+		for (BufferPoolMXBean pool :
+				 ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class))
+			writeSample(out, "jvm_buffer_pool_used_bytes",
+						"pool=\"" + escape(pool.getName()) + "\"",
+						pool.getMemoryUsed());
+
+		writeHeader(out, "jvm_buffer_pool_buffers", "gauge",
+					"NIO buffers allocated, by pool.");
+
+		for (BufferPoolMXBean pool :
+				 ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class))
+			writeSample(out, "jvm_buffer_pool_buffers",
+						"pool=\"" + escape(pool.getName()) + "\"",
+						pool.getCount());
+	}
+
+	//**********************************************************************
+	// Inner Classes
+	//**********************************************************************
+
+	// Something that has metrics to report.
+	public interface Source
+	{
+		// Append metrics in the text format, each with its HELP and TYPE.
+		public void	write(StringBuilder out);
+	}
+
+	private final class Handler implements HttpHandler
+	{
+		public void	handle(HttpExchange exchange) throws IOException
+		{
+			try
+			{
+				String	method = exchange.getRequestMethod();
+
+				if (!"GET".equals(method) && !"HEAD".equals(method))
+				{
+					exchange.sendResponseHeaders(405, -1);
+					return;
+				}
+
+				if (!PATH.equals(exchange.getRequestURI().getPath()))
+				{
+					exchange.sendResponseHeaders(404, -1);
+					return;
+				}
+
+				byte[]	body = scrape().getBytes(StandardCharsets.UTF_8);
+
+				exchange.getResponseHeaders().set("Content-Type",
+												  CONTENT_TYPE);
+
+				if ("HEAD".equals(method))
+				{
+					exchange.sendResponseHeaders(200, -1);
+					return;
+				}
+
+				exchange.sendResponseHeaders(200, body.length);
+
+				OutputStream	stream = exchange.getResponseBody();
+
+				stream.write(body);
+				stream.close();
+			}
+			finally
+			{
+				exchange.close();
+			}
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,156 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Heights of the rows of a scrolling list, indexed so that both questions a
+// virtualized list asks each frame take O(log n) time however long the list:
+// where does row r start (getOffset), and which row is at offset y (getRow).
+// Rows can be appended, and their heights changed, in O(log n) time as well,
+// so a list can grow while it's shown without being laid out again.
+//
+// The index is a Fenwick (binary indexed) tree of the heights. Entry i of the
+// tree holds the total height of the rows in (i - lowbit(i), i], so any prefix
+// sum is the sum of O(log n) entries, and finding the row at an offset is a
+// descent through the entries from the largest power of two down.
+//
+// See en.wikipedia.org/wiki/Fenwick_tree
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.Arrays;
+
+//******************************************************************************
+
+/**
+ * The <CODE>RowIndex</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class RowIndex
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private int[]		heights;		// Height of each row
+	private long[]		tree;			// Fenwick tree, 1-based
+	private int		size;			// Number of rows
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public RowIndex()
+	{
+		heights = new int[64];
+		tree = new long[65];
+		size = 0;
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int	getSize()
+	{
+		return size;
+	}
+
+	public int	getHeight(int row)
+	{
+		return heights[row];
+	}
+
+	// Change the height of a row.
+	public void	setHeight(int row, int height)
+	{
+		long	delta = height - heights[row];
+
+		heights[row] = height;
+
+		for (int i=row+1; i<=size; i+=(i & -i))
+			tree[i] += delta;
+	}
+
+	// Total height of all rows.
+	public long	getTotal()
+	{
+		return getOffset(size);
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Remove all rows.
+	public void	clear()
+	{
+		size = 0;
+	}
+
+	// Add a row of the given height to the end.
+	public void	add(int height)
+	{
+		if (size == heights.length)
+		{
+			heights = Arrays.copyOf(heights, 2 * size);
+			tree = Arrays.copyOf(tree, 2 * size + 1);
+		}
+
+		// The new entry covers (i - lowbit(i), i]: its own height plus the
+		// entries that already cover (i - lowbit(i), i - 1].
+		int		i = size + 1;
+		int		stop = i - (i & -i);
+		long	sum = height;
+
+		for (int j=i-1; j>stop; j-=(j & -j))
+			sum += tree[j];
+
+		heights[size] = height;
+		tree[i] = sum;
+		size++;
+	}
+
+	// Offset of the top of a row from the top of row 0. getOffset(getSize())
+	// is the total height.
+	public long	getOffset(int row)
+	{
+		long	sum = 0;
+
+		for (int i=row; i>0; i-=(i & -i))
+			sum += tree[i];
+
+		return sum;
+	}
+
+	// The row that covers the given offset, clamped to the first or last row.
+	// Returns -1 if there are no rows.
+	public int	getRow(long offset)
+	{
+		if (size == 0)
+			return -1;
+
+		// Find the most rows whose total height is at most offset
+		int	rows = 0;
+
+		for (int step=Integer.highestOneBit(size); step>0; step>>=1)
+		{
+			int	next = rows + step;
+
+			if ((next <= size) && (tree[next] <= offset))
+			{
+				rows = next;
+				offset -= tree[next];
+			}
+		}
+
+		return Math.min(rows, size - 1);
+	}
+}
+
+//******************************************************************************
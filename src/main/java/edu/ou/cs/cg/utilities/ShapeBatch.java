@@ -0,0 +1,283 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Batches flat-colored 2-D shapes so that a frame's worth of them is drawn in
+// at most two calls, instead of one glBegin()/glEnd() pair per shape. Filled
+// shapes are broken into triangles and outlines into line segments as they're
+// added, and each vertex carries its own color, so a color change doesn't
+// break the batch.
+//
+// Vertices are collected as three ints apiece (x and y as float bits, then
+// the color as four bytes) in plain int arrays that are reused from frame to
+// frame. flush() copies both arrays into one interleaved vertex buffer
+// object, draws all the triangles with one glDrawArrays() and then all the
+// lines with another, and empties the batch. Within a batch, lines are drawn
+// over triangles whatever order they were added in; flush between shapes
+// that have to overlap the other way, or around anything drawn directly.
+//
+// Colors are given as packed ARGB ints (like Color.getRGB()), and converted
+// to the order OpenGL reads them in only when the color changes, so a color
+// can be kept as a constant rather than made anew each frame.
+//
+// All methods that take a GL2 must be called on the OpenGL thread.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.awt.Point;
+import java.nio.*;
+import java.util.Arrays;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ShapeBatch</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class ShapeBatch
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int	STRIDE = 3;			// Ints per vertex
+	private static final int	MIN_CAPACITY = 1024;	// Vertices
+
+	private static final boolean	LITTLE_ENDIAN =
+		(ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN);
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private int[]			triangles;		// Vertices of filled shapes
+	private int			triangleCount;
+	private int[]			lines;			// Vertices of outlines
+	private int			lineCount;
+	private int			color;			// In OpenGL byte order
+
+	private IntBuffer		data;			// Staging for upload
+	private int			id;			// Buffer object name, 0 if none
+	private int			drawCalls;		// Since creation
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public ShapeBatch()
+	{
+		triangles = new int[MIN_CAPACITY * STRIDE];
+		lines = new int[MIN_CAPACITY * STRIDE];
+		data = Buffers.newDirectIntBuffer(2 * MIN_CAPACITY * STRIDE);
+		setColor(0xFFFFFFFF);
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// Vertices waiting for the next flush().
+	public int	getCount()
+	{
+		return triangleCount + lineCount;
+	}
+
+	// Number of glDrawArrays() calls made so far.
+	public int	getDrawCalls()
+	{
+		return drawCalls;
+	}
+
+	// Color of shapes added from now on, as packed ARGB.
+	public void	setColor(int argb)
+	{
+		int	a = (argb >>> 24);
+		int	r = (argb >> 16) & 0xFF;
+		int	g = (argb >> 8) & 0xFF;
+		int	b = argb & 0xFF;
+
+		// Bytes in memory must be r, g, b, a
+		if (LITTLE_ENDIAN)
+			color = (a << 24) | (b << 16) | (g << 8) | r;
+		else
+			color = (r << 24) | (g << 16) | (b << 8) | a;
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Pack an opaque color, with components from 0 to 255, as ARGB.
+	public static int	rgb(int r, int g, int b)
+	{
+		return 0xFF000000 | ((r & 0xFF) << 16) | ((g & 0xFF) << 8) | (b & 0xFF);
+	}
+
+	//**********************************************************************
+	// Public Methods (Shapes)
+	//**********************************************************************
+
+	// Fill the rectangle with lower left corner (x,y) and size (w,h).
+	public void	fillRect(float x, float y, float w, float h)
+	{
+		triangle(x, y, x + w, y, x + w, y + h);
+		triangle(x, y, x + w, y + h, x, y + h);
+	}
+
+	// Outline the rectangle with lower left corner (x,y) and size (w,h).
+	public void	edgeRect(float x, float y, float w, float h)
+	{
+		line(x, y, x, y + h);
+		line(x, y + h, x + w, y + h);
+		line(x + w, y + h, x + w, y);
+		line(x + w, y, x, y);
+	}
+
+	// Fill the convex polygon with vertices at (x,y) plus each offset.
+	public void	fillPoly(float x, float y, Point[] offsets)
+	{
+		for (int i=2; i<offsets.length; i++)
+			triangle(x + offsets[0].x, y + offsets[0].y,
+					 x + offsets[i - 1].x, y + offsets[i - 1].y,
+					 x + offsets[i].x, y + offsets[i].y);
+	}
+
+	// Outline the polygon with vertices at (x,y) plus each offset.
+	public void	edgePoly(float x, float y, Point[] offsets)
+	{
+		for (int i=0, j=offsets.length-1; i<offsets.length; j=i++)
+			line(x + offsets[j].x, y + offsets[j].y,
+				 x + offsets[i].x, y + offsets[i].y);
+	}
+
+	// Fill the regular polygon with the given number of sides, centered at
+	// (x,y), that approximates a circle of radius r.
+	public void	fillCircle(float x, float y, float r, int sides)
+	{
+		float[]	table = CircleTable.getUnitCircle(sides);
+
+		for (int i=1; i<sides-1; i++)
+			triangle(x + r * table[0], y + r * table[1],
+					 x + r * table[2 * i], y + r * table[2 * i + 1],
+					 x + r * table[2 * i + 2], y + r * table[2 * i + 3]);
+	}
+
+	//**********************************************************************
+	// Public Methods (OpenGL)
+	//**********************************************************************
+
+	// Draw everything added since the last flush, then empty the batch.
+	public void	flush(GL2 gl)
+	{
+		int	n = triangleCount + lineCount;
+
+		if (n == 0)
+			return;
+
+		if (id == 0)
+		{
+			int[]	ids = new int[1];
+
+			gl.glGenBuffers(1, ids, 0);
+			id = ids[0];
+		}
+
+		if (data.capacity() < n * STRIDE)
+			data = Buffers.newDirectIntBuffer(2 * n * STRIDE);
+
+		data.clear();
+		data.put(triangles, 0, triangleCount * STRIDE);
+		data.put(lines, 0, lineCount * STRIDE);
+		data.flip();
+
+		int	stride = STRIDE * Buffers.SIZEOF_INT;
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, id);
+		gl.glBufferData(GL.GL_ARRAY_BUFFER, (long)n * stride, data,
+						GL2.GL_STREAM_DRAW);
+
+		gl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glEnableClientState(GL2.GL_COLOR_ARRAY);
+		gl.glVertexPointer(2, GL.GL_FLOAT, stride, 0L);
+		gl.glColorPointer(4, GL.GL_UNSIGNED_BYTE, stride,
+						  2L * Buffers.SIZEOF_FLOAT);
+
+		if (triangleCount > 0)
+		{
+			gl.glDrawArrays(GL.GL_TRIANGLES, 0, triangleCount);
+			drawCalls++;
+		}
+
+		if (lineCount > 0)
+		{
+			gl.glDrawArrays(GL.GL_LINES, triangleCount, lineCount);
+			drawCalls++;
+		}
+
+		gl.glDisableClientState(GL2.GL_COLOR_ARRAY);
+		gl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+
+		triangleCount = 0;
+		lineCount = 0;
+	}
+
+	// Release the buffer object. Shapes not yet flushed are kept.
+	public void	dispose(GL2 gl)
+	{
+		if (id != 0)
+			gl.glDeleteBuffers(1, new int[] { id }, 0);
+
+		id = 0;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private void	triangle(float x0, float y0, float x1, float y1,
+							 float x2, float y2)
+	{
+		if ((triangleCount + 3) * STRIDE > triangles.length)
+			triangles = Arrays.copyOf(triangles, 2 * triangles.length);
+
+		int	i = triangleCount * STRIDE;
+
+		i = put(triangles, i, x0, y0);
+		i = put(triangles, i, x1, y1);
+		put(triangles, i, x2, y2);
+		triangleCount += 3;
+	}
+
+	private void	line(float x0, float y0, float x1, float y1)
+	{
+		if ((lineCount + 2) * STRIDE > lines.length)
+			lines = Arrays.copyOf(lines, 2 * lines.length);
+
+		int	i = lineCount * STRIDE;
+
+		i = put(lines, i, x0, y0);
+		put(lines, i, x1, y1);
+		lineCount += 2;
+	}
+
+	// Store one vertex in the current color at a[i], returning the next i.
+	private int	put(int[] a, int i, float x, float y)
+	{
+		a[i] = Float.floatToRawIntBits(x);
+		a[i + 1] = Float.floatToRawIntBits(y);
+		a[i + 2] = color;
+
+		return i + STRIDE;
+	}
+}
+
+//******************************************************************************
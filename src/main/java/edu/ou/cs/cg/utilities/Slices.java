@@ -0,0 +1,110 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Runs a loop over n items in parallel on a ForkJoinPool. The items are cut
+// into a given number of contiguous slices, and the range of slices is halved
+// recursively until each task owns one slice. Slice boundaries depend only on
+// n and the number of slices, never on thread scheduling, so callers that give
+// each slice its own random stream get the same output on every run.
+//
+// With one slice, the body runs directly on the calling thread.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Slices</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class Slices
+{
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	private Slices()
+	{
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Run body once for each of the slices of items [0, n), in parallel on
+	// pool, and return when all of them are done.
+	public static void	invoke(ForkJoinPool pool, long n, int slices,
+							   Body body)
+	{
+		slices = Math.max(1, slices);
+
+		if (slices == 1)
+			body.run(0, 0L, n);
+		else
+			pool.invoke(new Task(n, slices, body, 0, slices));
+	}
+
+	// First item of slice i when n items are cut into the given slices.
+	public static long	start(long n, int slices, int i)
+	{
+		return n * i / slices;
+	}
+
+	//**********************************************************************
+	// Inner Classes
+	//**********************************************************************
+
+	// The work for one slice.
+	public interface Body
+	{
+		// Handle items [lo, hi), which make up the given slice.
+		public void	run(int slice, long lo, long hi);
+	}
+
+	// Recursively halves a range of slices until each task owns one slice.
+	private static final class Task extends RecursiveAction
+	{
+		private static final long	serialVersionUID = 1L;
+
+		private final long		n;
+		private final int		slices;
+		private final Body		body;
+		private final int		lo;		// First slice, inclusive
+		private final int		hi;		// Last slice, exclusive
+
+		public Task(long n, int slices, Body body, int lo, int hi)
+		{
+			this.n = n;
+			this.slices = slices;
+			this.body = body;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		protected void	compute()
+		{
+			if (hi - lo == 1)
+			{
+				body.run(lo, start(n, slices, lo), start(n, slices, lo + 1));
+			}
+			else
+			{
+				int	mid = (lo + hi) >>> 1;
+
+				invokeAll(new Task(n, slices, body, lo, mid),
+						  new Task(n, slices, body, mid, hi));
+			}
+		}
+	}
+}
+
+//******************************************************************************
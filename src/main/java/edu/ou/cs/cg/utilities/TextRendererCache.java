@@ -0,0 +1,133 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Cache of TextRenderers keyed by font family, style, and size. Each
+// TextRenderer rasterizes glyphs on demand into its own texture atlas and
+// reuses them from then on, so creating one is expensive but drawing with it
+// is cheap. Create the cache in GLEventListener.init(), get renderers from it
+// as often as needed while drawing, and dispose it in dispose() to release
+// the atlas textures.
+//
+// All methods must be called on the OpenGL thread.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.awt.Font;
+import java.util.HashMap;
+import com.jogamp.opengl.util.awt.TextRenderer;
+
+//******************************************************************************
+
+/**
+ * The <CODE>TextRendererCache</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class TextRendererCache
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final HashMap<String, TextRenderer>	renderers;
+	private final boolean						antialiased;
+	private final boolean						fractional;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Renderers with antialiasing and fractional metrics.
+	public TextRendererCache()
+	{
+		this(true, true);
+	}
+
+	public TextRendererCache(boolean antialiased, boolean fractional)
+	{
+		this.renderers = new HashMap<String, TextRenderer>();
+		this.antialiased = antialiased;
+		this.fractional = fractional;
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// Number of distinct fonts with renderers.
+	public int	getSize()
+	{
+		return renderers.size();
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// The renderer for a font, created the first time it's requested. Style
+	// is a combination of Font.PLAIN, Font.BOLD, and Font.ITALIC.
+	public TextRenderer	get(String family, int style, int size)
+	{
+		String			key = family + "-" + style + "-" + size;
+		TextRenderer	renderer = renderers.get(key);
+
+		if (renderer == null)
+		{
+			renderer = new TextRenderer(new Font(family, style, size),
+										antialiased, fractional);
+			renderers.put(key, renderer);
+		}
+
+		return renderer;
+	}
+
+	// Release every renderer and its glyph textures.
+	public void	dispose()
+	{
+		for (TextRenderer renderer : renderers.values())
+			renderer.dispose();
+
+		renderers.clear();
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// The longest prefix of text that fits in width pixels when drawn with
+	// renderer, with a trailing ellipsis if it had to be shortened. Measuring
+	// is slow, so the cut is found by binary search, and callers should keep
+	// the result rather than fitting the same text every frame.
+	public static String	fit(TextRenderer renderer, String text, int width)
+	{
+		if (text == null)
+			return "";
+
+		if (renderer.getBounds(text).getWidth() <= width)
+			return text;
+
+		int	lo = 0;					// Longest prefix known to fit
+		int	hi = text.length();		// Shortest prefix known not to
+
+		while (hi - lo > 1)
+		{
+			int	mid = (lo + hi) >>> 1;
+
+			if (renderer.getBounds(text.substring(0, mid) + "...").getWidth()
+				<= width)
+				lo = mid;
+			else
+				hi = mid;
+		}
+
+		return text.substring(0, lo) + "...";
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,364 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Least-recently-used cache of image textures, loaded by URL. Loading is
+// split between two threads so that drawing never waits on it:
+//
+//   Loader thread: reads and decodes the image, scales it down to fit in
+//   size x size pixels, and copies the pixels into a direct ByteBuffer in the
+//   order OpenGL wants them (RGBA, bottom row first).
+//
+//   GL thread: in update(), uploads whatever has finished decoding into
+//   ImageTextures, then evicts least recently used textures until the cache
+//   is within both its texture count and its byte budget. Evicted textures
+//   are deleted right there, on the thread that owns them.
+//
+// Because every texture is at most size x size, and the cache never holds
+// more than its budgets, memory use stays flat however many images come and
+// go. URLs that fail to load are remembered, and not tried again until a
+// backoff has passed. The backoff doubles with each failure in a row, up to a
+// limit. Only the most recently requested failures are remembered, so a long
+// session doesn't build up a list of every bad URL it has seen.
+//
+// All methods except the constructor must be called on the OpenGL thread.
+// Call dispose() from GLEventListener.dispose() to delete what's left.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.*;
+import javax.imageio.ImageIO;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>TextureCache</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class TextureCache
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int	MAX_FAILED = 256;	// Failed URLs remembered
+	private static final long	MIN_RETRY = TimeUnit.SECONDS.toNanos(5);
+	private static final long	MAX_RETRY = TimeUnit.MINUTES.toNanos(5);
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final int							size;		// Max width/height
+	private final int							maxCount;	// Most textures
+	private final long							maxBytes;	// Most pixel bytes
+	private final ExecutorService				loader;
+
+	// Decoded images, waiting for upload (loader to GL thread)
+	private final ConcurrentLinkedQueue<Decoded>	ready;
+
+	// Everything else is GL thread only
+	private final LinkedHashMap<String, ImageTexture>	textures;	// LRU first
+	private final HashSet<String>				pending;	// Being decoded
+	private final LinkedHashMap<String, Failure>	failed;	// Couldn't load
+	private long								bytes;		// Held by textures
+	private long								evictions;	// Since start
+	private boolean							disposed;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Keep up to maxCount textures of at most size x size pixels, totaling
+	// at most maxBytes.
+	public TextureCache(int size, int maxCount, long maxBytes)
+	{
+		this.size = size;
+		this.maxCount = Math.max(1, maxCount);
+		this.maxBytes = maxBytes;
+
+		loader = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				public Thread newThread(Runnable r) {
+					Thread	thread = new Thread(r, "TextureCache loader");
+
+					thread.setDaemon(true);
+					thread.setPriority(Thread.MIN_PRIORITY);
+
+					return thread;
+				}
+			});
+
+		ready = new ConcurrentLinkedQueue<Decoded>();
+		textures = new LinkedHashMap<String, ImageTexture>(16, 0.75f, true);
+		pending = new HashSet<String>();
+		failed = new LinkedHashMap<String, Failure>(16, 0.75f, true) {
+				private static final long	serialVersionUID = 1L;
+
+				protected boolean removeEldestEntry(
+					Map.Entry<String, Failure> eldest) {
+					return (size() > MAX_FAILED);
+				}
+			};
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int	getCount()
+	{
+		return textures.size();
+	}
+
+	public long	getBytes()
+	{
+		return bytes;
+	}
+
+	public long	getEvictions()
+	{
+		return evictions;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// The texture for url, marking it most recently used, or null if it isn't
+	// loaded yet. Starts loading it if need be.
+	public ImageTexture	get(String url)
+	{
+		if (url == null)
+			return null;
+
+		ImageTexture	texture = textures.get(url);
+
+		if (texture == null)
+			request(url);
+
+		return texture;
+	}
+
+	// Start loading url in the background, unless it's already loaded, on its
+	// way, or failed too recently to try again. Doesn't count as a use.
+	public void	request(final String url)
+	{
+		if ((url == null) || disposed || textures.containsKey(url) ||
+			pending.contains(url))
+			return;
+
+		Failure	failure = failed.get(url);
+
+		if ((failure != null) && (System.nanoTime() - failure.until < 0L))
+			return;
+
+		pending.add(url);
+
+		loader.execute(new Runnable() {
+				public void run() {
+					ready.add(decode(url));
+				}
+			});
+	}
+
+	// Upload finished images and evict down to budget. Call once per frame.
+	public void	update(GL2 gl)
+	{
+		Decoded	d;
+
+		while ((d = ready.poll()) != null)
+		{
+			pending.remove(d.url);
+
+			if (d.pixels == null)
+			{
+				fail(d.url);
+				continue;
+			}
+
+			failed.remove(d.url);
+
+			ImageTexture	texture = new ImageTexture();
+
+			texture.update(gl, d.w, d.h, d.pixels);
+			textures.put(d.url, texture);
+			bytes += 4L * d.w * d.h;
+		}
+
+		// Evict least recently used first, but always keep the newest one
+		Iterator<ImageTexture>	it = textures.values().iterator();
+
+		while (((textures.size() > maxCount) || (bytes > maxBytes)) &&
+			   (textures.size() > 1))
+		{
+			ImageTexture	texture = it.next();
+
+			bytes -= 4L * texture.getWidth() * texture.getHeight();
+			texture.dispose(gl);
+			it.remove();
+			evictions++;
+		}
+	}
+
+	// Delete every texture and stop loading.
+	public void	dispose(GL2 gl)
+	{
+		for (ImageTexture texture : textures.values())
+			texture.dispose(gl);
+
+		textures.clear();
+		pending.clear();
+		failed.clear();
+		ready.clear();
+		bytes = 0;
+		disposed = true;
+		loader.shutdownNow();
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	// Remember that url failed, and hold off trying it again for twice as long
+	// as after its last failure.
+	private void	fail(String url)
+	{
+		Failure	failure = failed.get(url);
+		long	delay = MIN_RETRY;
+
+		if (failure != null)
+			delay = Math.min(2 * failure.delay, MAX_RETRY);
+
+		failed.put(url, new Failure(System.nanoTime() + delay, delay));
+	}
+
+	// Read, scale, and convert an image. Runs on the loader thread.
+	private Decoded	decode(String url)
+	{
+		try
+		{
+			BufferedImage	image = ImageIO.read(new URL(url));
+
+			if (image == null)
+				throw new IOException("Unknown image format");
+
+			image = scale(image, size);
+
+			int			w = image.getWidth();
+			int			h = image.getHeight();
+			int[]		row = new int[w];
+			ByteBuffer	pixels = ByteBuffer.allocateDirect(4 * w * h);
+
+			for (int y=h-1; y>=0; y--)			// Bottom row first
+			{
+				image.getRGB(0, y, w, 1, row, 0, w);
+
+				for (int x=0; x<w; x++)
+				{
+					int	argb = row[x];
+
+					pixels.put((byte)(argb >> 16));
+					pixels.put((byte)(argb >> 8));
+					pixels.put((byte)argb);
+					pixels.put((byte)(argb >>> 24));
+				}
+			}
+
+			pixels.flip();
+
+			return new Decoded(url, w, h, pixels);
+		}
+		catch (Exception e)
+		{
+			System.err.println("Couldn't load " + url + ": " + e.getMessage());
+
+			return new Decoded(url, 0, 0, null);
+		}
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// Scale an image down to fit in size x size, keeping its aspect ratio.
+	// Halves repeatedly with bilinear filtering, which looks nearly as good
+	// as a proper filter and is much faster.
+	private static BufferedImage	scale(BufferedImage image, int size)
+	{
+		int		w = image.getWidth();
+		int		h = image.getHeight();
+		double	s = Math.min(1.0, (double)size / Math.max(w, h));
+		int		tw = Math.max(1, (int)Math.round(w * s));
+		int		th = Math.max(1, (int)Math.round(h * s));
+
+		do
+		{
+			w = Math.max(tw, w / 2);
+			h = Math.max(th, h / 2);
+
+			BufferedImage	next = new BufferedImage(w, h,
+													 BufferedImage.TYPE_INT_ARGB);
+			Graphics2D		g = next.createGraphics();
+
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+							   RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			g.drawImage(image, 0, 0, w, h, null);
+			g.dispose();
+
+			image = next;
+		}
+		while ((w != tw) || (h != th));
+
+		return image;
+	}
+
+	//**********************************************************************
+	// Inner Classes
+	//**********************************************************************
+
+	// Pixels ready to upload, or null pixels if the url couldn't be loaded.
+	private static final class Decoded
+	{
+		public final String		url;
+		public final int			w;
+		public final int			h;
+		public final ByteBuffer	pixels;
+
+		public Decoded(String url, int w, int h, ByteBuffer pixels)
+		{
+			this.url = url;
+			this.w = w;
+			this.h = h;
+			this.pixels = pixels;
+		}
+	}
+
+	// When a url that couldn't be loaded may be tried again.
+	private static final class Failure
+	{
+		public final long	until;		// Don't retry before, nanoTime()
+		public final long	delay;		// Backoff that led to until
+
+		public Failure(long until, long delay)
+		{
+			this.until = until;
+			this.delay = delay;
+		}
+	}
+}
+
+//******************************************************************************
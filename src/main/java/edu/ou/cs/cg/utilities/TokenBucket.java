@@ -0,0 +1,118 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Token bucket rate limiter. The bucket holds up to capacity tokens and
+// refills continuously at rate tokens per second; each request takes one
+// token. Bursts up to capacity go through at once, after which requests are
+// spaced out to the refill rate.
+//
+// Callers don't block. Instead, acquire() either takes a token and returns
+// zero, or returns how many nanoseconds to wait before trying again, so the
+// caller can schedule the retry however it likes. A server's Retry-After can
+// be honored with pause(), which empties the bucket and holds off all
+// requests until the given time.
+//
+// Times are System.nanoTime() values passed in by the caller.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>TokenBucket</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class TokenBucket
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final double	capacity;		// Most tokens held at once
+	private final double	rate;			// Tokens added per nanosecond
+	private double			tokens;		// Tokens available as of last
+	private long			last;			// Time of last refill
+	private long			until;			// No tokens before this time
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// A full bucket of capacity tokens, refilling at perSecond tokens/second.
+	public TokenBucket(int capacity, double perSecond)
+	{
+		this.capacity = Math.max(1, capacity);
+		this.rate = perSecond / 1.0e9;
+
+		tokens = this.capacity;
+		last = System.nanoTime();
+		until = last;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Take a token and return 0, or return nanoseconds until one is ready.
+	public synchronized long	acquire(long now)
+	{
+		if (now - until < 0)
+			return until - now;
+
+		refill(now);
+
+		if (tokens >= 1.0)
+		{
+			tokens -= 1.0;
+			return 0L;
+		}
+
+		return Math.max(1L, (long)Math.ceil((1.0 - tokens) / rate));
+	}
+
+	// Hold off every request until the given time, as after a Retry-After.
+	public synchronized void	pause(long time)
+	{
+		if (time - until > 0)
+			until = time;
+
+		tokens = 0.0;
+
+		if (until - last > 0)
+			last = until;						// Refill from the end of pause
+	}
+
+	// Tokens available now, for diagnostics.
+	public synchronized double	getTokens(long now)
+	{
+		if (now - until < 0)
+			return 0.0;
+
+		refill(now);
+
+		return tokens;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private void	refill(long now)
+	{
+		if (now - last > 0)
+		{
+			tokens = Math.min(capacity, tokens + (now - last) * rate);
+			last = now;
+		}
+	}
+}
+
+//******************************************************************************
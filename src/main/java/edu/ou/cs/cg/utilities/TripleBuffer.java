@@ -0,0 +1,99 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Lock-free triple buffer of float arrays, for handing results from one
+// producer thread to one consumer thread without either ever waiting. The
+// producer fills its back array and publishes it; the consumer takes the
+// latest published array whenever it wants one. Three arrays are enough that
+// neither side ever touches the array the other side is using.
+//
+// The only shared state is one AtomicInteger, which holds the index of the
+// middle (most recently published) array plus a flag saying whether the
+// consumer has seen it yet. Both sides swap their own array with the middle
+// one using getAndSet(), so no data is copied.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//******************************************************************************
+
+/**
+ * The <CODE>TripleBuffer</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class TripleBuffer
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int	FRESH = 4;		// Middle not yet consumed
+	private static final int	INDEX = 3;		// Mask for middle index
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final float[][]		arrays;
+	private final AtomicInteger	middle;		// Middle index | FRESH flag
+	private int					back;			// Producer's array
+	private int					front;			// Consumer's array
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Three arrays of n floats, all zero to start.
+	public TripleBuffer(int n)
+	{
+		arrays = new float[][] { new float[n], new float[n], new float[n] };
+		back = 0;
+		middle = new AtomicInteger(1);
+		front = 2;
+	}
+
+	//**********************************************************************
+	// Public Methods (Producer)
+	//**********************************************************************
+
+	// The array to fill next. Only valid until the next publish().
+	public float[]	getBack()
+	{
+		return arrays[back];
+	}
+
+	// Make the back array the latest, and get a new back array to fill.
+	public void	publish()
+	{
+		back = middle.getAndSet(back | FRESH) & INDEX;
+	}
+
+	//**********************************************************************
+	// Public Methods (Consumer)
+	//**********************************************************************
+
+	// True if something has been published since the last acquire().
+	public boolean	isFresh()
+	{
+		return ((middle.get() & FRESH) != 0);
+	}
+
+	// The latest published array. Only valid until the next acquire().
+	public float[]	acquire()
+	{
+		if ((middle.get() & FRESH) != 0)
+			front = middle.getAndSet(front) & INDEX;
+
+		return arrays[front];
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,189 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Queue of model updates that are posted from input threads (AWT) and run on
+// the OpenGL thread. Any number of threads can post; one thread drains the
+// queue, once per frame, at the start of GLEventListener.display(). The queue
+// is a lock-free ConcurrentLinkedQueue, so posting never blocks.
+//
+// Updates posted with a key are coalesced: if an update for the same key is
+// still waiting, the new one replaces it (keeping its place in line) and the
+// old one is dropped. Use a key for updates that set a value outright, such as
+// the cursor position, where only the latest one matters. Don't use a key for
+// updates that depend on the ones before, such as toggles or adding points.
+//
+// Each drain runs only the updates that were waiting when it started, so a
+// burst of input can delay a frame by at most one queue's worth of updates.
+// Anything posted during a drain waits for the next frame.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>UpdateDispatcher</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class UpdateDispatcher
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final ConcurrentLinkedQueue<Object>			queue;
+	private final ConcurrentHashMap<Object, GLRunnable>	pending;
+
+	// Statistics
+	private final AtomicInteger	depth = new AtomicInteger();	// Waiting
+	private final AtomicInteger	maxDepth = new AtomicInteger();	// Most waiting
+	private final AtomicLong		posted = new AtomicLong();		// All posts
+	private final AtomicLong		dropped = new AtomicLong();	// Coalesced
+	private long					executed;						// Run
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public UpdateDispatcher()
+	{
+		queue = new ConcurrentLinkedQueue<Object>();
+		pending = new ConcurrentHashMap<Object, GLRunnable>();
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// Number of updates waiting to run.
+	public int	getDepth()
+	{
+		return depth.get();
+	}
+
+	// Largest number of updates that have been waiting at once.
+	public int	getMaxDepth()
+	{
+		return maxDepth.get();
+	}
+
+	// Number of updates posted so far.
+	public long	getPosted()
+	{
+		return posted.get();
+	}
+
+	// Number of updates replaced by a later update with the same key.
+	public long	getDropped()
+	{
+		return dropped.get();
+	}
+
+	// Number of updates run so far. Read on the draining thread only.
+	public long	getExecuted()
+	{
+		return executed;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Post an update to run, in order, at the start of the next frame.
+	public void	post(GLRunnable update)
+	{
+		posted.incrementAndGet();
+		grow();									// Count before it can be polled
+		queue.offer(update);
+	}
+
+	// Post an update that replaces any waiting update with the same key.
+	public void	post(Object key, GLRunnable update)
+	{
+		posted.incrementAndGet();
+
+		if (pending.put(key, update) == null)
+		{
+			grow();
+			queue.offer(new Key(key));				// First for key; get in line
+		}
+		else
+		{
+			dropped.incrementAndGet();				// Replaced a waiting update
+		}
+	}
+
+	// Run the updates that are waiting. Call on the OpenGL thread at the start
+	// of display(). Returns the number of updates run.
+	public int	drain(GLAutoDrawable drawable)
+	{
+		int	n = depth.get();
+		int	ran = 0;
+
+		for (int i=0; i<n; i++)
+		{
+			Object	o = queue.poll();
+
+			if (o == null)
+				break;
+
+			depth.decrementAndGet();
+
+			GLRunnable	update = ((o instanceof Key) ?
+								  pending.remove(((Key)o).key) :
+								  (GLRunnable)o);
+
+			if (update != null)
+			{
+				update.run(drawable);
+				ran++;
+			}
+		}
+
+		executed += ran;
+
+		return ran;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private void	grow()
+	{
+		int	d = depth.incrementAndGet();
+		int	m = maxDepth.get();
+
+		while ((d > m) && !maxDepth.compareAndSet(m, d))
+			m = maxDepth.get();
+	}
+
+	//**********************************************************************
+	// Inner Classes
+	//**********************************************************************
+
+	// Place in line for the waiting update with a key.
+	private static final class Key
+	{
+		private final Object	key;
+
+		public Key(Object key)
+		{
+			this.key = key;
+		}
+	}
+}
+
+//******************************************************************************
@@ -61,9 +61,11 @@ public final class Utilities
 	//**********************************************************************
 
 	// Give this method integer x and y coordinates, e.g. of a mouse event.
+	// Each call reads the matrices back from OpenGL. To map many points, or
+	// on every mouse event, capture a ViewTransform once per frame instead.
 	public static double[]	mapViewToScene(GL2 gl, double x, double y, double z)
 	{
-		GLU		glu = GLU.createGLU();
+		GLU		glu = GLU.createGLU(gl);
 		double[]	mv = new double[16];		// modelview
 		double[]	pr = new double[16];		// projection
 		int[]		vp = new int[4];			// viewport
@@ -82,7 +84,7 @@ public final class Utilities
 	// Receive from this method integer x and y pixel coordinates of scene item.
 	public static double[]	mapSceneToView(GL2 gl, double x, double y, double z)
 	{
-		GLU		glu = GLU.createGLU();
+		GLU		glu = GLU.createGLU(gl);
 		double[]	mv = new double[16];		// modelview
 		double[]	pr = new double[16];		// projection
 		int[]		vp = new int[4];			// viewport
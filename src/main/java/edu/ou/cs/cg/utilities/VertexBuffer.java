@@ -0,0 +1,228 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// A retained vertex buffer (VBO) of 2-D float vertices. Vertices are collected
+// on the client side into a direct FloatBuffer, then copied to the GPU in one
+// call per frame. If the only change since the last upload is vertices added
+// at the end, only those new vertices are copied. Drawing is a single call to
+// glDrawArrays() instead of one glVertex() call per vertex.
+//
+// All methods that take a GL2 must be called on the OpenGL thread.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.nio.*;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>VertexBuffer</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class VertexBuffer
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int	COMPONENTS = 2;		// Floats per vertex (x,y)
+	private static final int	MIN_CAPACITY = 1024;	// Vertices
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private FloatBuffer		data;			// Client-side vertex data
+	private int				count;			// Vertices in client data
+	private int				uploaded;		// Vertices already on the GPU
+	private int				capacity;		// Vertices allocated on the GPU
+	private int				id;			// Buffer object name, 0 if none
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public VertexBuffer()
+	{
+		this(MIN_CAPACITY);
+	}
+
+	public VertexBuffer(int capacity)
+	{
+		capacity = Math.max(capacity, MIN_CAPACITY);
+
+		data = Buffers.newDirectFloatBuffer(capacity * COMPONENTS);
+		count = 0;
+		uploaded = 0;
+		this.capacity = 0;
+		id = 0;
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int	getCount()
+	{
+		return count;
+	}
+
+	// Number of vertices that must be copied at the next upload().
+	public int	getPending()
+	{
+		return count - uploaded;
+	}
+
+	//**********************************************************************
+	// Public Methods (Client Data)
+	//**********************************************************************
+
+	// Discard all vertices. The next upload() will copy from the beginning.
+	public void	clear()
+	{
+		count = 0;
+		uploaded = 0;
+	}
+
+	// Keep only the first n vertices.
+	public void	truncate(int n)
+	{
+		count = Math.max(0, Math.min(n, count));
+		uploaded = Math.min(uploaded, count);
+	}
+
+	public void	add(float x, float y)
+	{
+		ensureCapacity(count + 1);
+
+		int	i = count * COMPONENTS;
+
+		data.put(i, x);
+		data.put(i + 1, y);
+		count++;
+	}
+
+	// Append n vertices stored as x,y pairs in a, starting at vertex offset.
+	public void	add(float[] a, int offset, int n)
+	{
+		ensureCapacity(count + n);
+
+		data.position(count * COMPONENTS);
+		data.put(a, offset * COMPONENTS, n * COMPONENTS);
+		data.rewind();
+		count += n;
+	}
+
+	//**********************************************************************
+	// Public Methods (OpenGL)
+	//**********************************************************************
+
+	// Copy any vertices not yet on the GPU. Reallocates the buffer object
+	// (doubling) if the client data has outgrown it.
+	public void	upload(GL2 gl)
+	{
+		if (id == 0)
+		{
+			int[]	ids = new int[1];
+
+			gl.glGenBuffers(1, ids, 0);
+			id = ids[0];
+			capacity = 0;
+			uploaded = 0;
+		}
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, id);
+
+		if (count > capacity)
+		{
+			capacity = data.capacity() / COMPONENTS;
+			data.rewind();
+			gl.glBufferData(GL.GL_ARRAY_BUFFER,
+							(long)capacity * COMPONENTS * Buffers.SIZEOF_FLOAT,
+							null, GL.GL_DYNAMIC_DRAW);
+			uploaded = 0;
+		}
+
+		if (uploaded < count)
+		{
+			int	offset = uploaded * COMPONENTS;
+			int	length = (count - uploaded) * COMPONENTS;
+
+			data.position(offset);
+			data.limit(offset + length);
+			gl.glBufferSubData(GL.GL_ARRAY_BUFFER,
+							   (long)offset * Buffers.SIZEOF_FLOAT,
+							   (long)length * Buffers.SIZEOF_FLOAT, data);
+			data.clear();
+			uploaded = count;
+		}
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+	}
+
+	// Draw all uploaded vertices as the given primitive type.
+	public void	draw(GL2 gl, int mode)
+	{
+		draw(gl, mode, 0, uploaded);
+	}
+
+	// Draw n uploaded vertices, starting at first, as the given primitive type.
+	public void	draw(GL2 gl, int mode, int first, int n)
+	{
+		n = Math.min(n, uploaded - first);
+
+		if ((id == 0) || (n <= 0))
+			return;
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, id);
+		gl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glVertexPointer(COMPONENTS, GL.GL_FLOAT, 0, 0L);
+
+		gl.glDrawArrays(mode, first, n);
+
+		gl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+	}
+
+	// Release the buffer object. The client data is kept, so the buffer can be
+	// uploaded again into a new context.
+	public void	dispose(GL2 gl)
+	{
+		if (id != 0)
+			gl.glDeleteBuffers(1, new int[] { id }, 0);
+
+		id = 0;
+		capacity = 0;
+		uploaded = 0;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private void	ensureCapacity(int n)
+	{
+		if (n * COMPONENTS <= data.capacity())
+			return;
+
+		int			size = Math.max(n, 2 * data.capacity() / COMPONENTS);
+		FloatBuffer	next = Buffers.newDirectFloatBuffer(size * COMPONENTS);
+
+		data.position(0);
+		data.limit(count * COMPONENTS);
+		next.put(data);
+		next.clear();
+		data = next;
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,279 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Notes:
+//
+// Cached mapping between view (window) and scene coordinates. Capture the
+// modelview matrix, projection matrix, and viewport once per frame, right
+// after they are set up, and every mapping after that is plain arithmetic on
+// the CPU with no OpenGL calls and no allocation. The results match those of
+// gluProject() and gluUnProject() for the same matrices and viewport.
+//
+// Matrices are stored in OpenGL's column-major order. The product of the
+// projection and modelview matrices and its inverse are computed once, at
+// capture time, so each mapping is a single matrix-vector product.
+//
+// All mapping methods are cheap enough to call for every mouse event. They
+// are not thread-safe with respect to capture(); call both on the OpenGL
+// thread, e.g. from display() and from GLRunnables queued with invoke().
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import com.jogamp.opengl.*;
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ViewTransform</CODE> class.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class ViewTransform
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// State (internal) variables
+	private final double[]		mv = new double[16];	// Modelview
+	private final double[]		pr = new double[16];	// Projection
+	private final int[]		vp = new int[4];		// Viewport
+	private final double[]		m = new double[16];	// Projection * modelview
+	private final double[]		inv = new double[16];	// Inverse of m
+	private boolean			invertible;			// Is inv valid?
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Identity matrices and a 1 x 1 viewport until the first capture or set.
+	public ViewTransform()
+	{
+		mv[0] = mv[5] = mv[10] = mv[15] = 1.0;
+		pr[0] = pr[5] = pr[10] = pr[15] = 1.0;
+		vp[2] = vp[3] = 1;
+		update();
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// False if the captured matrices can't be inverted (so unprojection fails).
+	public boolean	isInvertible()
+	{
+		return invertible;
+	}
+
+	// Use the given matrices (column-major) and viewport instead of capturing
+	// them from OpenGL, e.g. for benchmarks and tests without a context.
+	public void	set(double[] mv, double[] pr, int[] vp)
+	{
+		System.arraycopy(mv, 0, this.mv, 0, 16);
+		System.arraycopy(pr, 0, this.pr, 0, 16);
+		System.arraycopy(vp, 0, this.vp, 0, 4);
+		update();
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Read the current modelview, projection, and viewport from OpenGL. Call
+	// once per frame, after the pipeline has been set up for the frame.
+	public void	capture(GL2 gl)
+	{
+		gl.glGetDoublev(GLMatrixFunc.GL_MODELVIEW_MATRIX, mv, 0);
+		gl.glGetDoublev(GLMatrixFunc.GL_PROJECTION_MATRIX, pr, 0);
+		gl.glGetIntegerv(GL.GL_VIEWPORT, vp, 0);
+		update();
+	}
+
+	// Map view coordinates (x,y in pixels from the lower left, z in [0,1]) to
+	// scene coordinates, stored into out[0..2]. Like gluUnProject().
+	public boolean	viewToScene(double x, double y, double z, double[] out)
+	{
+		return viewToScene(x, y, z, out, 0);
+	}
+
+	// Map scene coordinates to view coordinates (x,y in pixels from the lower
+	// left, z in [0,1]), stored into out[0..2]. Like gluProject().
+	public boolean	sceneToView(double x, double y, double z, double[] out)
+	{
+		return sceneToView(x, y, z, out, 0);
+	}
+
+	// Map n view points stored as x,y,z triples in in, starting at triple
+	// inOffset, into scene triples in out, starting at triple outOffset. The
+	// arrays may be the same. Returns false if any point failed to map.
+	public boolean	viewToScene(double[] in, int inOffset, double[] out,
+								int outOffset, int n)
+	{
+		boolean	ok = true;
+
+		for (int i=0; i<n; i++)
+		{
+			int	a = 3 * (inOffset + i);
+
+			ok &= viewToScene(in[a], in[a + 1], in[a + 2], out,
+							  3 * (outOffset + i));
+		}
+
+		return ok;
+	}
+
+	// Map n scene points stored as x,y,z triples in in, starting at triple
+	// inOffset, into view triples in out, starting at triple outOffset. The
+	// arrays may be the same. Returns false if any point failed to map.
+	public boolean	sceneToView(double[] in, int inOffset, double[] out,
+								int outOffset, int n)
+	{
+		boolean	ok = true;
+
+		for (int i=0; i<n; i++)
+		{
+			int	a = 3 * (inOffset + i);
+
+			ok &= sceneToView(in[a], in[a + 1], in[a + 2], out,
+							  3 * (outOffset + i));
+		}
+
+		return ok;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private boolean	viewToScene(double x, double y, double z, double[] out,
+								int k)
+	{
+		if (!invertible)
+			return false;
+
+		// Window to normalized device coordinates
+		double	nx = 2.0 * (x - vp[0]) / vp[2] - 1.0;
+		double	ny = 2.0 * (y - vp[1]) / vp[3] - 1.0;
+		double	nz = 2.0 * z - 1.0;
+
+		double	px = inv[0] * nx + inv[4] * ny + inv[8] * nz + inv[12];
+		double	py = inv[1] * nx + inv[5] * ny + inv[9] * nz + inv[13];
+		double	pz = inv[2] * nx + inv[6] * ny + inv[10] * nz + inv[14];
+		double	pw = inv[3] * nx + inv[7] * ny + inv[11] * nz + inv[15];
+
+		if (pw == 0.0)
+			return false;
+
+		out[k] = px / pw;
+		out[k + 1] = py / pw;
+		out[k + 2] = pz / pw;
+
+		return true;
+	}
+
+	private boolean	sceneToView(double x, double y, double z, double[] out,
+								int k)
+	{
+		double	cx = m[0] * x + m[4] * y + m[8] * z + m[12];
+		double	cy = m[1] * x + m[5] * y + m[9] * z + m[13];
+		double	cz = m[2] * x + m[6] * y + m[10] * z + m[14];
+		double	cw = m[3] * x + m[7] * y + m[11] * z + m[15];
+
+		if (cw == 0.0)
+			return false;
+
+		out[k] = vp[0] + vp[2] * (1.0 + cx / cw) * 0.5;
+		out[k + 1] = vp[1] + vp[3] * (1.0 + cy / cw) * 0.5;
+		out[k + 2] = (1.0 + cz / cw) * 0.5;
+
+		return true;
+	}
+
+	// Recompute the combined matrix and its inverse.
+	private void	update()
+	{
+		for (int c=0; c<4; c++)
+			for (int r=0; r<4; r++)
+				m[4 * c + r] = pr[r] * mv[4 * c] +
+							   pr[4 + r] * mv[4 * c + 1] +
+							   pr[8 + r] * mv[4 * c + 2] +
+							   pr[12 + r] * mv[4 * c + 3];
+
+		invertible = invert(m, inv);
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// Invert a 4 x 4 matrix by cofactors, as in the GLU reference code.
+	private static boolean	invert(double[] a, double[] b)
+	{
+		b[0] = a[5] * a[10] * a[15] - a[5] * a[11] * a[14] -
+			a[9] * a[6] * a[15] + a[9] * a[7] * a[14] +
+			a[13] * a[6] * a[11] - a[13] * a[7] * a[10];
+		b[4] = -a[4] * a[10] * a[15] + a[4] * a[11] * a[14] +
+			a[8] * a[6] * a[15] - a[8] * a[7] * a[14] -
+			a[12] * a[6] * a[11] + a[12] * a[7] * a[10];
+		b[8] = a[4] * a[9] * a[15] - a[4] * a[11] * a[13] -
+			a[8] * a[5] * a[15] + a[8] * a[7] * a[13] +
+			a[12] * a[5] * a[11] - a[12] * a[7] * a[9];
+		b[12] = -a[4] * a[9] * a[14] + a[4] * a[10] * a[13] +
+			a[8] * a[5] * a[14] - a[8] * a[6] * a[13] -
+			a[12] * a[5] * a[10] + a[12] * a[6] * a[9];
+		b[1] = -a[1] * a[10] * a[15] + a[1] * a[11] * a[14] +
+			a[9] * a[2] * a[15] - a[9] * a[3] * a[14] -
+			a[13] * a[2] * a[11] + a[13] * a[3] * a[10];
+		b[5] = a[0] * a[10] * a[15] - a[0] * a[11] * a[14] -
+			a[8] * a[2] * a[15] + a[8] * a[3] * a[14] +
+			a[12] * a[2] * a[11] - a[12] * a[3] * a[10];
+		b[9] = -a[0] * a[9] * a[15] + a[0] * a[11] * a[13] +
+			a[8] * a[1] * a[15] - a[8] * a[3] * a[13] -
+			a[12] * a[1] * a[11] + a[12] * a[3] * a[9];
+		b[13] = a[0] * a[9] * a[14] - a[0] * a[10] * a[13] -
+			a[8] * a[1] * a[14] + a[8] * a[2] * a[13] +
+			a[12] * a[1] * a[10] - a[12] * a[2] * a[9];
+		b[2] = a[1] * a[6] * a[15] - a[1] * a[7] * a[14] -
+			a[5] * a[2] * a[15] + a[5] * a[3] * a[14] +
+			a[13] * a[2] * a[7] - a[13] * a[3] * a[6];
+		b[6] = -a[0] * a[6] * a[15] + a[0] * a[7] * a[14] +
+			a[4] * a[2] * a[15] - a[4] * a[3] * a[14] -
+			a[12] * a[2] * a[7] + a[12] * a[3] * a[6];
+		b[10] = a[0] * a[5] * a[15] - a[0] * a[7] * a[13] -
+			a[4] * a[1] * a[15] + a[4] * a[3] * a[13] +
+			a[12] * a[1] * a[7] - a[12] * a[3] * a[5];
+		b[14] = -a[0] * a[5] * a[14] + a[0] * a[6] * a[13] +
+			a[4] * a[1] * a[14] - a[4] * a[2] * a[13] -
+			a[12] * a[1] * a[6] + a[12] * a[2] * a[5];
+		b[3] = -a[1] * a[6] * a[11] + a[1] * a[7] * a[10] +
+			a[5] * a[2] * a[11] - a[5] * a[3] * a[10] -
+			a[9] * a[2] * a[7] + a[9] * a[3] * a[6];
+		b[7] = a[0] * a[6] * a[11] - a[0] * a[7] * a[10] -
+			a[4] * a[2] * a[11] + a[4] * a[3] * a[10] +
+			a[8] * a[2] * a[7] - a[8] * a[3] * a[6];
+		b[11] = -a[0] * a[5] * a[11] + a[0] * a[7] * a[9] +
+			a[4] * a[1] * a[11] - a[4] * a[3] * a[9] -
+			a[8] * a[1] * a[7] + a[8] * a[3] * a[5];
+		b[15] = a[0] * a[5] * a[10] - a[0] * a[6] * a[9] -
+			a[4] * a[1] * a[10] + a[4] * a[2] * a[9] +
+			a[8] * a[1] * a[6] - a[8] * a[2] * a[5];
+
+		double	det = a[0] * b[0] + a[1] * b[4] + a[2] * b[8] + a[3] * b[12];
+
+		if (det == 0.0)
+			return false;
+
+		double	s = 1.0 / det;
+
+		for (int i=0; i<16; i++)
+			b[i] *= s;
+
+		return true;
+	}
+}
+
+//******************************************************************************